@@ -0,0 +1,28 @@
+-- Ranking snapshot tables (RankingSnapshotVersion, RankingSnapshot).
+-- Apply before deploying a build that contains them: the app runs with ddl-auto=validate.
+
+CREATE TABLE IF NOT EXISTS ranking_snapshot_versions (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    user_count   BIGINT      NOT NULL,
+    created_at   DATETIME(6) NOT NULL,
+    published_at DATETIME(6) NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS ranking_snapshots (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    snapshot_version BIGINT       NOT NULL,
+    user_id          BIGINT       NOT NULL,
+    node_id          VARCHAR(255) NOT NULL,
+    username         VARCHAR(255) NOT NULL,
+    profile_image    VARCHAR(255) NULL,
+    total_score      INT          NOT NULL,
+    ranking          INT          NOT NULL,
+    percentile       DOUBLE       NOT NULL,
+    tier             ENUM ('CHALLENGER','MASTER','DIAMOND','EMERALD','PLATINUM','GOLD','SILVER','BRONZE','IRON') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_snapshot_user UNIQUE (snapshot_version, user_id),
+    INDEX idx_snapshot_score (snapshot_version, total_score DESC, user_id),
+    INDEX idx_snapshot_tier_score (snapshot_version, tier, total_score DESC, user_id),
+    INDEX idx_snapshot_node (snapshot_version, node_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,16 @@
+-- Per-year contribution totals (UserYearContribution).
+-- Apply before deploying a build that contains them: the app runs with ddl-auto=validate.
+
+CREATE TABLE IF NOT EXISTS user_year_contributions (
+    id                BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id           BIGINT      NOT NULL,
+    contribution_year INT         NOT NULL,
+    commit_count      INT         NOT NULL,
+    issue_count       INT         NOT NULL,
+    pr_count          INT         NOT NULL,
+    review_count      INT         NOT NULL,
+    fetched_at        DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_year_contribution UNIQUE (user_id, contribution_year),
+    CONSTRAINT fk_user_year_contribution_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,102 @@
+package com.gitranker.api.domain.badge;
+
+import com.gitranker.api.domain.log.ActivityLog;
+import com.gitranker.api.domain.user.Tier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기본 카드 배지를 컴파일된 템플릿({@link CompiledSvgTemplate})으로 렌더링할 때와
+ * 이전처럼 매 요청 String.format으로 렌더링할 때의 비용을 비교합니다.
+ * 두 방식은 같은 템플릿을 쓰며, 준비 단계에서 결과가 같은지 먼저 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SvgBadgeRenderBenchmark {
+
+    private static final String USERNAME = "benchmark-user";
+    private static final int TOTAL_SCORE = 12_345;
+    private static final double PERCENTILE = 3.456;
+    private static final int RANKING = 1_234;
+
+    @Param({"GOLD", "CHALLENGER"})
+    private Tier tier;
+
+    private final TierGradientProvider gradientProvider = new TierGradientProvider();
+    private final BadgeFormatter formatter = new BadgeFormatter();
+    private final SvgBadgeRenderer renderer = new SvgBadgeRenderer(gradientProvider, formatter);
+    private final ActivityLog activityLog = ActivityLog.builder()
+            .commitCount(1500).diffCommitCount(12)
+            .issueCount(10).diffIssueCount(-3)
+            .prCount(30).diffPrCount(0)
+            .mergedPrCount(25).diffMergedPrCount(5)
+            .reviewCount(1045).diffReviewCount(0)
+            .build();
+
+    private String svgTemplate;
+    private String fontImportCss;
+    private String githubLogoPath;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        svgTemplate = constant("SVG_TEMPLATE");
+        fontImportCss = constant("FONT_IMPORT_CSS");
+        githubLogoPath = constant("GITHUB_LOGO_PATH");
+
+        if (!compiledTemplate().equals(stringFormat())) {
+            throw new IllegalStateException("컴파일된 템플릿과 String.format 렌더링 결과가 다릅니다. tier=" + tier);
+        }
+    }
+
+    @Benchmark
+    public String compiledTemplate() {
+        return renderer.render(BadgeVariant.DEFAULT, USERNAME, TOTAL_SCORE, PERCENTILE, RANKING, tier, activityLog);
+    }
+
+    /**
+     * 템플릿 컴파일 이전의 렌더링 방식. 티어 에셋도 요청마다 계산합니다.
+     */
+    @Benchmark
+    public String stringFormat() {
+        String displayTierName = formatter.formatTierName(tier.name());
+
+        return String.format(svgTemplate,
+                gradientProvider.getGradientDefs(tier),
+                fontImportCss,
+                formatter.calculateTierFontSize(displayTierName),
+                githubLogoPath,
+                USERNAME,
+                displayTierName,
+                formatter.formatNumber(TOTAL_SCORE),
+                PERCENTILE,
+                formatter.formatNumber(RANKING),
+                formatter.formatCount(activityLog.getCommitCount()), formatter.formatDiff(activityLog.getDiffCommitCount()),
+                formatter.formatCount(activityLog.getIssueCount()), formatter.formatDiff(activityLog.getDiffIssueCount()),
+                formatter.formatCount(activityLog.getPrCount()), formatter.formatDiff(activityLog.getDiffPrCount()),
+                formatter.formatCount(activityLog.getMergedPrCount()), formatter.formatDiff(activityLog.getDiffMergedPrCount()),
+                formatter.formatCount(activityLog.getReviewCount()), formatter.formatDiff(activityLog.getDiffReviewCount()));
+    }
+
+    private static String constant(String name) throws ReflectiveOperationException {
+        Field field = SvgBadgeRenderer.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return (String) field.get(null);
+    }
+}
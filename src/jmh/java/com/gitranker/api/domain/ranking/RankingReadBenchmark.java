@@ -0,0 +1,196 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.domain.ranking.dto.RankingList;
+import com.gitranker.api.domain.user.Role;
+import com.gitranker.api.domain.user.User;
+import com.gitranker.api.domain.user.UserRepository;
+import com.gitranker.api.domain.user.vo.Score;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 리더보드 한 페이지를 엔티티로 읽을 때와 표시 컬럼만 JDBC로 읽을 때의 비용을 비교합니다.
+ * 스냅샷과 users 직접 조회를 각각 페이지 크기 20/100으로 측정하며, 조회는 모두 읽기 전용 트랜잭션에서 합니다.
+ * Testcontainers MySQL을 사용하므로 Docker가 필요합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dapi.version=1.44")
+public class RankingReadBenchmark {
+
+    private static final int USER_COUNT = 10_000;
+    private static final long VERSION = 1L;
+    private static final int PAGE = 5;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private MySQLContainer<?> mysql;
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+    private UserRepository userRepository;
+    private RankingSnapshotRepository rankingSnapshotRepository;
+    private RankingReadRepository rankingReadRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mysql = new MySQLContainer<>("mysql:8.0").withDatabaseName("gitranker_bench");
+        mysql.start();
+
+        context = new SpringApplicationBuilder(BenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + mysql.getJdbcUrl(),
+                        "spring.datasource.username=" + mysql.getUsername(),
+                        "spring.datasource.password=" + mysql.getPassword(),
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.open-in-view=false")
+                .run();
+
+        userRepository = context.getBean(UserRepository.class);
+        rankingSnapshotRepository = context.getBean(RankingSnapshotRepository.class);
+        rankingReadRepository = context.getBean(RankingReadRepository.class);
+
+        TransactionTemplate transaction = context.getBean(TransactionTemplate.class);
+        transaction.executeWithoutResult(status -> {
+            userRepository.saveAll(IntStream.range(0, USER_COUNT).mapToObj(this::createUser).toList());
+            userRepository.flush();
+            userRepository.bulkUpdateRanking();
+            rankingSnapshotRepository.insertFromUsers(VERSION);
+        });
+
+        readOnly = new TransactionTemplate(transaction.getTransactionManager());
+        readOnly.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public RankingList snapshotEntity() {
+        PageRequest pageable = PageRequest.of(PAGE, pageSize);
+
+        return readOnly.execute(status -> RankingList.from(rankingSnapshotRepository
+                .findBySnapshotVersionOrderByTotalScoreDescUserIdAsc(VERSION, pageable)
+                .map(RankingList.UserInfo::from)));
+    }
+
+    @Benchmark
+    public RankingList snapshotProjection() {
+        PageRequest pageable = PageRequest.of(PAGE, pageSize);
+
+        return readOnly.execute(status -> {
+            List<RankingList.UserInfo> content = userInfo(
+                    rankingReadRepository.findSnapshotPage(VERSION, null, pageable.getOffset(), pageSize));
+
+            return RankingList.from(PageableExecutionUtils.getPage(content, pageable,
+                    () -> rankingReadRepository.countSnapshot(VERSION, null)));
+        });
+    }
+
+    @Benchmark
+    public RankingList liveEntity() {
+        PageRequest pageable = PageRequest.of(PAGE, pageSize);
+
+        return readOnly.execute(status -> {
+            Page<User> userPage = userRepository.findAllByOrderByScoreValueDesc(pageable);
+            List<RankingList.UserInfo> content = userPage.getContent().stream()
+                    .map(user -> RankingList.UserInfo.from(user, user.getRanking()))
+                    .toList();
+
+            return RankingList.from(new PageImpl<>(content, pageable, userPage.getTotalElements()));
+        });
+    }
+
+    @Benchmark
+    public RankingList liveProjection() {
+        PageRequest pageable = PageRequest.of(PAGE, pageSize);
+
+        return readOnly.execute(status -> {
+            List<RankingList.UserInfo> content = userInfo(
+                    rankingReadRepository.findLivePage(null, pageable.getOffset(), pageSize));
+
+            return RankingList.from(PageableExecutionUtils.getPage(content, pageable,
+                    () -> rankingReadRepository.countLive(null)));
+        });
+    }
+
+    private List<RankingList.UserInfo> userInfo(List<RankingReadRepository.RankedUser> rows) {
+        return rows.stream()
+                .map(RankingReadRepository.RankedUser::userInfo)
+                .toList();
+    }
+
+    private User createUser(int i) {
+        User user = User.builder()
+                .githubId((long) i + 1)
+                .nodeId("node-" + i)
+                .username("user" + i)
+                .profileImage("https://avatars.githubusercontent.com/u/" + i)
+                .githubCreatedAt(LocalDateTime.of(2020, 1, 1, 0, 0))
+                .role(Role.USER)
+                .build();
+        user.updateScore(Score.of((i * 7919) % 4000));
+
+        return user;
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            JdbcTemplateAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = {User.class, RankingSnapshot.class})
+    @EnableJpaRepositories(
+            basePackageClasses = {User.class, RankingSnapshot.class},
+            includeFilters = @ComponentScan.Filter(
+                    type = FilterType.ASSIGNABLE_TYPE,
+                    classes = {UserRepository.class, RankingSnapshotRepository.class}))
+    @Import(RankingReadRepository.class)
+    static class BenchmarkConfig {
+    }
+}
@@ -0,0 +1,76 @@
+package com.gitranker.api.infrastructure.github.token;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 배치 처리처럼 여러 스레드가 토큰을 받고 응답마다 상태를 갱신할 때의 경합을 측정합니다.
+ * 한 번의 연산은 getToken 후 updateTokenState 한 번입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GitHubTokenPoolBenchmark {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Param({"1", "8", "32"})
+    private int tokenCount;
+
+    private GitHubTokenPool pool;
+    private LocalDateTime resetAt;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String tokens = IntStream.range(0, tokenCount)
+                .mapToObj(i -> "ghp_token" + i)
+                .collect(Collectors.joining(","));
+        pool = new GitHubTokenPool(tokens, 10, ZONE);
+        resetAt = LocalDateTime.now(ZONE).plusHours(1);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String threads1() {
+        return acquireAndUpdate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String threads8() {
+        return acquireAndUpdate();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String threads64() {
+        return acquireAndUpdate();
+    }
+
+    private String acquireAndUpdate() {
+        String token = pool.getToken();
+        pool.updateTokenState(token, ThreadLocalRandom.current().nextInt(1000, 5000), resetAt);
+        return token;
+    }
+}
@@ -5,6 +5,9 @@ import com.gitranker.api.batch.listener.GitHubCostListener;
 import com.gitranker.api.batch.listener.UserScoreCalculationSkipListener;
 import com.gitranker.api.batch.processor.ScoreRecalculationProcessor;
 import com.gitranker.api.batch.reader.UserItemReader;
+import com.gitranker.api.batch.strategy.CurrentYearActivityPrefetcher;
+import com.gitranker.api.batch.tasklet.BadgePrerenderTasklet;
+import com.gitranker.api.batch.tasklet.ProfileSyncTasklet;
 import com.gitranker.api.batch.tasklet.RankingRecalculationTasklet;
 import com.gitranker.api.batch.writer.UserItemWriter;
 import com.gitranker.api.domain.user.User;
@@ -17,6 +20,7 @@ import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,17 +40,29 @@ public class DailyScoreRecalculationJobConfig {
     private final UserItemReader userItemReader;
     private final ScoreRecalculationProcessor scoreRecalculationProcessor;
     private final RankingRecalculationTasklet rankingRecalculationTasklet;
+    private final BadgePrerenderTasklet badgePrerenderTasklet;
+    private final ProfileSyncTasklet profileSyncTasklet;
     private final UserScoreCalculationSkipListener userScoreCalculationSkipListener;
     private final UserItemWriter userItemWriter;
     private final GitHubCostListener gitHubCostListener;
     private final BatchProgressListener batchProgressListener;
+    private final CurrentYearActivityPrefetcher currentYearActivityPrefetcher;
 
     @Bean
     public Job dailyScoreRecalculationJob() {
         return new JobBuilder("dailyScoreRecalculationJob", jobRepository)
                 .listener(gitHubCostListener)
-                .start(scoreRecalculationStep())
+                .start(profileSyncStep())
+                .next(scoreRecalculationStep())
                 .next(rankingRecalculationStep())
+                .next(badgePrerenderStep())
+                .build();
+    }
+
+    @Bean
+    public Step profileSyncStep() {
+        return new StepBuilder("profileSyncStep", jobRepository)
+                .tasklet(profileSyncTasklet, transactionManager)
                 .build();
     }
 
@@ -66,6 +82,7 @@ public class DailyScoreRecalculationJobConfig {
                 .skipLimit(100)
                 .listener(userScoreCalculationSkipListener)
                 .listener(batchProgressListener)
+                .listener(currentYearActivityPrefetcher)
                 .build();
     }
 
@@ -75,4 +92,14 @@ public class DailyScoreRecalculationJobConfig {
                 .tasklet(rankingRecalculationTasklet, transactionManager)
                 .build();
     }
+
+    /**
+     * DB는 읽기만 하므로 단계 트랜잭션을 두지 않습니다. 조회 실패가 단계 트랜잭션을 롤백 전용으로 만들지 않게 합니다.
+     */
+    @Bean
+    public Step badgePrerenderStep() {
+        return new StepBuilder("badgePrerenderStep", jobRepository)
+                .tasklet(badgePrerenderTasklet, new ResourcelessTransactionManager())
+                .build();
+    }
 }
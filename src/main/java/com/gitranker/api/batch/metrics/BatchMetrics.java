@@ -1,11 +1,13 @@
 package com.gitranker.api.batch.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 public class BatchMetrics {
@@ -16,6 +18,9 @@ public class BatchMetrics {
     private final Counter itemsSkipped;
     private final Timer successDuration;
     private final Timer failureDuration;
+    private final Timer rankingChunkDuration;
+    private final Counter rankingRowsApplied;
+    private final AtomicLong rankingApplyProgress = new AtomicLong(0);
 
     public BatchMetrics(MeterRegistry registry) {
         jobsCompleted = Counter.builder("batch_jobs_completed_total")
@@ -45,6 +50,19 @@ public class BatchMetrics {
                 .description("Batch job execution duration")
                 .publishPercentiles(0.5, 0.95, 0.99)
                 .register(registry);
+
+        rankingChunkDuration = Timer.builder("batch_ranking_chunk_duration")
+                .description("Chunked ranking apply duration per id range")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+
+        rankingRowsApplied = Counter.builder("batch_ranking_rows_applied_total")
+                .description("Total user rows updated by chunked ranking apply")
+                .register(registry);
+
+        Gauge.builder("batch_ranking_apply_progress_percent", rankingApplyProgress, AtomicLong::get)
+                .description("Chunked ranking apply progress of the current run")
+                .register(registry);
     }
 
     public void recordJobCompleted(long durationMs) {
@@ -64,4 +82,13 @@ public class BatchMetrics {
     public void recordItemsSkipped(long count) {
         itemsSkipped.increment(count);
     }
+
+    public void recordRankingChunk(long durationMs, int appliedRows) {
+        rankingChunkDuration.record(Duration.ofMillis(durationMs));
+        rankingRowsApplied.increment(appliedRows);
+    }
+
+    public void recordRankingProgress(int percent) {
+        rankingApplyProgress.set(percent);
+    }
 }
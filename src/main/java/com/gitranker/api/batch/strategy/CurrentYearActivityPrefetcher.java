@@ -0,0 +1,72 @@
+package com.gitranker.api.batch.strategy;
+
+import com.gitranker.api.domain.user.User;
+import com.gitranker.api.infrastructure.github.GitHubActivityService;
+import com.gitranker.api.infrastructure.github.dto.GitHubActivitySummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 청크 단위로 올해 활동을 미리 조회합니다.
+ * 청크를 읽는 동안 사용자 이름을 모아 두었다가, 첫 처리 시점에 별칭 쿼리로 users-per-query명씩 묶어 조회합니다.
+ * 미리 조회한 값은 한 번만 꺼내 쓰며, 조회에 실패했거나 재시도로 이미 소비된 사용자는 기존 개별 조회로 처리됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CurrentYearActivityPrefetcher implements ItemReadListener<User> {
+
+    private final GitHubActivityService activityService;
+
+    @Value("${batch.activity-prefetch.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${batch.activity-prefetch.users-per-query:20}")
+    private int usersPerQuery = 20;
+
+    private final List<String> pendingUsernames = new ArrayList<>();
+    private final Map<String, GitHubActivitySummary> prefetched = new HashMap<>();
+    private int prefetchedYear;
+
+    @Override
+    public synchronized void afterRead(User user) {
+        if (enabled) {
+            pendingUsernames.add(user.getUsername());
+        }
+    }
+
+    public synchronized Optional<GitHubActivitySummary> take(String username, int year) {
+        if (!pendingUsernames.isEmpty()) {
+            prefetch(year);
+        }
+        if (prefetchedYear != year) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(prefetched.remove(username));
+    }
+
+    private void prefetch(int year) {
+        List<String> usernames = List.copyOf(pendingUsernames);
+        pendingUsernames.clear();
+        prefetched.clear();
+        prefetchedYear = year;
+
+        for (int from = 0; from < usernames.size(); from += usersPerQuery) {
+            List<String> group = usernames.subList(from, Math.min(from + usersPerQuery, usernames.size()));
+            try {
+                prefetched.putAll(activityService.fetchActivitiesForYear(group, year));
+            } catch (RuntimeException e) {
+                log.warn("다중 사용자 활동 조회 실패, 개별 조회로 대체 - 사용자 수: {}, 원인: {}", group.size(), e.getMessage());
+            }
+        }
+    }
+}
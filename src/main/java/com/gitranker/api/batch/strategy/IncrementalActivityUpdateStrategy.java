@@ -18,11 +18,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class IncrementalActivityUpdateStrategy implements ActivityUpdateStrategy {
 
     private final GitHubActivityService activityService;
+    private final CurrentYearActivityPrefetcher prefetcher;
 
     @Override
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ActivityStatistics update(User user, ActivityUpdateContext context) {
-        GitHubActivitySummary currentYearSummary = activityService.fetchActivityForYear(user.getUsername(), context.currentYear());
+        GitHubActivitySummary currentYearSummary = prefetcher.take(user.getUsername(), context.currentYear())
+                .orElseGet(() -> activityService.fetchActivityForYear(user.getUsername(), context.currentYear()));
 
         ActivityStatistics mergedStats = mergeWithBaseline(context.baselineLog(), currentYearSummary);
 
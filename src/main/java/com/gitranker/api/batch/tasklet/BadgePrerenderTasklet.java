@@ -0,0 +1,59 @@
+package com.gitranker.api.batch.tasklet;
+
+import com.gitranker.api.domain.badge.BadgePrerenderer;
+import com.gitranker.api.domain.ranking.RankingSnapshotVersion;
+import com.gitranker.api.domain.ranking.RankingSnapshotVersionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 랭킹 재산정 후 가장 최근에 공개된 스냅샷 버전의 배지를 모두 렌더링해 배지 파일로 씁니다.
+ * 웹 인스턴스는 각자 파일을 찾아 매핑하므로 이 단계는 현재 버전 전환을 기다리지 않습니다.
+ * 사전 렌더링은 최적화이므로 실패해도 Job을 실패시키지 않습니다.
+ * 모든 사용자 x 모든 변형을 디스크에 쓰므로 기본으로 꺼져 있으며, 디스크 용량을 확인한 뒤 batch.badge-prerender.enabled로 켭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BadgePrerenderTasklet implements Tasklet {
+
+    private final RankingSnapshotVersionRepository rankingSnapshotVersionRepository;
+    private final BadgePrerenderer badgePrerenderer;
+
+    @Value("${batch.badge-prerender.enabled:false}")
+    private boolean enabled = false;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        if (!enabled) {
+            return RepeatStatus.FINISHED;
+        }
+
+        try {
+            Optional<RankingSnapshotVersion> latest = rankingSnapshotVersionRepository.findTopByPublishedAtIsNotNullOrderByIdDesc();
+            if (latest.isEmpty()) {
+                return RepeatStatus.FINISHED;
+            }
+
+            long version = latest.get().getId();
+            long start = System.currentTimeMillis();
+            int rendered = badgePrerenderer.prerender(version);
+            contribution.incrementWriteCount(rendered);
+
+            log.info("배지 사전 렌더링 완료 - Version: {}, Count: {}, Latency: {}ms",
+                    version, rendered, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.warn("배지 사전 렌더링 실패 - 요청 시 렌더링으로 대체합니다", e);
+        }
+
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -0,0 +1,117 @@
+package com.gitranker.api.batch.tasklet;
+
+import com.gitranker.api.domain.user.User;
+import com.gitranker.api.domain.user.UserRepository;
+import com.gitranker.api.domain.user.service.UserPersistenceService;
+import com.gitranker.api.global.logging.LogSanitizer;
+import com.gitranker.api.infrastructure.github.GitHubActivityService;
+import com.gitranker.api.infrastructure.github.dto.GitHubNodeUserResponse.Node;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 점수 재계산 전에 사용자 프로필(login, 아바타, 이메일)을 nodes(ids:) 조회로 일괄 동기화합니다.
+ * id 순서로 100명씩 읽어 요청 한 번으로 조회하고, 바뀐 사용자만 갱신합니다. 구간마다 트랜잭션을 커밋하며,
+ * 진행 위치는 StepExecution의 ExecutionContext에 저장됩니다.
+ * 사용자별 갱신은 별도 트랜잭션으로 실행해, 한 명의 갱신 실패는 그 사용자만 건너뛰고 구간 트랜잭션은 그대로 커밋합니다.
+ * 이름 변경을 미리 반영해 점수 재계산 단계의 GITHUB_USER_NOT_FOUND 후 개별 조회를 줄이는 최적화이므로, 실패해도 Job을 실패시키지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileSyncTasklet implements Tasklet {
+
+    static final String LAST_ID_KEY = "profile.sync.lastId";
+    static final int NODES_PER_QUERY = 100;
+
+    private final UserRepository userRepository;
+    private final UserPersistenceService userPersistenceService;
+    private final GitHubActivityService gitHubActivityService;
+
+    @Value("${batch.profile-sync.enabled:true}")
+    private boolean enabled = true;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        if (!enabled) {
+            return RepeatStatus.FINISHED;
+        }
+
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        long lastId = executionContext.getLong(LAST_ID_KEY, 0L);
+
+        try {
+            List<User> users = userRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(NODES_PER_QUERY));
+            if (users.isEmpty()) {
+                return RepeatStatus.FINISHED;
+            }
+
+            Map<String, Node> profiles = gitHubActivityService.fetchUsersByNodeIds(
+                    users.stream().map(User::getNodeId).toList());
+
+            int updated = 0;
+            for (User user : users) {
+                Node profile = profiles.get(user.getNodeId());
+                if (profile == null) {
+                    continue;
+                }
+                try {
+                    if (syncProfile(user, profile)) {
+                        updated++;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("프로필 동기화 건너뜀 - username: {}, nodeId: {}",
+                            LogSanitizer.maskUsername(user.getUsername()), user.getNodeId(), e);
+                }
+            }
+
+            executionContext.putLong(LAST_ID_KEY, users.get(users.size() - 1).getId());
+            contribution.incrementWriteCount(updated);
+
+            log.debug("프로필 동기화 구간 완료 - 조회: {}명, 갱신: {}명", users.size(), updated);
+
+            return users.size() < NODES_PER_QUERY ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+        } catch (RuntimeException e) {
+            log.warn("프로필 동기화 실패 - 점수 재계산 단계의 개별 조회로 대체합니다. lastId: {}", lastId, e);
+            return RepeatStatus.FINISHED;
+        }
+    }
+
+    /**
+     * 바뀐 값이 있을 때만 갱신합니다. 새 login을 다른 사용자가 아직 쓰고 있으면 유니크 제약을 피하기 위해 login만 다음 실행으로 미룹니다.
+     * 공개 이메일이 없으면 GitHub는 빈 문자열을 주므로, 로그인 시 받은 이메일을 지우지 않도록 무시합니다.
+     */
+    private boolean syncProfile(User user, Node profile) {
+        String newUsername = profile.login();
+        if (!newUsername.equals(user.getUsername()) && userRepository.existsByUsername(newUsername)) {
+            newUsername = user.getUsername();
+        }
+
+        boolean usernameChanged = !newUsername.equals(user.getUsername());
+        boolean avatarChanged = profile.avatarUrl() != null && !profile.avatarUrl().equals(user.getProfileImage());
+        String newEmail = profile.email() == null || profile.email().isBlank() ? null : profile.email();
+        boolean emailChanged = newEmail != null && !newEmail.equals(user.getEmail());
+        if (!usernameChanged && !avatarChanged && !emailChanged) {
+            return false;
+        }
+
+        if (usernameChanged) {
+            log.info("사용자 프로필 변경 감지 - 기존 username: {}, 신규 username: {}, nodeId: {}",
+                    LogSanitizer.maskUsername(user.getUsername()), LogSanitizer.maskUsername(newUsername), user.getNodeId());
+        }
+        userPersistenceService.updateProfileInNewTransaction(user, newUsername, profile.avatarUrl(), newEmail);
+
+        return true;
+    }
+}
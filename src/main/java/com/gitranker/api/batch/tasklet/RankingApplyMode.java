@@ -0,0 +1,10 @@
+package com.gitranker.api.batch.tasklet;
+
+/**
+ * 배치 랭킹 단계에서 계산된 순위를 users 테이블에 반영하는 방식.
+ * BULK는 단일 UPDATE 문으로 전체를 갱신하고, CHUNKED는 스냅샷에 계산된 순위를 id 구간별로 나누어 커밋합니다.
+ */
+public enum RankingApplyMode {
+    BULK,
+    CHUNKED
+}
@@ -1,5 +1,8 @@
 package com.gitranker.api.batch.tasklet;
 
+import com.gitranker.api.batch.metrics.BatchMetrics;
+import com.gitranker.api.domain.ranking.RankingJdbcRepository;
+import com.gitranker.api.domain.ranking.RankingSnapshotWriter;
 import com.gitranker.api.domain.user.UserRepository;
 import com.gitranker.api.global.error.ErrorType;
 import com.gitranker.api.global.error.exception.BusinessException;
@@ -8,29 +11,102 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * 새 랭킹 스냅샷을 만든 뒤 users 테이블에 순위를 반영하고 스냅샷을 공개합니다.
+ * CHUNKED 모드에서는 스냅샷에 한 번 계산된 순위를 id 구간 단위로 반영하며, 구간마다 트랜잭션을 커밋합니다.
+ * 진행 위치는 StepExecution의 ExecutionContext에 저장되므로 재시작 시 마지막 구간부터 이어집니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RankingRecalculationTasklet implements Tasklet {
 
+    static final String SNAPSHOT_VERSION_KEY = "ranking.apply.snapshotVersion";
+    static final String LAST_ID_KEY = "ranking.apply.lastId";
+    static final String MAX_ID_KEY = "ranking.apply.maxId";
+
     private final UserRepository userRepository;
+    private final RankingSnapshotWriter rankingSnapshotWriter;
+    private final RankingJdbcRepository rankingJdbcRepository;
+    private final BatchMetrics batchMetrics;
+
+    @Value("${batch.ranking.apply-mode:CHUNKED}")
+    private RankingApplyMode applyMode = RankingApplyMode.CHUNKED;
+
+    @Value("${batch.ranking.apply-chunk-size:1000}")
+    private int applyChunkSize = 1000;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
         try {
+            if (applyMode == RankingApplyMode.BULK) {
+                return applyInBulk();
+            }
+
+            ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+            return applyNextChunk(executionContext, contribution);
+        } catch (Exception e) {
+            throw new BusinessException(ErrorType.BATCH_STEP_FAILED, "랭킹 재산정 실패");
+        }
+    }
+
+    private RepeatStatus applyInBulk() {
+        long start = System.currentTimeMillis();
+        // 새 스냅샷을 먼저 만든 뒤 공개하므로 랭킹 조회는 갱신 중인 users 행을 보지 않습니다.
+        long snapshotVersion = rankingSnapshotWriter.createSnapshot();
+        userRepository.bulkUpdateRanking();
+        rankingSnapshotWriter.publish(snapshotVersion);
+        long latency = System.currentTimeMillis() - start;
+
+        log.debug("랭킹 벌크 업데이트 완료 - Latency: {}ms", latency);
+
+        return RepeatStatus.FINISHED;
+    }
+
+    private RepeatStatus applyNextChunk(ExecutionContext executionContext, StepContribution contribution) {
+        if (!executionContext.containsKey(SNAPSHOT_VERSION_KEY)) {
+            // 첫 호출은 스냅샷 생성만 커밋하고, 이후 호출마다 id 구간 하나씩 반영합니다.
+            executionContext.putLong(SNAPSHOT_VERSION_KEY, rankingSnapshotWriter.createSnapshot());
+            executionContext.putLong(LAST_ID_KEY, 0L);
+            executionContext.putLong(MAX_ID_KEY, rankingJdbcRepository.findMaxUserId());
+            batchMetrics.recordRankingProgress(0);
+
+            return RepeatStatus.CONTINUABLE;
+        }
+
+        long snapshotVersion = executionContext.getLong(SNAPSHOT_VERSION_KEY);
+        long lastId = executionContext.getLong(LAST_ID_KEY);
+        long maxId = executionContext.getLong(MAX_ID_KEY);
+
+        if (lastId < maxId) {
+            long toId = Math.min(lastId + applyChunkSize, maxId);
+
             long start = System.currentTimeMillis();
-            userRepository.bulkUpdateRanking();
+            int appliedRows = rankingJdbcRepository.applySnapshotRange(snapshotVersion, lastId, toId);
             long latency = System.currentTimeMillis() - start;
 
-            log.debug("랭킹 벌크 업데이트 완료 - Latency: {}ms", latency);
+            executionContext.putLong(LAST_ID_KEY, toId);
+            contribution.incrementWriteCount(appliedRows);
+            batchMetrics.recordRankingChunk(latency, appliedRows);
+            batchMetrics.recordRankingProgress((int) (toId * 100 / maxId));
 
-        } catch (Exception e) {
-            throw new BusinessException(ErrorType.BATCH_STEP_FAILED, "랭킹 재산정 실패");
+            log.debug("랭킹 구간 반영 - 구간: ({}, {}], 갱신: {}건, Latency: {}ms", lastId, toId, appliedRows, latency);
+
+            if (toId < maxId) {
+                return RepeatStatus.CONTINUABLE;
+            }
         }
 
+        rankingSnapshotWriter.publish(snapshotVersion);
+        batchMetrics.recordRankingProgress(100);
+
+        log.debug("랭킹 구간 반영 완료 - Version: {}", snapshotVersion);
+
         return RepeatStatus.FINISHED;
     }
 }
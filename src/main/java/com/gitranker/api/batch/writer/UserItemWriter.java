@@ -1,5 +1,7 @@
 package com.gitranker.api.batch.writer;
 
+import com.gitranker.api.domain.badge.BadgeCache;
+import com.gitranker.api.domain.ranking.RankingIndexService;
 import com.gitranker.api.domain.user.User;
 import com.gitranker.api.domain.user.UserRepository;
 import com.gitranker.api.global.error.exception.BusinessException;
@@ -16,11 +18,15 @@ import org.springframework.stereotype.Component;
 public class UserItemWriter implements ItemWriter<User> {
 
     private final UserRepository userRepository;
+    private final RankingIndexService rankingIndexService;
+    private final BadgeCache badgeCache;
 
     @Override
     public void write(Chunk<? extends User> chunk) throws Exception {
         try {
             userRepository.saveAll(chunk.getItems());
+            chunk.getItems().forEach(user -> rankingIndexService.onScoreChanged(user.getId(), user.getTotalScore(), user.getTier()));
+            badgeCache.evictAll(chunk.getItems().stream().map(User::getNodeId).toList());
 
             log.debug("배치 Chunk 저장 완료 - Size: {}", chunk.getItems().size());
 
@@ -0,0 +1,149 @@
+package com.gitranker.api.domain.badge;
+
+import com.gitranker.api.domain.ranking.RankingSnapshotActivatingEvent;
+import com.gitranker.api.domain.ranking.RankingSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 렌더링된 배지를 nodeId 기준으로 보관합니다. 한 항목 안에 배지 변형({@link BadgeVariant})별 결과를 따로 담으므로,
+ * nodeId 단위 제거만으로 모든 변형이 함께 무효화됩니다.
+ * 항목의 유효성은 사용자 단위로 관리합니다. 사용자 데이터가 바뀌는 경로(배치 저장, 갱신, 프로필 변경, 탈퇴)에서는
+ * 해당 nodeId 항목을 제거하고, 새 스냅샷으로 전환할 때는 배지에 표시되는 순위 값이 바뀐 사용자만 제거합니다.
+ * SVG는 UTF-8 바이트와 gzip 압축본으로 한 번만 만들어 두고, 응답마다 인코딩하거나 압축하지 않습니다.
+ * 캐시에 없으면 일일 배치가 미리 렌더링한 배지 파일({@link BadgeFileStore})을 확인하며, 제거할 때는 파일의 항목도 함께 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BadgeCache {
+
+    static final String BADGES_CACHE = "badges";
+
+    private final CacheManager cacheManager;
+    private final BadgeReadRepository badgeReadRepository;
+    private final BadgeFileStore badgeFileStore;
+
+    private volatile long activeVersion = RankingSnapshotService.NO_SNAPSHOT;
+
+    public Optional<RenderedBadge> find(String nodeId, BadgeVariant variant) {
+        Cache cache = cacheManager.getCache(BADGES_CACHE);
+        Optional<RenderedBadge> cached = Optional.ofNullable(cache)
+                .map(c -> c.get(nodeId, RenderedBadges.class))
+                .map(badges -> badges.get(variant));
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        return badgeFileStore.find(nodeId, variant, activeVersion);
+    }
+
+    /**
+     * 같은 nodeId의 다른 변형은 유지합니다. 전환 중인 스냅샷보다 이전 버전으로 렌더링된 배지는 저장하지 않습니다.
+     * 동시에 두 변형을 저장하면 한쪽이 빠질 수 있지만, 다음 요청에서 다시 렌더링될 뿐입니다.
+     */
+    public void put(String nodeId, BadgeVariant variant, RenderedBadge badge) {
+        Cache cache = cacheManager.getCache(BADGES_CACHE);
+        if (cache == null || badge.snapshotVersion() < activeVersion) {
+            return;
+        }
+
+        RenderedBadges current = cache.get(nodeId, RenderedBadges.class);
+        cache.put(nodeId, RenderedBadges.with(current, variant, badge));
+
+        // 저장하는 사이 전환이 시작됐다면 변경 여부를 알 수 없으므로 버립니다.
+        if (badge.snapshotVersion() < activeVersion) {
+            cache.evict(nodeId);
+        }
+    }
+
+    /**
+     * 사용자 데이터가 바뀐 경로에서 호출합니다. 캐시 항목과 배지 파일의 항목을 함께 무효화합니다.
+     */
+    public void evict(String nodeId) {
+        Cache cache = cacheManager.getCache(BADGES_CACHE);
+        if (cache != null) {
+            cache.evict(nodeId);
+        }
+        badgeFileStore.invalidate(nodeId);
+    }
+
+    public void evictAll(Collection<String> nodeIds) {
+        nodeIds.forEach(this::evict);
+    }
+
+    /**
+     * 새 스냅샷으로 전환하기 직전에 호출됩니다. 이전 스냅샷과 순위 값이 달라진 사용자만 제거하고,
+     * 이전 스냅샷이 없으면(users 직접 조회로 렌더링한 항목) 모두 비웁니다.
+     */
+    @EventListener
+    public void onSnapshotActivating(RankingSnapshotActivatingEvent event) {
+        activeVersion = event.version();
+
+        Cache cache = cacheManager.getCache(BADGES_CACHE);
+        if (cache == null) {
+            return;
+        }
+
+        if (event.previousVersion() == RankingSnapshotService.NO_SNAPSHOT) {
+            cache.clear();
+            return;
+        }
+
+        // 배지 파일은 버전별로 따로 쓰이므로 캐시 항목만 제거합니다.
+        badgeReadRepository.findChangedNodeIds(event.previousVersion(), event.version()).forEach(cache::evict);
+    }
+
+    record RenderedBadges(Map<BadgeVariant, RenderedBadge> variants) {
+
+        RenderedBadge get(BadgeVariant variant) {
+            return variants.get(variant);
+        }
+
+        static RenderedBadges with(RenderedBadges current, BadgeVariant variant, RenderedBadge badge) {
+            Map<BadgeVariant, RenderedBadge> variants = new EnumMap<>(BadgeVariant.class);
+            if (current != null) {
+                variants.putAll(current.variants());
+            }
+            variants.put(variant, badge);
+            return new RenderedBadges(variants);
+        }
+    }
+
+    /**
+     * 본문은 읽기 전용 ByteBuffer로 둡니다. 배지 파일에서 읽은 배지는 매핑된 영역의 조각을 복사 없이 가리킵니다.
+     * 읽는 쪽은 위치를 바꾸지 않도록 duplicate()로 읽습니다.
+     */
+    public record RenderedBadge(long snapshotVersion, String username, String eTag,
+                                ByteBuffer svg, ByteBuffer gzippedSvg) {
+
+        public static RenderedBadge of(long snapshotVersion, String username, String eTag, String svg) {
+            byte[] bytes = svg.getBytes(StandardCharsets.UTF_8);
+            return new RenderedBadge(snapshotVersion, username, eTag,
+                    ByteBuffer.wrap(bytes).asReadOnlyBuffer(), ByteBuffer.wrap(gzip(bytes)).asReadOnlyBuffer());
+        }
+
+        private static byte[] gzip(byte[] bytes) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 3);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    }
+}
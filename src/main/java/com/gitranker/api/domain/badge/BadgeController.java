@@ -1,15 +1,25 @@
 package com.gitranker.api.domain.badge;
 
+import com.gitranker.api.domain.badge.BadgeCache.RenderedBadge;
 import com.gitranker.api.domain.user.Tier;
+import com.gitranker.api.global.metrics.BusinessMetrics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
 
 @RequiredArgsConstructor
@@ -17,29 +27,125 @@ import java.util.concurrent.TimeUnit;
 @RequestMapping("/api/v1/badges")
 public class BadgeController {
 
+    private static final MediaType SVG_UTF8 = new MediaType("image", "svg+xml", StandardCharsets.UTF_8);
+
     private final BadgeService badgeService;
+    private final TierPreviewBadges tierPreviewBadges;
+    private final BusinessMetrics businessMetrics;
 
+    /**
+     * ETag는 users 행의 수정 시각과 표시 값만 읽어 계산하고, If-None-Match가 일치하면 렌더링 없이 304를 반환합니다.
+     * checkNotModified가 응답에 ETag 헤더를 설정하므로 200 응답에도 같은 ETag가 실립니다.
+     * 본문은 캐시에 저장된 바이트를 그대로 쓰며, gzip을 받는 클라이언트에는 미리 압축한 본문을 gzip 표현의 ETag와 함께 보냅니다.
+     * style로 배지 변형(default, static, flat, compact)을 고르며, 변형마다 ETag가 다릅니다.
+     */
     @GetMapping(value = "/{nodeId}", produces = "image/svg+xml")
-    public ResponseEntity<String> getBadge(@PathVariable String nodeId) {
-        String svgContent = badgeService.generateBadge(nodeId);
-
+    public ResponseEntity<Resource> getBadge(
+            @PathVariable String nodeId,
+            @RequestParam(defaultValue = "default") String style,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest
+    ) {
+        BadgeVariant variant = BadgeVariant.from(style);
         CacheControl cacheControl = CacheControl.maxAge(1, TimeUnit.HOURS)
                 .mustRevalidate();
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.valueOf("image/svg+xml"))
-                .cacheControl(cacheControl)
-                .header("Pragma", "no-cache")
-                .header("Expires", "0")
-                .body(svgContent);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String eTag = badgeService.getBadgeETag(nodeId, variant);
+        if (webRequest.checkNotModified(representationETag(eTag, gzip))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        RenderedBadge badge = badgeService.generateBadge(nodeId, variant, eTag);
+
+        return write(badge, gzip, ResponseEntity.ok().cacheControl(cacheControl));
     }
 
+    /**
+     * 티어 미리보기는 기동 시 렌더링한 값을 그대로 반환하며, 템플릿이 바뀌지 않는 한 내용이 같으므로 immutable로 캐시합니다.
+     */
     @GetMapping(value = "/{tier}/badge", produces = "image/svg+xml")
-    public ResponseEntity<String> getBadgeByTier(@PathVariable Tier tier) {
-        String svgContent = badgeService.generateBadgeByTier(tier);
+    public ResponseEntity<Resource> getBadgeByTier(
+            @PathVariable Tier tier,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest
+    ) {
+        RenderedBadge preview = tierPreviewBadges.get(tier);
+        CacheControl cacheControl = CacheControl.maxAge(1, TimeUnit.DAYS)
+                .cachePublic()
+                .immutable();
+
+        boolean gzip = acceptsGzip(acceptEncoding);
+        if (webRequest.checkNotModified(representationETag(preview.eTag(), gzip))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        return write(preview, gzip, ResponseEntity.ok().cacheControl(cacheControl));
+    }
+
+    private ResponseEntity<Resource> write(RenderedBadge badge, boolean gzip, ResponseEntity.BodyBuilder response) {
+        ByteBuffer body = gzip ? badge.gzippedSvg() : badge.svg();
+        businessMetrics.recordBadgeResponseBytes(gzip, body.remaining());
+
+        response.contentType(SVG_UTF8)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        return response.body(new ByteBufferResource(body));
+    }
+
+    /**
+     * gzip 본문은 바이트가 다른 별도 표현이므로, 강한 ETag의 닫는 따옴표 앞에 -gzip을 붙여 구분합니다.
+     */
+    static String representationETag(String eTag, boolean gzip) {
+        if (!gzip) {
+            return eTag;
+        }
+
+        return eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+    }
+
+    /**
+     * Accept-Encoding이 gzip을 허용하는지 확인합니다. gzip 항목이 없으면 * 항목을 따릅니다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip")) {
+                return !hasZeroQuality(parts);
+            }
+            if (name.equals("*")) {
+                wildcard = !hasZeroQuality(parts);
+            }
+        }
+        return wildcard;
+    }
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.valueOf("image/svg+xml"))
-                .body(svgContent);
+    private static boolean hasZeroQuality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) == 0.0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,397 @@
+package com.gitranker.api.domain.badge;
+
+import com.gitranker.api.domain.badge.BadgeCache.RenderedBadge;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 일일 배치가 렌더링한 모든 사용자의 배지를 스냅샷 버전별 파일 하나에 모아 두고, 웹 인스턴스는 이 파일을 메모리 매핑해 읽습니다.
+ * 파일은 헤더, 배지 본문(SVG와 gzip)을 이어 붙인 영역, nodeId별 오프셋 색인, 색인 위치를 담은 트레일러 순서로 씁니다.
+ * 임시 파일에 모두 쓰고 fsync한 뒤 이름을 바꾸므로 읽는 쪽은 완성된 파일만 보며, 디렉터리를 공유하면 모든 인스턴스가 같은 파일을 씁니다.
+ * 매핑 하나는 2GB를 넘을 수 없으므로 본문 영역을 구간 단위로 매핑하고, 배지 하나가 구간 경계를 넘지 않게 씁니다.
+ * <p>
+ * 파일을 읽어 들일 때 users의 수정 시각과 한 번 대조해 렌더링 이후 바뀌었거나 탈퇴한 사용자를 색인에서 뺍니다.
+ * 이후 요청 처리 중에는 DB를 읽지 않고, 이 인스턴스에서 무효화된 nodeId만 제외합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BadgeFileStore {
+
+    static final int MAGIC = 0x47524247;
+    private static final int FORMAT = 1;
+    private static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+    private static final int KEEP_FILES = 2;
+    private static final Pattern FILE_NAME = Pattern.compile("badges-(\\d+)\\.bin");
+
+    private final BadgeReadRepository badgeReadRepository;
+
+    @Value("${app.badge.store.directory:${java.io.tmpdir}/git-ranker-badges}")
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "git-ranker-badges");
+
+    @Value("${app.badge.store.segment-size:1073741824}")
+    private long segmentSize = 1L << 30;
+
+    private final Map<String, Long> invalidatedAt = new ConcurrentHashMap<>();
+    private volatile MappedBadges mapped;
+    private volatile RejectedFile rejected;
+
+    /**
+     * 버전의 배지 파일을 새로 씁니다. {@link Writer#commit()} 전에 닫으면 임시 파일을 지웁니다.
+     */
+    public Writer openWriter(long snapshotVersion) {
+        try {
+            Files.createDirectories(directory);
+            return new Writer(snapshotVersion, directory.resolve(fileName(snapshotVersion) + ".tmp"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 매핑한 파일이 요청한 스냅샷 버전이고, 파일을 렌더링한 뒤 무효화되지 않은 nodeId이면 배지를 반환합니다.
+     * 본문은 매핑된 영역의 읽기 전용 조각이며 힙으로 복사하지 않습니다.
+     */
+    public Optional<RenderedBadge> find(String nodeId, BadgeVariant variant, long snapshotVersion) {
+        MappedBadges current = mapped;
+        if (current == null || current.version() != snapshotVersion) {
+            return Optional.empty();
+        }
+
+        IndexEntry entry = current.index().get(nodeId);
+        if (entry == null || invalidatedAt.getOrDefault(nodeId, Long.MIN_VALUE) >= current.renderedAt()) {
+            return Optional.empty();
+        }
+
+        Slot slot = entry.slots()[variant.ordinal()];
+        return Optional.of(new RenderedBadge(current.version(), entry.username(), slot.eTag(),
+                current.slice(slot.offset(), slot.svgLength()),
+                current.slice(slot.offset() + slot.svgLength(), slot.gzipLength())));
+    }
+
+    public void invalidate(String nodeId) {
+        invalidatedAt.put(nodeId, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    /**
+     * 디렉터리에서 가장 최신 버전의 파일을 찾아, 매핑한 파일보다 새로우면 바꿔 매핑합니다.
+     * 실패하면 기존 매핑을 유지하고 다음 주기에 다시 시도합니다. 템플릿이 달라 거절한 파일은 수정 시각이 바뀌기 전까지 다시 읽지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.badge.store.poll-interval-ms:10000}")
+    public void refresh() {
+        try {
+            Optional<Path> latest = listFiles().stream().findFirst();
+            if (latest.isEmpty()) {
+                return;
+            }
+
+            MappedBadges current = mapped;
+            if (current != null && versionOf(latest.get()) <= current.version()) {
+                return;
+            }
+
+            RejectedFile lastRejected = rejected;
+            if (lastRejected != null && lastRejected.isSameAs(latest.get())) {
+                return;
+            }
+
+            load(latest.get());
+        } catch (IOException | UncheckedIOException | IllegalStateException e) {
+            log.warn("배지 파일 매핑 실패 - 요청 시 렌더링으로 대체합니다", e);
+        }
+    }
+
+    private void load(Path file) throws IOException {
+        long start = System.currentTimeMillis();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE);
+            channel.read(trailer, size - TRAILER_SIZE);
+            trailer.flip();
+            long indexOffset = trailer.getLong();
+            if (trailer.getInt() != MAGIC) {
+                throw new IllegalStateException("손상된 배지 파일: " + file);
+            }
+
+            DataInputStream header = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel.position(0))));
+            if (header.readInt() != MAGIC || header.readInt() != FORMAT) {
+                throw new IllegalStateException("지원하지 않는 배지 파일: " + file);
+            }
+            long version = header.readLong();
+            long renderedAt = header.readLong();
+            long fileSegmentSize = header.readLong();
+            if (!header.readUTF().equals(SvgBadgeRenderer.TEMPLATE_REVISION)) {
+                rejected = new RejectedFile(file, Files.getLastModifiedTime(file));
+                log.info("템플릿이 바뀐 배지 파일은 사용하지 않습니다 - Version: {}", version);
+                return;
+            }
+
+            List<MappedByteBuffer> segments = new ArrayList<>();
+            for (long position = 0; position < indexOffset; position += fileSegmentSize) {
+                segments.add(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(fileSegmentSize, indexOffset - position)));
+            }
+
+            Map<String, IndexEntry> index = readIndex(new DataInputStream(
+                    new BufferedInputStream(Channels.newInputStream(channel.position(indexOffset)))));
+            int total = index.size();
+            removeChangedUsers(index);
+
+            invalidatedAt.values().removeIf(time -> time < renderedAt);
+            mapped = new MappedBadges(version, renderedAt, fileSegmentSize, segments, index);
+
+            log.info("배지 파일 매핑 완료 - Version: {}, Count: {}, Excluded: {}, Latency: {}ms",
+                    version, index.size(), total - index.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    private Map<String, IndexEntry> readIndex(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        int variantCount = in.readInt();
+        if (variantCount != BadgeVariant.values().length) {
+            throw new IllegalStateException("배지 변형 수가 다릅니다: " + variantCount);
+        }
+
+        Map<String, IndexEntry> index = new HashMap<>(count * 4 / 3 + 1);
+        for (int i = 0; i < count; i++) {
+            String nodeId = in.readUTF();
+            String username = in.readUTF();
+            String updatedAt = in.readUTF();
+            Slot[] slots = new Slot[variantCount];
+            for (int v = 0; v < variantCount; v++) {
+                slots[v] = new Slot(in.readUTF(), in.readLong(), in.readInt(), in.readInt());
+            }
+            index.put(nodeId, new IndexEntry(username, updatedAt, slots));
+        }
+        return index;
+    }
+
+    /**
+     * 렌더링 이후 프로필이나 통계가 바뀌었거나 탈퇴한 사용자는 파일의 배지를 쓰지 않습니다.
+     * 다른 인스턴스에서 일어난 변경과 재시작 전의 무효화도 여기서 반영됩니다.
+     */
+    private void removeChangedUsers(Map<String, IndexEntry> index) {
+        Map<String, LocalDateTime> updatedAt = badgeReadRepository.findAllUpdatedAt();
+        index.entrySet().removeIf(entry -> !updatedAt.containsKey(entry.getKey())
+                || !String.valueOf(updatedAt.get(entry.getKey())).equals(entry.getValue().updatedAt()));
+    }
+
+    private List<Path> listFiles() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> FILE_NAME.matcher(file.getFileName().toString()).matches())
+                    .sorted(Comparator.comparingLong(BadgeFileStore::versionOf).reversed())
+                    .toList();
+        }
+    }
+
+    private void deleteOldFiles() throws IOException {
+        List<Path> files = listFiles();
+        for (Path file : files.subList(Math.min(KEEP_FILES, files.size()), files.size())) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long versionOf(Path file) {
+        Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : -1L;
+    }
+
+    private static String fileName(long snapshotVersion) {
+        return "badges-" + snapshotVersion + ".bin";
+    }
+
+    /**
+     * 한 버전의 배지 파일을 순서대로 씁니다. 본문은 바로 파일에 쓰고, 색인은 메모리에 모았다가 커밋할 때 씁니다.
+     * 한 스레드에서만 사용합니다.
+     */
+    public final class Writer implements Closeable {
+
+        private final long snapshotVersion;
+        private final Path tempFile;
+        private final FileChannel channel;
+        private final OutputStream out;
+        private final ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+        private final DataOutputStream index = new DataOutputStream(indexBytes);
+        private long position;
+        private int count;
+        private boolean committed;
+
+        private Writer(long snapshotVersion, Path tempFile) throws IOException {
+            this.snapshotVersion = snapshotVersion;
+            this.tempFile = tempFile;
+            this.channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            this.out = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+
+            ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+            DataOutputStream header = new DataOutputStream(headerBytes);
+            header.writeInt(MAGIC);
+            header.writeInt(FORMAT);
+            header.writeLong(snapshotVersion);
+            header.writeLong(System.currentTimeMillis());
+            header.writeLong(segmentSize);
+            header.writeUTF(SvgBadgeRenderer.TEMPLATE_REVISION);
+            write(headerBytes.toByteArray());
+        }
+
+        /**
+         * 사용자 한 명의 모든 변형 배지를 추가합니다. updatedAt은 파일을 읽어 들일 때 변경 여부를 판단하는 데 씁니다.
+         */
+        public void append(String nodeId, LocalDateTime updatedAt, Map<BadgeVariant, RenderedBadge> badges) {
+            try {
+                RenderedBadge any = badges.get(BadgeVariant.DEFAULT);
+                index.writeUTF(nodeId);
+                index.writeUTF(any.username());
+                index.writeUTF(String.valueOf(updatedAt));
+                for (BadgeVariant variant : BadgeVariant.values()) {
+                    RenderedBadge badge = badges.get(variant);
+                    byte[] svg = toBytes(badge.svg());
+                    byte[] gzippedSvg = toBytes(badge.gzippedSvg());
+                    alignToSegment(svg.length + gzippedSvg.length);
+
+                    index.writeUTF(badge.eTag());
+                    index.writeLong(position);
+                    index.writeInt(svg.length);
+                    index.writeInt(gzippedSvg.length);
+                    write(svg);
+                    write(gzippedSvg);
+                }
+                count++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * 색인과 트레일러를 쓰고 디스크에 반영한 뒤 파일 이름을 바꿔 공개합니다. 오래된 파일은 최근 두 개만 남깁니다.
+         */
+        public void commit() {
+            try {
+                long indexOffset = position;
+                DataOutputStream tail = new DataOutputStream(out);
+                tail.writeInt(count);
+                tail.writeInt(BadgeVariant.values().length);
+                indexBytes.writeTo(tail);
+                tail.writeLong(indexOffset);
+                tail.writeInt(MAGIC);
+                tail.flush();
+                channel.force(true);
+                channel.close();
+
+                Files.move(tempFile, directory.resolve(fileName(snapshotVersion)),
+                        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                committed = true;
+                deleteOldFiles();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        public int count() {
+            return count;
+        }
+
+        @Override
+        public void close() {
+            if (committed) {
+                return;
+            }
+
+            try {
+                channel.close();
+                Files.deleteIfExists(tempFile);
+            } catch (IOException e) {
+                log.warn("배지 임시 파일 삭제 실패 - Path: {}", tempFile, e);
+            }
+        }
+
+        private void alignToSegment(int length) throws IOException {
+            if (length > segmentSize) {
+                throw new IllegalStateException("배지가 매핑 구간보다 큽니다: " + length);
+            }
+
+            long remaining = segmentSize - position % segmentSize;
+            if (length > remaining) {
+                write(new byte[(int) remaining]);
+            }
+        }
+
+        private void write(byte[] bytes) throws IOException {
+            out.write(bytes);
+            position += bytes.length;
+        }
+
+        private static byte[] toBytes(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            return bytes;
+        }
+    }
+
+    private record MappedBadges(long version, long renderedAt, long segmentSize,
+                                List<MappedByteBuffer> segments, Map<String, IndexEntry> index) {
+
+        ByteBuffer slice(long offset, int length) {
+            return segments.get((int) (offset / segmentSize))
+                    .slice((int) (offset % segmentSize), length)
+                    .asReadOnlyBuffer();
+        }
+    }
+
+    private record RejectedFile(Path path, FileTime modifiedAt) {
+
+        boolean isSameAs(Path file) throws IOException {
+            return path.equals(file) && modifiedAt.equals(Files.getLastModifiedTime(file));
+        }
+    }
+
+    private record IndexEntry(String username, String updatedAt, Slot[] slots) {
+    }
+
+    private record Slot(String eTag, long offset, int svgLength, int gzipLength) {
+    }
+}
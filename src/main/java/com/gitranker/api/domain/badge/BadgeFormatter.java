@@ -2,28 +2,61 @@ package com.gitranker.api.domain.badge;
 
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
 /**
  * 배지에 표시되는 숫자 및 텍스트 포맷팅을 담당하는 컴포넌트.
+ * append 메서드는 String.format 없이 버퍼에 직접 쓰며, 로케일과 무관하게 ',' 천 단위 구분과 '.' 소수점을 사용합니다.
  */
 @Component
 public class BadgeFormatter {
 
+    private static final String DIFF_PLUS_PREFIX = "<tspan class='diff-plus' dy='-1'>+";
+    private static final String DIFF_MINUS_PREFIX = "<tspan class='diff-minus' dy='-1'>-";
+    private static final String DIFF_SUFFIX = "</tspan>";
+
     public String formatNumber(long number) {
-        return String.format("%,d", number);
+        return appendNumber(new StringBuilder(), number).toString();
     }
 
     public String formatCount(int count) {
-        return String.format("%,d", count);
+        return formatNumber(count);
     }
 
     public String formatDiff(int diff) {
+        return appendDiff(new StringBuilder(), diff).toString();
+    }
+
+    public StringBuilder appendNumber(StringBuilder out, long number) {
+        if (number < 0) {
+            out.append('-');
+            if (number == Long.MIN_VALUE) {
+                return appendGroupedDigits(out, Long.toString(number).substring(1));
+            }
+            number = -number;
+        }
+        if (number < 1_000) {
+            return out.append(number);
+        }
+        return appendGroupedDigits(out, Long.toString(number));
+    }
+
+    public StringBuilder appendDiff(StringBuilder out, int diff) {
         if (diff > 0) {
-            return String.format("<tspan class='diff-plus' dy='-1'>+%d</tspan>", diff);
+            return out.append(DIFF_PLUS_PREFIX).append(diff).append(DIFF_SUFFIX);
         }
         if (diff < 0) {
-            return String.format("<tspan class='diff-minus' dy='-1'>-%d</tspan>", Math.abs(diff));
+            return out.append(DIFF_MINUS_PREFIX).append(Math.abs((long) diff)).append(DIFF_SUFFIX);
         }
-        return "";
+        return out;
+    }
+
+    /**
+     * 소수 둘째 자리까지 반올림(HALF_UP)해 씁니다. 기존 "%.2f" 출력과 같습니다.
+     */
+    public StringBuilder appendPercentile(StringBuilder out, double percentile) {
+        return out.append(BigDecimal.valueOf(percentile).setScale(2, RoundingMode.HALF_UP).toPlainString());
     }
 
     public String formatTierName(String tierName) {
@@ -38,4 +71,16 @@ public class BadgeFormatter {
         }
         return 32;
     }
+
+    private StringBuilder appendGroupedDigits(StringBuilder out, String digits) {
+        int leading = digits.length() % 3;
+        if (leading == 0) {
+            leading = 3;
+        }
+        out.append(digits, 0, leading);
+        for (int i = leading; i < digits.length(); i += 3) {
+            out.append(',').append(digits, i, i + 3);
+        }
+        return out;
+    }
 }
@@ -0,0 +1,99 @@
+package com.gitranker.api.domain.badge;
+
+import com.gitranker.api.domain.badge.BadgeCache.RenderedBadge;
+import com.gitranker.api.domain.badge.BadgeReadRepository.SnapshotBadgeData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 스냅샷 버전에 포함된 모든 사용자의 배지를 모든 변형으로 렌더링해 배지 파일({@link BadgeFileStore})에 씁니다.
+ * 일일 배치 직후에는 모든 배지가 한꺼번에 바뀌므로, 첫 조회가 요청 스레드에서 조회와 렌더링 비용을 치르지 않게 합니다.
+ * 배지 데이터는 순위 순서로 페이지 단위로 조회하고, 렌더링과 압축은 실행마다 만드는 전용 스레드 풀에서, 파일 쓰기는 순서대로 합니다.
+ * 공용 ForkJoinPool을 쓰지 않으므로 같은 JVM의 다른 병렬 작업과 CPU를 다투는 정도를 batch.badge-prerender.threads로 제한합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BadgePrerenderer {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final BadgeReadRepository badgeReadRepository;
+    private final BadgeService badgeService;
+    private final BadgeFileStore badgeFileStore;
+
+    @Value("${batch.badge-prerender.threads:2}")
+    private int threads = 2;
+
+    /**
+     * 배지 파일을 쓰고 공개한 뒤 렌더링한 사용자 수를 반환합니다. 중간에 실패하면 파일을 공개하지 않습니다.
+     */
+    public int prerender(long snapshotVersion) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "badge-prerender");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try (BadgeFileStore.Writer writer = badgeFileStore.openWriter(snapshotVersion)) {
+            int score = Integer.MAX_VALUE;
+            long userId = 0L;
+
+            while (true) {
+                List<SnapshotBadgeData> page = badgeReadRepository.findSnapshotBadgeDataAfter(
+                        snapshotVersion, score, userId, PAGE_SIZE);
+                if (page.isEmpty()) {
+                    break;
+                }
+
+                List<Future<Map<BadgeVariant, RenderedBadge>>> rendered = new ArrayList<>(page.size());
+                for (SnapshotBadgeData row : page) {
+                    rendered.add(executor.submit(() -> renderAll(row, snapshotVersion)));
+                }
+                for (int i = 0; i < page.size(); i++) {
+                    writer.append(page.get(i).nodeId(), page.get(i).data().updatedAt(), await(rendered.get(i)));
+                }
+
+                SnapshotBadgeData last = page.get(page.size() - 1);
+                score = last.data().totalScore();
+                userId = last.userId();
+            }
+
+            writer.commit();
+            return writer.count();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<BadgeVariant, RenderedBadge> await(Future<Map<BadgeVariant, RenderedBadge>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("배지 사전 렌더링이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("배지 렌더링 실패", e.getCause());
+        }
+    }
+
+    private Map<BadgeVariant, RenderedBadge> renderAll(SnapshotBadgeData row, long snapshotVersion) {
+        Map<BadgeVariant, RenderedBadge> badges = new EnumMap<>(BadgeVariant.class);
+        for (BadgeVariant variant : BadgeVariant.values()) {
+            badges.put(variant, badgeService.render(row.data(), snapshotVersion, variant));
+        }
+        return badges;
+    }
+}
@@ -0,0 +1,189 @@
+package com.gitranker.api.domain.badge;
+
+import com.gitranker.api.domain.log.ActivityLog;
+import com.gitranker.api.domain.user.Tier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 배지 렌더링 전용 JDBC 저장소.
+ * 사용자와 최신 활동 로그를 한 번의 쿼리로 읽어 엔티티 로딩 없이 {@link BadgeData}로 매핑합니다.
+ * 점수, 순위, 티어는 활동 로그와 같은 시점의 값이 되도록 프로필 화면과 같은 users 행에서 읽고, 활동 로그가 없으면 0을 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BadgeReadRepository {
+
+    private static final String BADGE_DATA = """
+            SELECT u.username, u.updated_at, u.total_score, u.percentile, u.ranking, u.tier,
+                   a.commit_count, a.issue_count, a.pr_count, a.merged_pr_count, a.review_count,
+                   a.diff_commit_count, a.diff_issue_count, a.diff_pr_count, a.diff_merged_pr_count, a.diff_review_count
+            FROM users u
+            LEFT JOIN activity_logs a
+                   ON a.id = (SELECT l.id FROM activity_logs l
+                              WHERE l.user_id = u.id
+                              ORDER BY l.activity_date DESC
+                              LIMIT 1)
+            WHERE u.node_id = :nodeId
+            """;
+
+    private static final String BADGE_STAMP = """
+            SELECT u.updated_at, u.total_score, u.percentile, u.ranking, u.tier
+            FROM users u
+            WHERE u.node_id = :nodeId
+            """;
+
+    private static final String SNAPSHOT_BADGE_DATA_AFTER = """
+            SELECT s.user_id, u.node_id, u.username, u.updated_at,
+                   u.total_score, u.percentile, u.ranking, u.tier,
+                   a.commit_count, a.issue_count, a.pr_count, a.merged_pr_count, a.review_count,
+                   a.diff_commit_count, a.diff_issue_count, a.diff_pr_count, a.diff_merged_pr_count, a.diff_review_count
+            FROM ranking_snapshots s
+            JOIN users u ON u.id = s.user_id
+            LEFT JOIN activity_logs a
+                   ON a.id = (SELECT l.id FROM activity_logs l
+                              WHERE l.user_id = s.user_id
+                              ORDER BY l.activity_date DESC
+                              LIMIT 1)
+            WHERE s.snapshot_version = :version
+              AND (s.total_score < :score OR (s.total_score = :score AND s.user_id > :userId))
+            ORDER BY s.total_score DESC, s.user_id ASC
+            LIMIT :limit
+            """;
+
+    private static final String CHANGED_NODE_IDS = """
+            SELECT s.node_id
+            FROM ranking_snapshots s
+            LEFT JOIN ranking_snapshots p
+                   ON p.snapshot_version = :previousVersion AND p.user_id = s.user_id
+            WHERE s.snapshot_version = :version
+              AND (p.user_id IS NULL
+                   OR p.total_score <> s.total_score
+                   OR p.percentile <> s.percentile
+                   OR p.ranking <> s.ranking
+                   OR p.tier <> s.tier)
+            """;
+
+    private static final String ALL_UPDATED_AT = """
+            SELECT u.node_id, u.updated_at
+            FROM users u
+            """;
+
+    private static final RowMapper<BadgeData> BADGE_DATA_MAPPER = (rs, rowNum) -> new BadgeData(
+            rs.getString("username"),
+            rs.getObject("updated_at", LocalDateTime.class),
+            rs.getInt("total_score"),
+            rs.getDouble("percentile"),
+            rs.getInt("ranking"),
+            Tier.valueOf(rs.getString("tier")),
+            ActivityLog.builder()
+                    .commitCount(rs.getInt("commit_count"))
+                    .issueCount(rs.getInt("issue_count"))
+                    .prCount(rs.getInt("pr_count"))
+                    .mergedPrCount(rs.getInt("merged_pr_count"))
+                    .reviewCount(rs.getInt("review_count"))
+                    .diffCommitCount(rs.getInt("diff_commit_count"))
+                    .diffIssueCount(rs.getInt("diff_issue_count"))
+                    .diffPrCount(rs.getInt("diff_pr_count"))
+                    .diffMergedPrCount(rs.getInt("diff_merged_pr_count"))
+                    .diffReviewCount(rs.getInt("diff_review_count"))
+                    .build()
+    );
+
+    private static final RowMapper<BadgeStamp> BADGE_STAMP_MAPPER = (rs, rowNum) -> new BadgeStamp(
+            rs.getObject("updated_at", LocalDateTime.class),
+            rs.getInt("total_score"),
+            rs.getDouble("percentile"),
+            rs.getInt("ranking"),
+            Tier.valueOf(rs.getString("tier"))
+    );
+
+    private static final RowMapper<SnapshotBadgeData> SNAPSHOT_BADGE_DATA_MAPPER = (rs, rowNum) -> new SnapshotBadgeData(
+            rs.getLong("user_id"),
+            rs.getString("node_id"),
+            BADGE_DATA_MAPPER.mapRow(rs, rowNum)
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Optional<BadgeData> findByNodeId(String nodeId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("nodeId", nodeId);
+
+        return jdbcTemplate.query(BADGE_DATA, params, BADGE_DATA_MAPPER).stream().findFirst();
+    }
+
+    /**
+     * ETag 계산에 필요한 수정 시각과 표시 값만 읽습니다. 활동 로그를 조인하지 않으므로 304 응답에는 이 조회 한 번이면 됩니다.
+     */
+    public Optional<BadgeStamp> findStampByNodeId(String nodeId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("nodeId", nodeId);
+
+        return jdbcTemplate.query(BADGE_STAMP, params, BADGE_STAMP_MAPPER).stream().findFirst();
+    }
+
+    /**
+     * 스냅샷 순위 순서(total_score DESC, user_id ASC)로 주어진 위치 이후의 배지 데이터를 조회합니다.
+     * 순서만 스냅샷을 따르고, 표시 값은 {@link #findByNodeId(String)}와 같은 users 행에서 읽습니다.
+     */
+    public List<SnapshotBadgeData> findSnapshotBadgeDataAfter(long snapshotVersion, int score, long userId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("version", snapshotVersion)
+                .addValue("score", score)
+                .addValue("userId", userId)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(SNAPSHOT_BADGE_DATA_AFTER, params, SNAPSHOT_BADGE_DATA_MAPPER);
+    }
+
+    /**
+     * 두 스냅샷 버전 사이에 배지에 표시되는 순위 값이 달라졌거나 새로 들어온 사용자의 nodeId를 조회합니다.
+     */
+    public List<String> findChangedNodeIds(long previousVersion, long version) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("previousVersion", previousVersion)
+                .addValue("version", version);
+
+        return jdbcTemplate.queryForList(CHANGED_NODE_IDS, params, String.class);
+    }
+
+    /**
+     * 모든 사용자의 수정 시각을 nodeId 기준으로 조회합니다. 배지 파일의 항목이 렌더링 이후 바뀌었는지 판단하는 데 씁니다.
+     */
+    public Map<String, LocalDateTime> findAllUpdatedAt() {
+        Map<String, LocalDateTime> updatedAt = new HashMap<>();
+        jdbcTemplate.query(ALL_UPDATED_AT, rs -> {
+            updatedAt.put(rs.getString("node_id"), rs.getObject("updated_at", LocalDateTime.class));
+        });
+
+        return updatedAt;
+    }
+
+    /**
+     * 배지 한 장을 그리는 데 필요한 값. activityLog는 저장되지 않는 값 객체로만 사용합니다.
+     */
+    public record BadgeData(String username, LocalDateTime updatedAt, int totalScore, double percentile,
+                            int ranking, Tier tier, ActivityLog activityLog) {
+
+        public BadgeStamp stamp() {
+            return new BadgeStamp(updatedAt, totalScore, percentile, ranking, tier);
+        }
+    }
+
+    /**
+     * 배지 ETag를 결정하는 값. 활동 로그 변경은 updatedAt에, 순위 변경은 나머지 표시 값에 드러납니다.
+     */
+    public record BadgeStamp(LocalDateTime updatedAt, int totalScore, double percentile, int ranking, Tier tier) {
+    }
+
+    public record SnapshotBadgeData(long userId, String nodeId, BadgeData data) {
+    }
+}
@@ -1,74 +1,86 @@
 package com.gitranker.api.domain.badge;
 
-import com.gitranker.api.domain.log.ActivityLog;
-import com.gitranker.api.domain.log.ActivityLogRepository;
-import com.gitranker.api.domain.user.Tier;
-import com.gitranker.api.domain.user.User;
-import com.gitranker.api.domain.user.UserRepository;
-import com.gitranker.api.domain.user.vo.RankInfo;
-import com.gitranker.api.domain.user.vo.Score;
+import com.gitranker.api.domain.badge.BadgeCache.RenderedBadge;
+import com.gitranker.api.domain.badge.BadgeReadRepository.BadgeData;
+import com.gitranker.api.domain.badge.BadgeReadRepository.BadgeStamp;
+import com.gitranker.api.domain.ranking.RankingSnapshotService;
 import com.gitranker.api.global.error.ErrorType;
 import com.gitranker.api.global.error.exception.BusinessException;
-import com.gitranker.api.global.logging.Event;
-import com.gitranker.api.global.logging.LogContext;
-import com.gitranker.api.global.metrics.BusinessMetrics;
+import com.gitranker.api.global.metrics.ViewCountAggregator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.util.Optional;
+import java.time.ZoneOffset;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class BadgeService {
 
-    private final UserRepository userRepository;
-    private final ActivityLogRepository activityLogRepository;
+    private final BadgeReadRepository badgeReadRepository;
     private final SvgBadgeRenderer svgBadgeRenderer;
-    private final BusinessMetrics businessMetrics;
+    private final ViewCountAggregator viewCountAggregator;
+    private final RankingSnapshotService rankingSnapshotService;
+    private final BadgeCache badgeCache;
 
-    @Transactional(readOnly = true)
-    public String generateBadge(String nodeId) {
-        User user = userRepository.findByNodeId(nodeId)
+    /**
+     * 같은 변형의 배지가 캐시에 있고 ETag가 현재 값과 같으면 DB 조회와 렌더링 없이 반환합니다.
+     * ETag가 다르면 다른 사용자의 변경으로 순위가 밀린 경우이므로 다시 렌더링합니다.
+     */
+    public RenderedBadge generateBadge(String nodeId, BadgeVariant variant, String eTag) {
+        RenderedBadge badge = badgeCache.find(nodeId, variant)
+                .filter(cached -> cached.eTag().equals(eTag))
+                .orElseGet(() -> renderAndCache(nodeId, variant));
+
+        viewCountAggregator.recordBadgeView(badge.username());
+
+        return badge;
+    }
+
+    /**
+     * 배지의 ETag를 users 행의 수정 시각과 표시 값만으로 계산합니다. 렌더링은 본문이 필요한 200 응답에서만 합니다.
+     * ETag는 변형과 배지에 표시되는 사용자 값으로 만들므로, 스냅샷 버전이 바뀌어도 값이 같으면 그대로입니다.
+     */
+    public String getBadgeETag(String nodeId, BadgeVariant variant) {
+        BadgeStamp stamp = badgeReadRepository.findStampByNodeId(nodeId)
+                .orElseThrow(() -> new BusinessException(ErrorType.USER_NOT_FOUND));
+
+        return eTagOf(stamp, variant);
+    }
+
+    /**
+     * 사용자와 최신 활동 로그를 한 번의 쿼리로 읽어 렌더링합니다.
+     */
+    private RenderedBadge renderAndCache(String nodeId, BadgeVariant variant) {
+        long snapshotVersion = rankingSnapshotService.getCurrentVersion();
+        BadgeData data = badgeReadRepository.findByNodeId(nodeId)
                 .orElseThrow(() -> new BusinessException(ErrorType.USER_NOT_FOUND));
 
-        ActivityLog activityLog = Optional.ofNullable(
-                activityLogRepository.getTopByUserOrderByActivityDateDesc(user)
-        ).orElseGet(() -> ActivityLog.empty(user, LocalDate.now()));
+        RenderedBadge badge = render(data, snapshotVersion, variant);
+        badgeCache.put(nodeId, variant, badge);
+
+        return badge;
+    }
 
-        LogContext.event(Event.BADGE_VIEWED)
-                .with("target_username", user.getUsername())
-                .info();
+    RenderedBadge render(BadgeData data, long snapshotVersion, BadgeVariant variant) {
+        String svg = svgBadgeRenderer.render(variant, data.username(), data.totalScore(), data.percentile(),
+                data.ranking(), data.tier(), data.activityLog());
 
-        businessMetrics.incrementBadgeViews();
+        return RenderedBadge.of(snapshotVersion, data.username(), eTagOf(data, variant), svg);
+    }
 
-        return svgBadgeRenderer.render(user, user.getTier(), activityLog);
+    static String eTagOf(BadgeData data, BadgeVariant variant) {
+        return eTagOf(data.stamp(), variant);
     }
 
-    @Transactional(readOnly = true)
-    public String generateBadgeByTier(Tier tier) {
-        User user = User.builder()
-                .nodeId("preview")
-                .username(tier.toString())
-                .build();
-        user.updateScore(Score.of(12345));
-        user.updateRankInfo(RankInfo.of(1, 0.1, 12345));
-
-        ActivityLog activityLog = ActivityLog.builder()
-                .user(user)
-                .commitCount(150)
-                .prCount(30)
-                .mergedPrCount(25)
-                .issueCount(10)
-                .reviewCount(45)
-                .diffCommitCount(12)
-                .diffPrCount(0)
-                .diffMergedPrCount(0)
-                .diffIssueCount(2)
-                .diffReviewCount(8)
-                .build();
-
-        return svgBadgeRenderer.render(user, tier, activityLog);
+    /**
+     * 활동 로그 변경은 사용자의 수정 시각에, 순위 변경은 표시 값에 드러나므로 두 값으로 강한 ETag를 만듭니다.
+     */
+    static String eTagOf(BadgeStamp stamp, BadgeVariant variant) {
+        int rankValues = Objects.hash(stamp.totalScore(), stamp.percentile(), stamp.ranking(), stamp.tier());
+
+        return "\"" + SvgBadgeRenderer.TEMPLATE_REVISION + "-" + variant.getStyle() + "-"
+                + Long.toHexString(stamp.updatedAt().toInstant(ZoneOffset.UTC).toEpochMilli()) + "-"
+                + Integer.toHexString(rankValues) + "\"";
     }
 }
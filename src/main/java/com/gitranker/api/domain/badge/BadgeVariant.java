@@ -0,0 +1,32 @@
+package com.gitranker.api.domain.badge;
+
+import com.gitranker.api.global.error.ErrorType;
+import com.gitranker.api.global.error.exception.BusinessException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 배지 크기와 테마. style 쿼리 파라미터 값으로 선택합니다.
+ * DEFAULT는 애니메이션이 있는 기본 카드, STATIC은 애니메이션을 뺀 카드, FLAT은 단색 카드,
+ * COMPACT는 한 줄짜리 작은 배지입니다. FLAT과 COMPACT는 원격 웹폰트를 불러오지 않습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BadgeVariant {
+
+    DEFAULT("default"),
+    STATIC("static"),
+    FLAT("flat"),
+    COMPACT("compact");
+
+    private final String style;
+
+    public static BadgeVariant from(String style) {
+        for (BadgeVariant variant : values()) {
+            if (variant.style.equalsIgnoreCase(style)) {
+                return variant;
+            }
+        }
+        throw new BusinessException(ErrorType.INVALID_REQUEST);
+    }
+}
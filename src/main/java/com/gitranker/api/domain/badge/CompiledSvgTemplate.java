@@ -0,0 +1,106 @@
+package com.gitranker.api.domain.badge;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * String.format 형식의 SVG 템플릿을 기동 시 한 번 분석해 고정 문자열 조각과 슬롯으로 나눈 템플릿.
+ * 렌더링 시에는 형식 문자열을 다시 해석하지 않고, 조각과 슬롯 값을 순서대로 버퍼에 이어 붙입니다.
+ * 지원하는 지시자는 %s, %d, %.2f, %% 이며, 슬롯 순서는 {@link #requireSlots(String)}로 기동 시 검증합니다.
+ */
+final class CompiledSvgTemplate {
+
+    private final String[] literals;
+    private final String slotTypes;
+    private final int literalLength;
+
+    private CompiledSvgTemplate(String[] literals, String slotTypes) {
+        this.literals = literals;
+        this.slotTypes = slotTypes;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    static CompiledSvgTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        StringBuilder slotTypes = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+
+        int i = 0;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+
+            if (template.startsWith("%%", i)) {
+                literal.append('%');
+                i += 2;
+            } else if (template.startsWith("%s", i) || template.startsWith("%d", i)) {
+                slotTypes.append(template.charAt(i + 1));
+                literals.add(literal.toString());
+                literal.setLength(0);
+                i += 2;
+            } else if (template.startsWith("%.2f", i)) {
+                slotTypes.append('f');
+                literals.add(literal.toString());
+                literal.setLength(0);
+                i += 4;
+            } else {
+                throw new IllegalArgumentException("지원하지 않는 템플릿 지시자입니다. index=" + i);
+            }
+        }
+        literals.add(literal.toString());
+
+        return new CompiledSvgTemplate(literals.toArray(String[]::new), slotTypes.toString());
+    }
+
+    /**
+     * 렌더러가 기대하는 슬롯 순서(s, d, f)와 템플릿이 일치하는지 검증합니다.
+     */
+    CompiledSvgTemplate requireSlots(String expectedSlotTypes) {
+        if (!slotTypes.equals(expectedSlotTypes)) {
+            throw new IllegalStateException("SVG 템플릿 슬롯이 렌더러와 일치하지 않습니다. expected="
+                    + expectedSlotTypes + ", actual=" + slotTypes);
+        }
+        return this;
+    }
+
+    int literalLength() {
+        return literalLength;
+    }
+
+    Writer writer(int capacity) {
+        return new Writer(new StringBuilder(capacity));
+    }
+
+    /**
+     * 슬롯 순서대로 값을 채우는 일회용 작성기. {@link #slot()}은 다음 슬롯 앞의 고정 조각을 붙인 뒤 버퍼를 반환합니다.
+     */
+    final class Writer {
+
+        private final StringBuilder out;
+        private int nextSlot = 0;
+
+        private Writer(StringBuilder out) {
+            this.out = out;
+        }
+
+        StringBuilder slot() {
+            return out.append(literals[nextSlot++]);
+        }
+
+        String finish() {
+            if (nextSlot != slotTypes.length()) {
+                throw new IllegalStateException("채워지지 않은 SVG 템플릿 슬롯이 있습니다. filled=" + nextSlot);
+            }
+            return out.append(literals[nextSlot]).toString();
+        }
+    }
+}
@@ -2,44 +2,125 @@ package com.gitranker.api.domain.badge;
 
 import com.gitranker.api.domain.log.ActivityLog;
 import com.gitranker.api.domain.user.Tier;
-import com.gitranker.api.domain.user.User;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
 /**
  * SVG 배지 렌더링을 담당하는 컴포넌트.
+ * 변형({@link BadgeVariant})별 템플릿은 기동 시 한 번 컴파일하고, 티어별 그라데이션, 단색, 표시 이름, 글자 크기도 미리 계산해 둡니다.
  */
 @Component
-@RequiredArgsConstructor
 public class SvgBadgeRenderer {
 
     private static final String GITHUB_LOGO_PATH = "M12 0c-6.626 0-12 5.373-12 12 0 5.302 3.438 9.8 8.207 11.387.599.111.793-.261.793-.577v-2.234c-3.338.726-4.033-1.416-4.033-1.416-.546-1.387-1.333-1.756-1.333-1.756-1.089-.745.083-.729.083-.729 1.205.084 1.839 1.237 1.839 1.237 1.07 1.834 2.807 1.304 3.492.997.107-.775.418-1.305.762-1.604-2.665-.305-5.467-1.334-5.467-5.931 0-1.311.469-2.381 1.236-3.221-.124-.303-.535-1.524.117-3.176 0 0 1.008-.322 3.301 1.23.957-.266 1.983-.399 3.003-.404 1.02.005 2.047.137 3.006.404 2.291-1.552 3.297-1.23 3.297-1.23.653 1.653.242 2.874.118 3.176.77.84 1.235 1.911 1.235 3.221 0 4.609-2.807 5.624-5.479 5.921.43.372.823 1.102.823 2.222v3.293c0 .319.192.694.801.576 4.765-1.589 8.199-6.086 8.199-11.386 0-6.627-5.373-12-12-12z";
     private static final String FONT_IMPORT_CSS = "@import url('https://fonts.googleapis.com/css2?&family=Noto+Sans+KR:wght@400;500;700&family=Outfit:wght@400;500;700;900&display=swap');";
 
-    private final TierGradientProvider gradientProvider;
     private final BadgeFormatter formatter;
+    private final Map<Tier, TierAssets> tierAssets = new EnumMap<>(Tier.class);
+    private final Map<BadgeVariant, Integer> bufferCapacity = new EnumMap<>(BadgeVariant.class);
+
+    public SvgBadgeRenderer(TierGradientProvider gradientProvider, BadgeFormatter formatter) {
+        this.formatter = formatter;
+
+        int maxGradientLength = 0;
+        for (Tier tier : Tier.values()) {
+            String displayTierName = formatter.formatTierName(tier.name());
+            TierAssets assets = new TierAssets(gradientProvider.getGradientDefs(tier),
+                    gradientProvider.getColors(tier).color2(), displayTierName,
+                    formatter.calculateTierFontSize(displayTierName));
+            tierAssets.put(tier, assets);
+            maxGradientLength = Math.max(maxGradientLength, assets.gradientDefs().length());
+        }
+
+        int cardAssetLength = maxGradientLength + FONT_IMPORT_CSS.length() + GITHUB_LOGO_PATH.length();
+        for (BadgeVariant variant : BadgeVariant.values()) {
+            int assetLength = variant == BadgeVariant.DEFAULT || variant == BadgeVariant.STATIC ? cardAssetLength : 0;
+            bufferCapacity.put(variant, templateOf(variant).literalLength() + assetLength + DYNAMIC_CAPACITY);
+        }
+    }
+
+    public String render(String username, int totalScore, double percentile, int ranking,
+                         Tier tier, ActivityLog activityLog) {
+        return render(BadgeVariant.DEFAULT, username, totalScore, percentile, ranking, tier, activityLog);
+    }
+
+    public String render(BadgeVariant variant, String username, int totalScore, double percentile, int ranking,
+                         Tier tier, ActivityLog activityLog) {
+        TierAssets assets = tierAssets.get(tier);
+        CompiledSvgTemplate.Writer writer = templateOf(variant).writer(bufferCapacity.get(variant));
+
+        return switch (variant) {
+            case DEFAULT, STATIC -> renderCard(writer, assets, username, totalScore, percentile, ranking, activityLog);
+            case FLAT -> renderFlat(writer, assets, username, totalScore, percentile, ranking, activityLog);
+            case COMPACT -> renderCompact(writer, assets, username, totalScore);
+        };
+    }
+
+    private static CompiledSvgTemplate templateOf(BadgeVariant variant) {
+        return switch (variant) {
+            case DEFAULT -> TEMPLATE;
+            case STATIC -> STATIC_TEMPLATE;
+            case FLAT -> FLAT_TEMPLATE;
+            case COMPACT -> COMPACT_TEMPLATE;
+        };
+    }
+
+    private String renderCard(CompiledSvgTemplate.Writer writer, TierAssets assets, String username, int totalScore,
+                              double percentile, int ranking, ActivityLog activityLog) {
+        writer.slot().append(assets.gradientDefs());
+        writer.slot().append(FONT_IMPORT_CSS);
+        writer.slot().append(assets.tierFontSize());
+        writer.slot().append(GITHUB_LOGO_PATH);
+        writer.slot().append(username);
+        writer.slot().append(assets.displayTierName());
+        formatter.appendNumber(writer.slot(), totalScore);
+        formatter.appendPercentile(writer.slot(), percentile);
+        formatter.appendNumber(writer.slot(), ranking);
+        appendStats(writer, activityLog);
+
+        return writer.finish();
+    }
+
+    private String renderFlat(CompiledSvgTemplate.Writer writer, TierAssets assets, String username, int totalScore,
+                              double percentile, int ranking, ActivityLog activityLog) {
+        writer.slot().append(assets.tierFontSize());
+        writer.slot().append(assets.solidColor());
+        writer.slot().append(username);
+        writer.slot().append(assets.displayTierName());
+        formatter.appendNumber(writer.slot(), totalScore);
+        formatter.appendPercentile(writer.slot(), percentile);
+        formatter.appendNumber(writer.slot(), ranking);
+        appendStats(writer, activityLog);
+
+        return writer.finish();
+    }
+
+    private String renderCompact(CompiledSvgTemplate.Writer writer, TierAssets assets, String username, int totalScore) {
+        writer.slot().append(username);
+        writer.slot().append(assets.solidColor());
+        writer.slot().append(assets.displayTierName());
+        formatter.appendNumber(writer.slot(), totalScore);
 
-    public String render(User user, Tier tier, ActivityLog activityLog) {
-        String gradientDefs = gradientProvider.getGradientDefs(tier);
-        String displayTierName = formatter.formatTierName(tier.name());
-        int tierFontSize = formatter.calculateTierFontSize(displayTierName);
-
-        return String.format(SVG_TEMPLATE,
-                gradientDefs,
-                FONT_IMPORT_CSS,
-                tierFontSize,
-                GITHUB_LOGO_PATH,
-                user.getUsername(),
-                displayTierName,
-                formatter.formatNumber(user.getTotalScore()),
-                user.getPercentile(),
-                formatter.formatNumber(user.getRanking()),
-                formatter.formatCount(activityLog.getCommitCount()), formatter.formatDiff(activityLog.getDiffCommitCount()),
-                formatter.formatCount(activityLog.getIssueCount()), formatter.formatDiff(activityLog.getDiffIssueCount()),
-                formatter.formatCount(activityLog.getPrCount()), formatter.formatDiff(activityLog.getDiffPrCount()),
-                formatter.formatCount(activityLog.getMergedPrCount()), formatter.formatDiff(activityLog.getDiffMergedPrCount()),
-                formatter.formatCount(activityLog.getReviewCount()), formatter.formatDiff(activityLog.getDiffReviewCount())
-        );
+        return writer.finish();
+    }
+
+    private void appendStats(CompiledSvgTemplate.Writer writer, ActivityLog activityLog) {
+        appendStat(writer, activityLog.getCommitCount(), activityLog.getDiffCommitCount());
+        appendStat(writer, activityLog.getIssueCount(), activityLog.getDiffIssueCount());
+        appendStat(writer, activityLog.getPrCount(), activityLog.getDiffPrCount());
+        appendStat(writer, activityLog.getMergedPrCount(), activityLog.getDiffMergedPrCount());
+        appendStat(writer, activityLog.getReviewCount(), activityLog.getDiffReviewCount());
+    }
+
+    private void appendStat(CompiledSvgTemplate.Writer writer, int count, int diff) {
+        formatter.appendNumber(writer.slot(), count);
+        formatter.appendDiff(writer.slot(), diff);
+    }
+
+    private record TierAssets(String gradientDefs, String solidColor, String displayTierName, int tierFontSize) {
     }
 
     private static final String SVG_TEMPLATE = """
@@ -186,4 +267,131 @@ public class SvgBadgeRenderer {
                 </g>
             </svg>
             """;
+
+    /**
+     * 단색 배경의 카드. 그라데이션, 광택, 애니메이션, 그림자 없이 기본 카드와 같은 배치로 그리며 원격 웹폰트 대신 시스템 글꼴을 씁니다.
+     */
+    private static final String FLAT_SVG_TEMPLATE = """
+            <svg width="350" height="170" viewBox="0 0 350 170" fill="none" role="img" version="1.1" xmlns="http://www.w3.org/2000/svg">
+                <style type="text/css">
+                    <![CDATA[
+                    text {
+                        fill: #ffffff;
+                        font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', 'Noto Sans KR', 'Apple SD Gothic Neo', sans-serif;
+                    }
+
+                    .header { font-weight: 700; font-size: 12px; }
+                    .username { font-weight: 500; font-size: 13px; opacity: 0.95; }
+                    .stat-label { font-size: 11px; opacity: 0.85; letter-spacing: 0.5px; font-weight: 700; }
+                    .stat-value { font-weight: 700; font-size: 13px; }
+                    .tier-text { font-weight: 500; font-size: %dpx; letter-spacing: 0.5px; }
+                    .score-text { font-weight: 700; font-size: 22px; }
+                    .rank-text { font-size: 11px; font-weight: 500; opacity: 0.9; }
+                    .diff-plus { fill: #4ADE80; font-weight: 700; font-size: 11px; }
+                    .diff-minus { fill: #FF6B6B; font-weight: 700; font-size: 11px; }
+                    ]]>
+                </style>
+
+                <rect x="0" y="0" width="350" height="170" rx="12" ry="12" fill="%s"/>
+
+                <text x="20" y="28" class="header">Git Ranker</text>
+                <text x="330" y="28" text-anchor="end" class="username">@%s</text>
+                <line x1="20" y1="40" x2="330" y2="40" stroke="#ffffff" stroke-width="1" stroke-opacity="0.4" shape-rendering="crispEdges"/>
+
+                <g transform="translate(20, 85)">
+                    <text x="0" y="0" class="tier-text">%s</text>
+                    <text x="0" y="30" class="score-text">%s pts</text>
+                    <text x="0" y="52" class="rank-text">Top %.2f%% • Rank %s</text>
+                </g>
+
+                <line x1="165" y1="55" x2="165" y2="155" stroke="#ffffff" stroke-width="1" stroke-opacity="0.3" shape-rendering="crispEdges"/>
+
+                <g transform="translate(180, 60)">
+                    <g transform="translate(0, 0)">
+                        <text x="0" y="0" class="stat-label">Commits</text>
+                        <text x="0" y="18" class="stat-value">%s %s</text>
+                    </g>
+                    <g transform="translate(85, 0)">
+                        <text x="0" y="0" class="stat-label">Issues</text>
+                        <text x="0" y="18" class="stat-value">%s %s</text>
+                    </g>
+                    <g transform="translate(0, 34)">
+                        <text x="0" y="0" class="stat-label">PR Open</text>
+                        <text x="0" y="18" class="stat-value">%s %s</text>
+                    </g>
+                    <g transform="translate(85, 34)">
+                        <text x="0" y="0" class="stat-label">PR Merged</text>
+                        <text x="0" y="18" class="stat-value">%s %s</text>
+                    </g>
+                    <g transform="translate(0, 68)">
+                        <text x="0" y="0" class="stat-label">Reviews</text>
+                        <text x="0" y="18" class="stat-value">%s %s</text>
+                    </g>
+                </g>
+            </svg>
+            """;
+
+    /**
+     * README 한 줄에 들어가는 작은 배지. 웹폰트를 불러오지 않아 GitHub 캐시 프록시에서도 바로 그려집니다.
+     */
+    private static final String COMPACT_SVG_TEMPLATE = """
+            <svg width="250" height="20" viewBox="0 0 250 20" role="img" xmlns="http://www.w3.org/2000/svg">
+                <title>Git Ranker @%s</title>
+                <linearGradient id="compact-gloss" x1="0" y1="0" x2="0" y2="1">
+                    <stop offset="0" stop-color="#bbbbbb" stop-opacity="0.1"/>
+                    <stop offset="1" stop-opacity="0.1"/>
+                </linearGradient>
+                <clipPath id="compact-clip">
+                    <rect width="250" height="20" rx="3" fill="#ffffff"/>
+                </clipPath>
+                <g clip-path="url(#compact-clip)">
+                    <rect width="80" height="20" fill="#555555"/>
+                    <rect x="80" width="170" height="20" fill="%s"/>
+                    <rect width="250" height="20" fill="url(#compact-gloss)"/>
+                </g>
+                <g fill="#ffffff" text-anchor="middle" font-family="Verdana, Geneva, 'DejaVu Sans', sans-serif" font-size="11">
+                    <text x="40" y="14">Git Ranker</text>
+                    <text x="165" y="14">%s • %s pts</text>
+                </g>
+            </svg>
+            """;
+
+    /**
+     * 기본 카드에서 shine 애니메이션(keyframes, shine-bar 스타일과 요소, 전용 그라데이션)을 줄 단위로 제거합니다.
+     */
+    private static String withoutAnimation(String template) {
+        String result = removeLines(template, "@keyframes soft-pass", "text {");
+        result = removeLines(result, "<linearGradient id=\"soft-shine-gradient\"", "</defs>");
+        return removeLines(result, "<rect class=\"shine-bar\"", "</g>");
+    }
+
+    /**
+     * from이 있는 줄부터 그 뒤 until이 있는 줄 직전까지 제거합니다.
+     */
+    private static String removeLines(String template, String from, String until) {
+        int fromIndex = template.indexOf(from);
+        int untilIndex = fromIndex < 0 ? -1 : template.indexOf(until, fromIndex);
+        if (untilIndex < 0) {
+            throw new IllegalStateException("SVG 템플릿에서 제거할 구간을 찾을 수 없습니다. from=" + from);
+        }
+        int start = template.lastIndexOf('\n', fromIndex) + 1;
+        int end = template.lastIndexOf('\n', untilIndex) + 1;
+        return template.substring(0, start) + template.substring(end);
+    }
+
+    /**
+     * 템플릿이 바뀌면 함께 바뀌는 값. 배포 후 이전 ETag로 옛 배지가 재사용되지 않도록 배지 ETag에 포함합니다.
+     */
+    static final String TEMPLATE_REVISION = Integer.toHexString(Objects.hash(SVG_TEMPLATE, FLAT_SVG_TEMPLATE, COMPACT_SVG_TEMPLATE));
+
+    private static final String CARD_SLOTS = "ssdssssfsssssssssss";
+    private static final CompiledSvgTemplate TEMPLATE = CompiledSvgTemplate.compile(SVG_TEMPLATE)
+            .requireSlots(CARD_SLOTS);
+    private static final CompiledSvgTemplate STATIC_TEMPLATE = CompiledSvgTemplate.compile(withoutAnimation(SVG_TEMPLATE))
+            .requireSlots(CARD_SLOTS);
+    private static final CompiledSvgTemplate FLAT_TEMPLATE = CompiledSvgTemplate.compile(FLAT_SVG_TEMPLATE)
+            .requireSlots("dssssfsssssssssss");
+    private static final CompiledSvgTemplate COMPACT_TEMPLATE = CompiledSvgTemplate.compile(COMPACT_SVG_TEMPLATE)
+            .requireSlots("ssss");
+    private static final int DYNAMIC_CAPACITY = 512;
 }
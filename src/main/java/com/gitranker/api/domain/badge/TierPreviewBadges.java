@@ -0,0 +1,52 @@
+package com.gitranker.api.domain.badge;
+
+import com.gitranker.api.domain.badge.BadgeCache.RenderedBadge;
+import com.gitranker.api.domain.log.ActivityLog;
+import com.gitranker.api.domain.user.Tier;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 티어 미리보기 배지. 결과가 티어에만 의존하므로 기동 시 모든 티어를 한 번 렌더링해 보관합니다.
+ * ETag에는 템플릿 리비전이 포함되어 템플릿이 바뀐 배포에서만 값이 달라집니다.
+ */
+@Component
+public class TierPreviewBadges {
+
+    private static final int PREVIEW_SCORE = 12345;
+    private static final int PREVIEW_RANKING = 1;
+    private static final double PREVIEW_PERCENTILE = 0.1;
+
+    private static final ActivityLog PREVIEW_ACTIVITY = ActivityLog.builder()
+            .commitCount(150)
+            .prCount(30)
+            .mergedPrCount(25)
+            .issueCount(10)
+            .reviewCount(45)
+            .diffCommitCount(12)
+            .diffPrCount(0)
+            .diffMergedPrCount(0)
+            .diffIssueCount(2)
+            .diffReviewCount(8)
+            .build();
+
+    private final Map<Tier, RenderedBadge> previews;
+
+    public TierPreviewBadges(SvgBadgeRenderer svgBadgeRenderer) {
+        Map<Tier, RenderedBadge> rendered = new EnumMap<>(Tier.class);
+        for (Tier tier : Tier.values()) {
+            String svg = svgBadgeRenderer.render(tier.toString(), PREVIEW_SCORE, PREVIEW_PERCENTILE,
+                    PREVIEW_RANKING, tier, PREVIEW_ACTIVITY);
+            String eTag = "\"preview-" + SvgBadgeRenderer.TEMPLATE_REVISION + "-" + tier.name() + "\"";
+            rendered.put(tier, RenderedBadge.of(0L, tier.toString(), eTag, svg));
+        }
+        this.previews = Collections.unmodifiableMap(rendered);
+    }
+
+    public RenderedBadge get(Tier tier) {
+        return previews.get(tier);
+    }
+}
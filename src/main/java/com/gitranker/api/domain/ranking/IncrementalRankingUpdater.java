@@ -0,0 +1,115 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.domain.ranking.RankingJdbcRepository.RankRow;
+import com.gitranker.api.domain.user.vo.RankInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 점수 구간에 속한 사용자만 대상으로 RANK() / CUME_DIST() 기준의 순위를 다시 계산하고,
+ * ranking, percentile(소수점 2자리 기준), tier 중 실제로 달라진 행만 배치로 갱신합니다.
+ * 티어가 바뀐 행은 커밋 이후 티어 분포에 반영되도록 {@link RankingIndexService}에 알립니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IncrementalRankingUpdater {
+
+    private final RankingJdbcRepository rankingJdbcRepository;
+    private final RankingIndexService rankingIndexService;
+
+    @Value("${app.ranking.recalculation.batch-size:500}")
+    private int batchSize = 500;
+
+    public int updateScoreRange(int lowScore, int highScore) {
+        long totalUserCount = rankingJdbcRepository.countAll();
+        if (totalUserCount == 0) {
+            return 0;
+        }
+
+        Map<Integer, RankInfo> expectedByScore = calculateExpectedRankInfo(lowScore, highScore, totalUserCount);
+
+        int updatedCount = 0;
+        long lastScore = (long) highScore + 1;
+        long lastId = 0;
+        List<RankRow> pending = new ArrayList<>();
+
+        while (true) {
+            List<RankRow> rows = rankingJdbcRepository.findRankRowsAfter(lowScore, highScore, lastScore, lastId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            for (RankRow row : rows) {
+                RankInfo expected = expectedByScore.get(row.totalScore());
+                if (expected != null && isChanged(row, expected)) {
+                    pending.add(new RankRow(row.id(), row.totalScore(),
+                            expected.getRanking(), expected.getPercentile(), expected.getTier()));
+                    if (row.tier() != expected.getTier()) {
+                        rankingIndexService.onTierChanged(row.id(), expected.getTier());
+                    }
+                }
+            }
+
+            if (pending.size() >= batchSize) {
+                updatedCount += flush(pending);
+            }
+
+            RankRow last = rows.get(rows.size() - 1);
+            lastScore = last.totalScore();
+            lastId = last.id();
+
+            if (rows.size() < batchSize) {
+                break;
+            }
+        }
+
+        updatedCount += flush(pending);
+
+        log.debug("증분 랭킹 갱신 완료 - 점수 구간: [{}, {}], 갱신: {}건", lowScore, highScore, updatedCount);
+
+        return updatedCount;
+    }
+
+    private Map<Integer, RankInfo> calculateExpectedRankInfo(int lowScore, int highScore, long totalUserCount) {
+        Map<Integer, Long> histogram = rankingJdbcRepository.findScoreHistogram(lowScore, highScore);
+        long higherScoreCount = highScore == Integer.MAX_VALUE ? 0 : rankingJdbcRepository.countScoreAbove(highScore);
+
+        Map<Integer, RankInfo> expectedByScore = new HashMap<>(histogram.size() * 2);
+        for (Map.Entry<Integer, Long> entry : histogram.entrySet()) {
+            long atLeastCount = higherScoreCount + entry.getValue();
+            int ranking = (int) higherScoreCount + 1;
+            double percentile = Math.min(100.0, (double) atLeastCount / totalUserCount * 100.0);
+
+            expectedByScore.put(entry.getKey(), RankInfo.of(ranking, percentile, entry.getKey()));
+            higherScoreCount = atLeastCount;
+        }
+
+        return expectedByScore;
+    }
+
+    private boolean isChanged(RankRow row, RankInfo expected) {
+        return row.ranking() != expected.getRanking()
+                || row.tier() != expected.getTier()
+                || Math.round(row.percentile() * 100) != Math.round(expected.getPercentile() * 100);
+    }
+
+    private int flush(List<RankRow> pending) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        rankingJdbcRepository.updateRanks(List.copyOf(pending));
+        int flushed = pending.size();
+        pending.clear();
+
+        return flushed;
+    }
+}
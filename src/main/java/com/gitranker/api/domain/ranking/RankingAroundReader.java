@@ -0,0 +1,74 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.domain.ranking.RankingReadRepository.RankedUser;
+import com.gitranker.api.domain.ranking.dto.RankingAround;
+import com.gitranker.api.domain.ranking.dto.RankingList;
+import com.gitranker.api.global.error.ErrorType;
+import com.gitranker.api.global.error.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자 위아래 K명의 랭킹 구간을 조회합니다.
+ * 대상 사용자의 (total_score, id) 위치에서 양방향으로 K건씩 탐색하므로, 순위와 관계없이 비용이 일정합니다.
+ * 결과는 스냅샷 버전을 키에 포함해 별도 캐시에 저장합니다.
+ * 마지막 스냅샷 이후에 가입한 사용자는 스냅샷에 없으므로, users 행의 점수와 순위로 스냅샷 구간 안에 위치시킵니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RankingAroundReader {
+
+    private final RankingReadRepository rankingReadRepository;
+
+    @Cacheable(value = "rankingAround", key = "'v' + #version + ':user:' + #username + ':size:' + #size", sync = true)
+    @Transactional(readOnly = true)
+    public RankingAround readByUsername(long version, String username, int size) {
+        Optional<RankedUser> target = version != RankingSnapshotService.NO_SNAPSHOT
+                ? rankingReadRepository.findSnapshotUserByUsername(version, username)
+                        .or(() -> rankingReadRepository.findLiveUserByUsername(username))
+                : rankingReadRepository.findLiveUserByUsername(username);
+
+        return load(version, target, size);
+    }
+
+    @Cacheable(value = "rankingAround", key = "'v' + #version + ':node:' + #nodeId + ':size:' + #size", sync = true)
+    @Transactional(readOnly = true)
+    public RankingAround readByNodeId(long version, String nodeId, int size) {
+        Optional<RankedUser> target = version != RankingSnapshotService.NO_SNAPSHOT
+                ? rankingReadRepository.findSnapshotUserByNodeId(version, nodeId)
+                        .or(() -> rankingReadRepository.findLiveUserByNodeId(nodeId))
+                : rankingReadRepository.findLiveUserByNodeId(nodeId);
+
+        return load(version, target, size);
+    }
+
+    private RankingAround load(long version, Optional<RankedUser> target, int size) {
+        RankedUser user = target.orElseThrow(() -> new BusinessException(ErrorType.USER_NOT_FOUND));
+        int score = user.userInfo().totalScore();
+
+        List<RankedUser> above = version != RankingSnapshotService.NO_SNAPSHOT
+                ? rankingReadRepository.findSnapshotBefore(version, score, user.userId(), size)
+                : rankingReadRepository.findLiveBefore(score, user.userId(), size);
+        List<RankedUser> below = version != RankingSnapshotService.NO_SNAPSHOT
+                ? rankingReadRepository.findSnapshotAfter(version, null, score, user.userId(), size)
+                : rankingReadRepository.findLiveAfter(null, score, user.userId(), size);
+
+        List<RankedUser> orderedAbove = new ArrayList<>(above);
+        Collections.reverse(orderedAbove);
+
+        return new RankingAround(toUserInfo(orderedAbove), user.userInfo(), toUserInfo(below));
+    }
+
+    private List<RankingList.UserInfo> toUserInfo(List<RankedUser> rows) {
+        return rows.stream()
+                .map(RankedUser::userInfo)
+                .toList();
+    }
+}
@@ -0,0 +1,101 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.domain.ranking.dto.RankingList;
+import com.gitranker.api.domain.user.Tier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 새 스냅샷 버전의 상위 페이지를 전환 전에 미리 채우고, 전환 후에는 버전별 캐시에서 이전 버전 항목을 정리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingCacheWarmer {
+
+    private static final String FIRST_CURSOR = "";
+    private static final List<String> VERSIONED_CACHES = List.of(RankingMetrics.RANKINGS_CACHE, "rankingAround");
+
+    private final RankingPageReader rankingPageReader;
+    private final CacheManager cacheManager;
+    private final RankingMetrics rankingMetrics;
+
+    @Value("${app.ranking.cache.warm-pages:5}")
+    private int warmPages = 5;
+
+    public void warm(long version) {
+        long startTime = System.currentTimeMillis();
+        int warmedCount = 0;
+
+        try {
+            for (Tier tier : tierFilters()) {
+                warmedCount += warmTier(version, tier);
+            }
+        } catch (RuntimeException e) {
+            rankingMetrics.recordWarmFailure();
+            log.warn("랭킹 캐시 예열 실패 - Version: {}, 예열 완료: {}건", version, warmedCount, e);
+            return;
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+        rankingMetrics.recordWarm(duration, warmedCount);
+
+        log.debug("랭킹 캐시 예열 완료 - Version: {}, 항목: {}건, Latency: {}ms", version, warmedCount, duration);
+    }
+
+    public void evictOlderThan(long version) {
+        for (String cacheName : VERSIONED_CACHES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+                nativeCache.asMap().keySet().removeIf(key -> versionOf(key) < version);
+            }
+        }
+    }
+
+    private int warmTier(long version, Tier tier) {
+        int warmedCount = 0;
+
+        for (int page = 0; page < warmPages; page++) {
+            RankingList rankingList = rankingPageReader.refresh(version, page, tier);
+            warmedCount++;
+
+            if (rankingList.pageInfo().isLast()) {
+                break;
+            }
+        }
+
+        rankingPageReader.refreshByCursor(version, FIRST_CURSOR, tier);
+
+        return warmedCount + 1;
+    }
+
+    private List<Tier> tierFilters() {
+        List<Tier> filters = new ArrayList<>();
+        filters.add(null);
+        filters.addAll(Arrays.asList(Tier.values()));
+
+        return filters;
+    }
+
+    private long versionOf(Object key) {
+        String value = String.valueOf(key);
+        int delimiter = value.indexOf(':');
+        if (!value.startsWith("v") || delimiter < 0) {
+            return Long.MAX_VALUE;
+        }
+
+        try {
+            return Long.parseLong(value.substring(1, delimiter));
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
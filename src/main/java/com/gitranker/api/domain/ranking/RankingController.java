@@ -1,15 +1,29 @@
 package com.gitranker.api.domain.ranking;
 
+import com.gitranker.api.domain.ranking.dto.RankingAround;
+import com.gitranker.api.domain.ranking.dto.RankingCursorList;
 import com.gitranker.api.domain.ranking.dto.RankingList;
+import com.gitranker.api.domain.ranking.dto.RankingStatistics;
 import com.gitranker.api.domain.user.Tier;
 import com.gitranker.api.global.response.ApiResponse;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Validated
 @RequiredArgsConstructor
@@ -17,15 +31,71 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/ranking")
 public class RankingController {
 
+    private static final String USERNAME_PATTERN = "^(?=.{1,39}$)[A-Za-z0-9]+(?:-[A-Za-z0-9]+)*$";
+    private static final String USERNAME_MESSAGE = "{validation.user.username.pattern}";
+    private static final int MAX_AROUND_SIZE = 50;
     private final RankingService rankingService;
+    private final RankingStatisticsService rankingStatisticsService;
 
     @GetMapping
-    public ApiResponse<RankingList> getRankings(
+    public ResponseEntity<ApiResponse<RankingList>> getRankings(
             @RequestParam(defaultValue = "0") @Min(value = 0, message = "{validation.ranking.page.min}") int page,
-            @RequestParam(required = false) Tier tier
+            @RequestParam(required = false) Tier tier,
+            WebRequest webRequest
+    ) {
+        return conditional(webRequest, () -> rankingService.getRankingList(page, tier));
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<RankingCursorList>> getRankingsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(required = false) Tier tier,
+            WebRequest webRequest
     ) {
-        RankingList response = rankingService.getRankingList(page, tier);
+        return conditional(webRequest, () -> rankingService.getRankingListByCursor(cursor, tier));
+    }
+
+    @GetMapping("/around/{username}")
+    public ResponseEntity<ApiResponse<RankingAround>> getRankingAround(
+            @PathVariable @Pattern(regexp = USERNAME_PATTERN, message = USERNAME_MESSAGE) String username,
+            @RequestParam(defaultValue = "5")
+            @Min(value = 1, message = "{validation.ranking.around.size.range}")
+            @Max(value = MAX_AROUND_SIZE, message = "{validation.ranking.around.size.range}") int size,
+            WebRequest webRequest
+    ) {
+        return conditional(webRequest, () -> rankingService.getRankingAround(username, size));
+    }
+
+    @GetMapping(value = "/around", params = "nodeId")
+    public ResponseEntity<ApiResponse<RankingAround>> getRankingAroundByNodeId(
+            @RequestParam String nodeId,
+            @RequestParam(defaultValue = "5")
+            @Min(value = 1, message = "{validation.ranking.around.size.range}")
+            @Max(value = MAX_AROUND_SIZE, message = "{validation.ranking.around.size.range}") int size,
+            WebRequest webRequest
+    ) {
+        return conditional(webRequest, () -> rankingService.getRankingAroundByNodeId(nodeId, size));
+    }
+
+    @GetMapping("/statistics")
+    public ResponseEntity<ApiResponse<RankingStatistics>> getStatistics() {
+        RankingStatistics response = rankingStatisticsService.getStatistics();
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.MINUTES).cachePublic())
+                .body(ApiResponse.success(response));
+    }
+
+    /**
+     * 스냅샷 버전 ETag가 If-None-Match와 일치하면 조회 없이 304를 반환합니다.
+     * 스냅샷이 없으면 ETag 없이 항상 조회합니다.
+     */
+    private <T> ResponseEntity<ApiResponse<T>> conditional(WebRequest webRequest, Supplier<T> reader) {
+        Optional<String> eTag = rankingService.getSnapshotETag();
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
 
-        return ApiResponse.success(response);
+        return ResponseEntity.ok(ApiResponse.success(reader.get()));
     }
 }
@@ -0,0 +1,50 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.global.error.ErrorType;
+import com.gitranker.api.global.error.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서. 마지막으로 내려준 행의 (total_score, id)를 불투명한 문자열로 감쌉니다.
+ */
+public record RankingCursor(int score, long id) {
+
+    private static final RankingCursor FIRST = new RankingCursor(Integer.MAX_VALUE, 0L);
+    private static final String DELIMITER = ":";
+
+    public static RankingCursor first() {
+        return FIRST;
+    }
+
+    public static RankingCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+            if (parts.length != 2) {
+                throw new BusinessException(ErrorType.INVALID_REQUEST, "cursor");
+            }
+
+            int score = Integer.parseInt(parts[0]);
+            long id = Long.parseLong(parts[1]);
+            if (score < 0 || id < 0) {
+                throw new BusinessException(ErrorType.INVALID_REQUEST, "cursor");
+            }
+
+            return new RankingCursor(score, id);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorType.INVALID_REQUEST, "cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = score + DELIMITER + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
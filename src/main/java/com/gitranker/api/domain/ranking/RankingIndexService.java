@@ -0,0 +1,386 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.domain.user.Tier;
+import com.gitranker.api.domain.user.UserRepository;
+import com.gitranker.api.domain.user.dto.TierCount;
+import com.gitranker.api.domain.user.dto.UserScore;
+import com.gitranker.api.global.logging.Event;
+import com.gitranker.api.global.logging.LogContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * users.total_score 기준 순위를 메모리에서 계산하는 인덱스.
+ * 기동 시 전체 점수와 티어로 구성하고, 점수와 티어 변경은 트랜잭션 커밋 이후에 반영합니다.
+ * 티어별 사용자 수도 같은 경로로 갱신하므로 등록/갱신/탈퇴가 바로 티어 분포에 드러납니다.
+ * 인덱스가 준비되지 않았다면 기존 SQL 집계로 대체합니다.
+ */
+@Slf4j
+@Service
+@EnableScheduling
+@RequiredArgsConstructor
+public class RankingIndexService {
+
+    private static final int VERIFY_SAMPLE_COUNT = 5;
+
+    private final UserRepository userRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IndexedUser> usersById = new HashMap<>();
+    private final Map<Tier, Long> tierCounts = new EnumMap<>(Tier.class);
+    private final List<UserChange> changesDuringRebuild = new ArrayList<>();
+    private ScoreRankIndex index = new ScoreRankIndex();
+    private boolean rebuilding = false;
+    private volatile boolean ready = false;
+    private boolean driftPending = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            changesDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long startTime = System.currentTimeMillis();
+        List<UserScore> scores;
+        try {
+            scores = userRepository.findAllScores();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                changesDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        Map<Long, IndexedUser> rebuiltUsers = new HashMap<>(scores.size() * 2);
+        Map<Tier, Long> rebuiltTierCounts = new EnumMap<>(Tier.class);
+        ScoreRankIndex rebuiltIndex = new ScoreRankIndex();
+        for (UserScore score : scores) {
+            rebuiltUsers.put(score.userId(), new IndexedUser(score.totalScore(), score.tier()));
+            rebuiltTierCounts.merge(score.tier(), 1L, Long::sum);
+            rebuiltIndex.add(score.totalScore());
+        }
+
+        lock.writeLock().lock();
+        try {
+            usersById.clear();
+            usersById.putAll(rebuiltUsers);
+            tierCounts.clear();
+            tierCounts.putAll(rebuiltTierCounts);
+            index = rebuiltIndex;
+            changesDuringRebuild.forEach(this::applyLocked);
+            changesDuringRebuild.clear();
+            rebuilding = false;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        LogContext.event(Event.RANKING_INDEX_REBUILT)
+                .with("total_count", scores.size())
+                .with("duration_ms", System.currentTimeMillis() - startTime)
+                .info();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 사용자가 주어진 점수를 가졌을 때의 순위 산정 기준값을 반환합니다.
+     * 사용자의 기존 점수는 제외하고, 아직 인덱스에 없는 사용자는 전체 수에 포함시켜 계산합니다.
+     */
+    public RankPosition positionOf(Long userId, int score) {
+        if (!ready) {
+            return positionFromDatabase(userId, score);
+        }
+
+        lock.readLock().lock();
+        try {
+            IndexedUser current = userId != null ? usersById.get(userId) : null;
+            long higherScoreCount = index.countGreaterThan(score);
+            long totalUserCount = index.size();
+
+            if (current == null) {
+                totalUserCount++;
+            } else if (current.score() > score) {
+                higherScoreCount--;
+            }
+
+            return new RankPosition(higherScoreCount, totalUserCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void onScoreChanged(Long userId, int score, Tier tier) {
+        applyAfterCommit(new UserChange(userId, score, tier));
+    }
+
+    /**
+     * 다른 사용자의 점수 변경으로 순위만 다시 계산되어 티어가 바뀐 경우에 호출합니다.
+     */
+    public void onTierChanged(Long userId, Tier tier) {
+        applyAfterCommit(new UserChange(userId, null, tier));
+    }
+
+    public void onUserRemoved(Long userId) {
+        applyAfterCommit(new UserChange(userId, null, null));
+    }
+
+    /**
+     * 전체 테이블 재계산처럼 여러 사용자의 티어가 한꺼번에 바뀐 경우, 커밋 이후 인덱스를 다시 구성합니다.
+     */
+    public void rebuildAfterCommit() {
+        runAfterCommit(this::rebuild);
+    }
+
+    /**
+     * 인덱스의 집계 결과를 SQL 결과와 비교하고, 불일치가 연속 두 번 확인되면 재구성합니다.
+     * SQL 집계와 인덱스 조회 사이에 커밋된 변경처럼 한 번만 보이는 불일치로는 전체 재구성을 하지 않습니다.
+     */
+    @Scheduled(
+            fixedDelayString = "${app.ranking.index.verify-interval-ms:600000}",
+            initialDelayString = "${app.ranking.index.verify-interval-ms:600000}"
+    )
+    public void verifyConsistency() {
+        if (!ready) {
+            rebuild();
+            return;
+        }
+
+        if (!hasDrift()) {
+            driftPending = false;
+            return;
+        }
+
+        if (!driftPending) {
+            driftPending = true;
+            return;
+        }
+
+        driftPending = false;
+        rebuild();
+    }
+
+    private boolean hasDrift() {
+        long databaseTotal = userRepository.count();
+        long indexTotal;
+        List<Integer> sampleScores;
+        Map<Tier, Long> indexTierCounts;
+
+        lock.readLock().lock();
+        try {
+            indexTotal = index.size();
+            sampleScores = sampleScoresLocked();
+            indexTierCounts = new EnumMap<>(tierCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (databaseTotal != indexTotal) {
+            reportDrift("total_count", databaseTotal, indexTotal);
+            return true;
+        }
+
+        for (TierCount tierCount : userRepository.countByTier()) {
+            long indexCount = indexTierCounts.getOrDefault(tierCount.tier(), 0L);
+            if (tierCount.userCount() != indexCount) {
+                reportDrift("tier_count:" + tierCount.tier(), tierCount.userCount(), indexCount);
+                return true;
+            }
+        }
+
+        for (int score : sampleScores) {
+            long databaseCount = userRepository.countByScoreValueGreaterThan(score);
+            long indexCount = countGreaterThan(score);
+
+            if (databaseCount != indexCount) {
+                reportDrift("higher_score_count:" + score, databaseCount, indexCount);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 점수를 bucketSize 단위 구간으로 나눈 사용자 수를 반환합니다. 마지막 구간은 상한이 없습니다.
+     * 인덱스가 준비되지 않았다면 빈 목록을 반환합니다.
+     */
+    public List<Long> countByScoreBuckets(int bucketSize, int bucketCount) {
+        if (!ready) {
+            return List.of();
+        }
+
+        List<Long> counts = new ArrayList<>(bucketCount);
+        lock.readLock().lock();
+        try {
+            long atLeastLower = index.size();
+            for (int bucket = 0; bucket < bucketCount; bucket++) {
+                long atLeastUpper = bucket == bucketCount - 1 ? 0 : index.countAtLeast((bucket + 1) * bucketSize);
+                counts.add(atLeastLower - atLeastUpper);
+                atLeastLower = atLeastUpper;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return counts;
+    }
+
+    /**
+     * 티어별 사용자 수를 반환합니다. 모든 티어를 포함하며, 인덱스가 준비되지 않았다면 빈 맵을 반환합니다.
+     */
+    public Map<Tier, Long> countByTier() {
+        if (!ready) {
+            return Map.of();
+        }
+
+        Map<Tier, Long> counts = new EnumMap<>(Tier.class);
+        lock.readLock().lock();
+        try {
+            for (Tier tier : Tier.values()) {
+                counts.put(tier, tierCounts.getOrDefault(tier, 0L));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return Collections.unmodifiableMap(counts);
+    }
+
+    long countGreaterThan(int score) {
+        lock.readLock().lock();
+        try {
+            return index.countGreaterThan(score);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RankPosition positionFromDatabase(Long userId, int score) {
+        long higherScoreCount = userRepository.countByScoreValueGreaterThan(score);
+        long totalUserCount = userId == null ? userRepository.count() + 1 : userRepository.count();
+
+        return new RankPosition(higherScoreCount, totalUserCount);
+    }
+
+    private void applyAfterCommit(UserChange change) {
+        runAfterCommit(() -> apply(change));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+
+        action.run();
+    }
+
+    private void apply(UserChange change) {
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                changesDuringRebuild.add(change);
+            }
+            if (ready || !rebuilding) {
+                applyLocked(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyLocked(UserChange change) {
+        IndexedUser previous = usersById.get(change.userId());
+        if (change.score() == null && (change.tier() == null || previous == null)) {
+            // 탈퇴, 또는 인덱스에 없는 사용자의 티어 변경(재구성 시 반영됨)
+            usersById.remove(change.userId());
+            if (previous != null) {
+                index.remove(previous.score());
+                tierCounts.merge(previous.tier(), -1L, Long::sum);
+            }
+            return;
+        }
+
+        int score = change.score() != null ? change.score() : previous.score();
+        usersById.put(change.userId(), new IndexedUser(score, change.tier()));
+
+        if (previous != null) {
+            index.remove(previous.score());
+            tierCounts.merge(previous.tier(), -1L, Long::sum);
+        }
+        index.add(score);
+        tierCounts.merge(change.tier(), 1L, Long::sum);
+    }
+
+    private List<Integer> sampleScoresLocked() {
+        TreeSet<Integer> distinctScores = new TreeSet<>();
+        usersById.values().forEach(user -> distinctScores.add(user.score()));
+        if (distinctScores.isEmpty()) {
+            return List.of();
+        }
+
+        List<Integer> ordered = new ArrayList<>(distinctScores);
+        TreeSet<Integer> samples = new TreeSet<>();
+        for (int i = 0; i < VERIFY_SAMPLE_COUNT; i++) {
+            samples.add(ordered.get((int) ((long) (ordered.size() - 1) * i / (VERIFY_SAMPLE_COUNT - 1))));
+        }
+
+        return new ArrayList<>(samples);
+    }
+
+    private void reportDrift(String metric, long databaseValue, long indexValue) {
+        LogContext.event(Event.RANKING_INDEX_DRIFT_DETECTED)
+                .with("metric", metric)
+                .with("database_value", databaseValue)
+                .with("index_value", indexValue)
+                .warn();
+    }
+
+    public record RankPosition(long higherScoreCount, long totalUserCount) {
+    }
+
+    private record IndexedUser(int score, Tier tier) {
+    }
+
+    /**
+     * score와 tier가 모두 null이면 탈퇴, score만 null이면 기존 점수를 유지한 티어 변경입니다.
+     */
+    private record UserChange(Long userId, Integer score, Tier tier) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.domain.user.Tier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 랭킹 갱신 경로에서 엔티티 로딩 없이 users 테이블을 직접 조회/갱신하는 JDBC 저장소.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankingJdbcRepository {
+
+    private static final String COUNT_ALL = "SELECT COUNT(*) FROM users";
+
+    private static final String COUNT_SCORE_ABOVE = "SELECT COUNT(*) FROM users WHERE total_score > :score";
+
+    private static final String SCORE_HISTOGRAM = """
+            SELECT total_score, COUNT(*) AS user_count
+            FROM users
+            WHERE total_score BETWEEN :low AND :high
+            GROUP BY total_score
+            ORDER BY total_score DESC
+            """;
+
+    private static final String RANK_ROWS_AFTER = """
+            SELECT id, total_score, ranking, percentile, tier
+            FROM users
+            WHERE total_score BETWEEN :low AND :high
+              AND (total_score < :lastScore OR (total_score = :lastScore AND id > :lastId))
+            ORDER BY total_score DESC, id ASC
+            LIMIT :limit
+            """;
+
+    private static final String UPDATE_RANK = """
+            UPDATE users
+            SET ranking = :ranking, percentile = :percentile, tier = :tier
+            WHERE id = :id
+            """;
+
+    private static final String SHIFT_RANKS_BELOW = """
+            UPDATE users
+            SET ranking = ranking + :delta
+            WHERE total_score < :score
+            """;
+
+    private static final String MAX_USER_ID = "SELECT COALESCE(MAX(id), 0) FROM users";
+
+    private static final String APPLY_SNAPSHOT_RANGE = """
+            UPDATE users u
+            JOIN ranking_snapshots s ON s.user_id = u.id AND s.snapshot_version = :version
+            SET u.ranking = s.ranking, u.percentile = s.percentile, u.tier = s.tier, u.updated_at = NOW()
+            WHERE u.id > :fromId AND u.id <= :toId
+              AND u.total_score = s.total_score
+              AND (u.ranking <> s.ranking OR u.percentile <> s.percentile OR u.tier <> s.tier)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public long countAll() {
+        return jdbcTemplate.queryForObject(COUNT_ALL, Map.of(), Long.class);
+    }
+
+    public long countScoreAbove(int score) {
+        return jdbcTemplate.queryForObject(COUNT_SCORE_ABOVE, Map.of("score", score), Long.class);
+    }
+
+    /**
+     * 점수 구간 내 점수별 사용자 수를 점수 내림차순으로 반환합니다.
+     */
+    public Map<Integer, Long> findScoreHistogram(int low, int high) {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("low", low)
+                .addValue("high", high);
+
+        jdbcTemplate.query(SCORE_HISTOGRAM, params, rs -> {
+            histogram.put(rs.getInt("total_score"), rs.getLong("user_count"));
+        });
+
+        return histogram;
+    }
+
+    /**
+     * (total_score DESC, id ASC) 순서에서 주어진 위치 이후의 행을 조회합니다.
+     */
+    public List<RankRow> findRankRowsAfter(int low, int high, long lastScore, long lastId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("low", low)
+                .addValue("high", high)
+                .addValue("lastScore", lastScore)
+                .addValue("lastId", lastId)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(RANK_ROWS_AFTER, params, (rs, rowNum) -> new RankRow(
+                rs.getLong("id"),
+                rs.getInt("total_score"),
+                rs.getInt("ranking"),
+                rs.getDouble("percentile"),
+                Tier.valueOf(rs.getString("tier"))
+        ));
+    }
+
+    public int[] updateRanks(List<RankRow> rows) {
+        SqlParameterSource[] batch = rows.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("id", row.id())
+                        .addValue("ranking", row.ranking())
+                        .addValue("percentile", row.percentile())
+                        .addValue("tier", row.tier().name()))
+                .toArray(SqlParameterSource[]::new);
+
+        return jdbcTemplate.batchUpdate(UPDATE_RANK, batch);
+    }
+
+    /**
+     * 주어진 점수보다 낮은 사용자의 순위를 한 번의 UPDATE로 delta만큼 옮깁니다.
+     * 사용자 한 명이 추가(+1)되거나 제거(-1)될 때 순위는 이것으로 정확해지며, percentile과 tier는 일일 배치에서 맞춥니다.
+     */
+    public int shiftRanksBelow(int score, int delta) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("score", score)
+                .addValue("delta", delta);
+
+        return jdbcTemplate.update(SHIFT_RANKS_BELOW, params);
+    }
+
+    public long findMaxUserId() {
+        return jdbcTemplate.queryForObject(MAX_USER_ID, Map.of(), Long.class);
+    }
+
+    /**
+     * (fromId, toId] 구간 사용자에게 스냅샷에 계산된 순위를 반영합니다. 값이 달라진 행만 갱신합니다.
+     * 스냅샷 생성 이후 점수가 바뀐 사용자는 스냅샷 순위가 맞지 않으므로 건너뛰고, 증분 재산정에 맡깁니다.
+     */
+    public int applySnapshotRange(long version, long fromId, long toId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("version", version)
+                .addValue("fromId", fromId)
+                .addValue("toId", toId);
+
+        return jdbcTemplate.update(APPLY_SNAPSHOT_RANGE, params);
+    }
+
+    public record RankRow(long id, int totalScore, int ranking, double percentile, Tier tier) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.domain.user.Tier;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RankingMetrics {
+
+    private static final String METRIC_PREFIX = "ranking_cache";
+    static final String RANKINGS_CACHE = "rankings";
+
+    private final Timer warmTimer;
+    private final Counter warmedEntryCounter;
+    private final Counter warmFailureCounter;
+
+    public RankingMetrics(MeterRegistry registry, CacheManager cacheManager, RankingIndexService rankingIndexService) {
+        warmTimer = Timer.builder(METRIC_PREFIX + "_warm_duration")
+                .description("Time to warm ranking cache for a new snapshot version")
+                .register(registry);
+
+        warmedEntryCounter = Counter.builder(METRIC_PREFIX + "_warmed_entries_total")
+                .description("Total ranking cache entries warmed")
+                .register(registry);
+
+        warmFailureCounter = Counter.builder(METRIC_PREFIX + "_warm_failures_total")
+                .description("Total ranking cache warm failures")
+                .register(registry);
+
+        Gauge.builder(METRIC_PREFIX + "_hit_ratio", cacheManager, RankingMetrics::hitRatio)
+                .description("Ranking cache hit ratio since startup")
+                .register(registry);
+
+        for (Tier tier : Tier.values()) {
+            Gauge.builder("ranking_tier_users", rankingIndexService, index -> index.countByTier().getOrDefault(tier, 0L))
+                    .tag("tier", tier.name())
+                    .description("Users per tier, following registrations, refreshes and deletions")
+                    .register(registry);
+        }
+    }
+
+    public void recordWarm(long durationMs, int entryCount) {
+        warmTimer.record(durationMs, TimeUnit.MILLISECONDS);
+        warmedEntryCounter.increment(entryCount);
+    }
+
+    public void recordWarmFailure() {
+        warmFailureCounter.increment();
+    }
+
+    private static double hitRatio(CacheManager cacheManager) {
+        Cache cache = cacheManager.getCache(RANKINGS_CACHE);
+        if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            return nativeCache.stats().hitRate();
+        }
+
+        return 0.0;
+    }
+}
@@ -0,0 +1,98 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.domain.ranking.RankingReadRepository.RankedUser;
+import com.gitranker.api.domain.ranking.dto.RankingCursorList;
+import com.gitranker.api.domain.ranking.dto.RankingList;
+import com.gitranker.api.domain.user.Tier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 스냅샷 버전을 키에 포함해 랭킹 페이지를 캐시합니다.
+ * read는 조회 경로에서, refresh는 새 버전 공개 전 캐시 예열에서 사용합니다.
+ * 같은 페이지에 대한 동시 캐시 미스는 {@code sync = true}로 한 번의 조회로 합쳐집니다.
+ * 버전이 {@link RankingSnapshotService#NO_SNAPSHOT}이면 users 테이블을 직접 조회합니다.
+ * 조회는 엔티티 대신 표시 컬럼만 읽는 {@link RankingReadRepository}를 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RankingPageReader {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final RankingReadRepository rankingReadRepository;
+
+    @Cacheable(value = "rankings", key = "'v' + #version + ':page:' + #page + ':tier:' + #tier", sync = true)
+    @Transactional(readOnly = true)
+    public RankingList read(long version, int page, Tier tier) {
+        return load(version, page, tier);
+    }
+
+    @CachePut(value = "rankings", key = "'v' + #version + ':page:' + #page + ':tier:' + #tier")
+    @Transactional(readOnly = true)
+    public RankingList refresh(long version, int page, Tier tier) {
+        return load(version, page, tier);
+    }
+
+    @Cacheable(value = "rankings", key = "'v' + #version + ':cursor:' + #cursor + ':tier:' + #tier", sync = true)
+    @Transactional(readOnly = true)
+    public RankingCursorList readByCursor(long version, String cursor, Tier tier) {
+        return loadByCursor(version, cursor, tier);
+    }
+
+    @CachePut(value = "rankings", key = "'v' + #version + ':cursor:' + #cursor + ':tier:' + #tier")
+    @Transactional(readOnly = true)
+    public RankingCursorList refreshByCursor(long version, String cursor, Tier tier) {
+        return loadByCursor(version, cursor, tier);
+    }
+
+    private RankingList load(long version, int page, Tier tier) {
+        PageRequest pageable = PageRequest.of(page, DEFAULT_PAGE_SIZE);
+        boolean snapshot = version != RankingSnapshotService.NO_SNAPSHOT;
+
+        List<RankingList.UserInfo> content = (snapshot
+                ? rankingReadRepository.findSnapshotPage(version, tier, pageable.getOffset(), pageable.getPageSize())
+                : rankingReadRepository.findLivePage(tier, pageable.getOffset(), pageable.getPageSize()))
+                .stream()
+                .map(RankedUser::userInfo)
+                .toList();
+
+        Page<RankingList.UserInfo> rankingPage = PageableExecutionUtils.getPage(content, pageable, () -> snapshot
+                ? rankingReadRepository.countSnapshot(version, tier)
+                : rankingReadRepository.countLive(tier));
+
+        return RankingList.from(rankingPage);
+    }
+
+    private RankingCursorList loadByCursor(long version, String cursor, Tier tier) {
+        RankingCursor position = RankingCursor.decode(cursor);
+        int limit = DEFAULT_PAGE_SIZE + 1;
+
+        List<RankedUser> rows = version != RankingSnapshotService.NO_SNAPSHOT
+                ? rankingReadRepository.findSnapshotAfter(version, tier, position.score(), position.id(), limit)
+                : rankingReadRepository.findLiveAfter(tier, position.score(), position.id(), limit);
+
+        boolean hasNext = rows.size() > DEFAULT_PAGE_SIZE;
+        List<RankedUser> pageRows = hasNext ? rows.subList(0, DEFAULT_PAGE_SIZE) : rows;
+
+        List<RankingList.UserInfo> userInfo = pageRows.stream()
+                .map(RankedUser::userInfo)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            RankedUser last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new RankingCursor(last.userInfo().totalScore(), last.userId()).encode();
+        }
+
+        return new RankingCursorList(userInfo, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,234 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.domain.ranking.dto.RankingList;
+import com.gitranker.api.domain.user.Tier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 리더보드 조회 전용 JDBC 저장소.
+ * 화면에 표시하는 컬럼만 조회해 {@link RankingList.UserInfo}로 바로 매핑하므로, 엔티티 로딩과 영속성 컨텍스트 비용이 없습니다.
+ * 스냅샷 조회와 스냅샷이 없을 때의 users 직접 조회를 모두 제공합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankingReadRepository {
+
+    private static final String TIER_FILTER = "AND tier = :tier";
+
+    private static final String SNAPSHOT_PAGE = """
+            SELECT user_id, username, profile_image, ranking, total_score, tier
+            FROM ranking_snapshots
+            WHERE snapshot_version = :version %s
+            ORDER BY total_score DESC, user_id ASC
+            LIMIT :limit OFFSET :offset
+            """;
+
+    private static final String SNAPSHOT_COUNT = """
+            SELECT COUNT(*) FROM ranking_snapshots
+            WHERE snapshot_version = :version %s
+            """;
+
+    private static final String SNAPSHOT_AFTER = """
+            SELECT user_id, username, profile_image, ranking, total_score, tier
+            FROM ranking_snapshots
+            WHERE snapshot_version = :version %s
+              AND (total_score < :score OR (total_score = :score AND user_id > :userId))
+            ORDER BY total_score DESC, user_id ASC
+            LIMIT :limit
+            """;
+
+    private static final String SNAPSHOT_BEFORE = """
+            SELECT user_id, username, profile_image, ranking, total_score, tier
+            FROM ranking_snapshots
+            WHERE snapshot_version = :version
+              AND (total_score > :score OR (total_score = :score AND user_id < :userId))
+            ORDER BY total_score ASC, user_id DESC
+            LIMIT :limit
+            """;
+
+    private static final String SNAPSHOT_BY_USERNAME = """
+            SELECT s.user_id, s.username, s.profile_image, s.ranking, s.total_score, s.tier
+            FROM ranking_snapshots s
+            JOIN users u ON u.id = s.user_id
+            WHERE s.snapshot_version = :version AND u.username = :username
+            """;
+
+    private static final String SNAPSHOT_BY_NODE_ID = """
+            SELECT user_id, username, profile_image, ranking, total_score, tier
+            FROM ranking_snapshots
+            WHERE snapshot_version = :version AND node_id = :nodeId
+            """;
+
+    private static final String LIVE_PAGE = """
+            SELECT id AS user_id, username, profile_image, ranking, total_score, tier
+            FROM users
+            WHERE 1 = 1 %s
+            ORDER BY total_score DESC, id ASC
+            LIMIT :limit OFFSET :offset
+            """;
+
+    private static final String LIVE_COUNT = """
+            SELECT COUNT(*) FROM users
+            WHERE 1 = 1 %s
+            """;
+
+    private static final String LIVE_AFTER = """
+            SELECT id AS user_id, username, profile_image, ranking, total_score, tier
+            FROM users
+            WHERE (total_score < :score OR (total_score = :score AND id > :userId)) %s
+            ORDER BY total_score DESC, id ASC
+            LIMIT :limit
+            """;
+
+    private static final String LIVE_BEFORE = """
+            SELECT id AS user_id, username, profile_image, ranking, total_score, tier
+            FROM users
+            WHERE total_score > :score OR (total_score = :score AND id < :userId)
+            ORDER BY total_score ASC, id DESC
+            LIMIT :limit
+            """;
+
+    private static final String LIVE_BY = """
+            SELECT id AS user_id, username, profile_image, ranking, total_score, tier
+            FROM users
+            WHERE %s = :key
+            """;
+
+    private static final RowMapper<RankedUser> RANKED_USER_MAPPER = (rs, rowNum) -> new RankedUser(
+            rs.getLong("user_id"),
+            new RankingList.UserInfo(
+                    rs.getString("username"),
+                    rs.getString("profile_image"),
+                    rs.getLong("ranking"),
+                    rs.getInt("total_score"),
+                    Tier.valueOf(rs.getString("tier"))
+            )
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<RankedUser> findSnapshotPage(long version, Tier tier, long offset, int limit) {
+        MapSqlParameterSource params = params(tier)
+                .addValue("version", version)
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(withTier(SNAPSHOT_PAGE, tier), params, RANKED_USER_MAPPER);
+    }
+
+    public long countSnapshot(long version, Tier tier) {
+        MapSqlParameterSource params = params(tier).addValue("version", version);
+
+        return jdbcTemplate.queryForObject(withTier(SNAPSHOT_COUNT, tier), params, Long.class);
+    }
+
+    /**
+     * (total_score DESC, user_id ASC) 순서에서 주어진 위치 이후의 스냅샷 행을 조회합니다.
+     */
+    public List<RankedUser> findSnapshotAfter(long version, Tier tier, int score, long userId, int limit) {
+        MapSqlParameterSource params = params(tier)
+                .addValue("version", version)
+                .addValue("score", score)
+                .addValue("userId", userId)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(withTier(SNAPSHOT_AFTER, tier), params, RANKED_USER_MAPPER);
+    }
+
+    public List<RankedUser> findLivePage(Tier tier, long offset, int limit) {
+        MapSqlParameterSource params = params(tier)
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(withTier(LIVE_PAGE, tier), params, RANKED_USER_MAPPER);
+    }
+
+    public long countLive(Tier tier) {
+        return jdbcTemplate.queryForObject(withTier(LIVE_COUNT, tier), params(tier), Long.class);
+    }
+
+    public List<RankedUser> findLiveAfter(Tier tier, int score, long userId, int limit) {
+        MapSqlParameterSource params = params(tier)
+                .addValue("score", score)
+                .addValue("userId", userId)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(withTier(LIVE_AFTER, tier), params, RANKED_USER_MAPPER);
+    }
+
+    /**
+     * (total_score DESC, user_id ASC) 순서에서 주어진 위치 바로 앞의 스냅샷 행을 가까운 순서로 조회합니다.
+     */
+    public List<RankedUser> findSnapshotBefore(long version, int score, long userId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("version", version)
+                .addValue("score", score)
+                .addValue("userId", userId)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(SNAPSHOT_BEFORE, params, RANKED_USER_MAPPER);
+    }
+
+    public Optional<RankedUser> findSnapshotUserByUsername(long version, String username) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("version", version)
+                .addValue("username", username);
+
+        return jdbcTemplate.query(SNAPSHOT_BY_USERNAME, params, RANKED_USER_MAPPER).stream().findFirst();
+    }
+
+    public Optional<RankedUser> findSnapshotUserByNodeId(long version, String nodeId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("version", version)
+                .addValue("nodeId", nodeId);
+
+        return jdbcTemplate.query(SNAPSHOT_BY_NODE_ID, params, RANKED_USER_MAPPER).stream().findFirst();
+    }
+
+    public List<RankedUser> findLiveBefore(int score, long userId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("score", score)
+                .addValue("userId", userId)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(LIVE_BEFORE, params, RANKED_USER_MAPPER);
+    }
+
+    public Optional<RankedUser> findLiveUserByUsername(String username) {
+        return findLiveUserBy("username", username);
+    }
+
+    public Optional<RankedUser> findLiveUserByNodeId(String nodeId) {
+        return findLiveUserBy("node_id", nodeId);
+    }
+
+    private Optional<RankedUser> findLiveUserBy(String column, String key) {
+        return jdbcTemplate.query(LIVE_BY.formatted(column), Map.of("key", key), RANKED_USER_MAPPER)
+                .stream()
+                .findFirst();
+    }
+
+    private String withTier(String sql, Tier tier) {
+        return sql.formatted(tier == null ? "" : TIER_FILTER);
+    }
+
+    private MapSqlParameterSource params(Tier tier) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        if (tier != null) {
+            params.addValue("tier", tier.name());
+        }
+
+        return params;
+    }
+
+    public record RankedUser(long userId, RankingList.UserInfo userInfo) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.gitranker.api.domain.ranking;
+
+public enum RankingRecalculationMode {
+    INCREMENTAL,
+    FULL
+}
@@ -3,12 +3,20 @@ package com.gitranker.api.domain.ranking;
 import com.gitranker.api.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 
+/**
+ * 등록/갱신 이후의 온라인 랭킹 재산정을 담당합니다.
+ * INCREMENTAL 모드에서는 마지막 재산정 이후 변경된 점수 구간만 다시 계산하며,
+ * 기동 후 첫 재산정과 FULL 모드는 전체 테이블 재계산(bulkUpdateRanking)을 수행하고, 바뀐 티어를 반영하도록 커밋 후 랭킹 인덱스를 재구성합니다.
+ * 가입과 탈퇴는 그보다 낮은 점수의 순위만 한 번의 UPDATE로 옮기고, 전체 사용자 수에 따른 percentile과 tier 변화는 일일 배치에 맡깁니다.
+ * 온라인 변경은 users 테이블의 순위에만 반영되며, 랭킹 스냅샷은 일일 배치의 랭킹 단계에서만 새로 만듭니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -16,9 +24,41 @@ public class RankingRecalculationService {
 
     private static final Duration DEBOUNCE_DURATION = Duration.ofMinutes(5);
     private final UserRepository userRepository;
-    private final RankingService rankingService;
+    private final IncrementalRankingUpdater incrementalRankingUpdater;
+    private final RankingJdbcRepository rankingJdbcRepository;
+    private final RankingIndexService rankingIndexService;
     private volatile LocalDateTime lastRecalculationTime = null;
 
+    @Value("${app.ranking.recalculation.mode:INCREMENTAL}")
+    private RankingRecalculationMode mode = RankingRecalculationMode.INCREMENTAL;
+
+    private boolean fullRecalculationRequired = true;
+    private int pendingLowScore = Integer.MAX_VALUE;
+    private int pendingHighScore = Integer.MIN_VALUE;
+
+    public synchronized void recordScoreChange(int previousScore, int newScore) {
+        pendingLowScore = Math.min(pendingLowScore, Math.min(previousScore, newScore));
+        pendingHighScore = Math.max(pendingHighScore, Math.max(previousScore, newScore));
+    }
+
+    /**
+     * 새 사용자보다 낮은 점수의 사용자 순위를 하나씩 내립니다. 호출한 쪽 트랜잭션에서 실행됩니다.
+     */
+    public void shiftRanksForAddedUser(int score) {
+        int shiftedCount = rankingJdbcRepository.shiftRanksBelow(score, 1);
+
+        log.debug("가입에 따른 순위 이동 - 점수: {}, 대상: {}건", score, shiftedCount);
+    }
+
+    /**
+     * 탈퇴한 사용자보다 낮은 점수의 사용자 순위를 하나씩 올립니다. 호출한 쪽 트랜잭션에서 실행됩니다.
+     */
+    public void shiftRanksForRemovedUser(int score) {
+        int shiftedCount = rankingJdbcRepository.shiftRanksBelow(score, -1);
+
+        log.debug("탈퇴에 따른 순위 이동 - 점수: {}, 대상: {}건", score, shiftedCount);
+    }
+
     @Transactional
     public synchronized boolean recalculateIfNeeded() {
         LocalDateTime now = LocalDateTime.now();
@@ -27,15 +67,42 @@ public class RankingRecalculationService {
             return false;
         }
 
-        userRepository.bulkUpdateRanking();
+        if (mode == RankingRecalculationMode.FULL || fullRecalculationRequired) {
+            userRepository.bulkUpdateRanking();
+            rankingIndexService.rebuildAfterCommit();
+        } else if (!recalculateIncrementally()) {
+            return false;
+        }
+
+        clearPendingChanges();
         lastRecalculationTime = now;
-        rankingService.evictRankingCache();
 
         log.debug("랭킹 재산정 완료");
 
         return true;
     }
 
+    private boolean recalculateIncrementally() {
+        if (pendingLowScore > pendingHighScore) {
+            return false;
+        }
+
+        // 현재 트랜잭션의 점수 변경이 JDBC 조회에 보이도록 먼저 반영합니다.
+        userRepository.flush();
+
+        int updatedCount = incrementalRankingUpdater.updateScoreRange(pendingLowScore, pendingHighScore);
+
+        log.debug("증분 랭킹 재산정 - 갱신 건수: {}", updatedCount);
+
+        return true;
+    }
+
+    private void clearPendingChanges() {
+        fullRecalculationRequired = false;
+        pendingLowScore = Integer.MAX_VALUE;
+        pendingHighScore = Integer.MIN_VALUE;
+    }
+
     private boolean shouldSkipRecalculation(LocalDateTime now) {
         if (lastRecalculationTime == null) {
             return false;
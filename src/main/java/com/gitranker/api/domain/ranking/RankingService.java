@@ -1,57 +1,76 @@
 package com.gitranker.api.domain.ranking;
 
+import com.gitranker.api.domain.ranking.dto.RankingAround;
+import com.gitranker.api.domain.ranking.dto.RankingCursorList;
 import com.gitranker.api.domain.ranking.dto.RankingList;
 import com.gitranker.api.domain.user.Tier;
-import com.gitranker.api.domain.user.User;
-import com.gitranker.api.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.Optional;
 
+/**
+ * 랭킹 조회 서비스. 현재 공개된 스냅샷 버전으로 캐시된 페이지를 조회합니다.
+ * 새 스냅샷은 캐시 예열이 끝난 뒤 현재 버전으로 전환되므로, 전환 직후에도 캐시 미스가 몰리지 않습니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RankingService {
 
-    private static final int DEFAULT_PAGE_SIZE = 20;
+    private final RankingPageReader rankingPageReader;
+    private final RankingAroundReader rankingAroundReader;
+    private final RankingSnapshotService rankingSnapshotService;
 
-    private final UserRepository userRepository;
+    /**
+     * 공개된 스냅샷 버전으로 만든 ETag를 반환합니다. 스냅샷 조회 결과는 버전이 같으면 바뀌지 않습니다.
+     * 스냅샷이 없으면 users를 직접 조회하므로 검증자를 제공하지 않습니다.
+     */
+    public Optional<String> getSnapshotETag() {
+        long version = rankingSnapshotService.getCurrentVersion();
+        if (version == RankingSnapshotService.NO_SNAPSHOT) {
+            return Optional.empty();
+        }
+
+        return Optional.of("\"ranking-v" + version + "\"");
+    }
 
-    @Cacheable(value = "rankings", key = "'page:' + #page + ':tier:' + #tier")
-    @Transactional(readOnly = true)
     public RankingList getRankingList(int page, Tier tier) {
-        PageRequest pageable = PageRequest.of(page, DEFAULT_PAGE_SIZE);
-        Page<User> userPage;
+        long version = rankingSnapshotService.getCurrentVersion();
 
-        if (tier == null) {
-            userPage = userRepository.findAllByOrderByScoreValueDesc(pageable);
-        } else {
-            userPage = userRepository.findAllByRankInfoTierOrderByScoreValueDesc(tier, pageable);
-        }
+        log.debug("랭킹 리스트 조회 - Version: {}, Page: {}, Tier: {}", version, page + 1, tier);
+
+        return rankingPageReader.read(version, page, tier);
+    }
+
+    /**
+     * (total_score, id) 커서 이후의 랭킹을 조회합니다. OFFSET과 COUNT 없이 점수 인덱스를 탐색합니다.
+     */
+    public RankingCursorList getRankingListByCursor(String cursor, Tier tier) {
+        long version = rankingSnapshotService.getCurrentVersion();
 
-        List<User> userList = userPage.getContent();
+        log.debug("랭킹 리스트 커서 조회 - Version: {}, Tier: {}", version, tier);
 
-        List<RankingList.UserInfo> userInfo = userList.stream()
-                .map(user -> RankingList.UserInfo.from(user, user.getRanking()))
-                .toList();
+        return rankingPageReader.readByCursor(version, cursor, tier);
+    }
 
-        Page<RankingList.UserInfo> rankingPage = new PageImpl<>(userInfo, pageable, userPage.getTotalElements());
+    /**
+     * 사용자 위아래 size명의 랭킹을 조회합니다.
+     */
+    public RankingAround getRankingAround(String username, int size) {
+        long version = rankingSnapshotService.getCurrentVersion();
 
-        log.debug("랭킹 리스트 조회 - Page: {}, Tier: {}", page + 1, tier);
+        log.debug("주변 랭킹 조회 - Version: {}, Size: {}", version, size);
 
-        return RankingList.from(rankingPage);
+        return rankingAroundReader.readByUsername(version, username, size);
     }
 
-    @CacheEvict(value = "rankings", allEntries = true)
-    public void evictRankingCache() {
-        log.debug("랭킹 캐시 무효화");
+    public RankingAround getRankingAroundByNodeId(String nodeId, int size) {
+        long version = rankingSnapshotService.getCurrentVersion();
+
+        log.debug("주변 랭킹 조회 - Version: {}, Size: {}", version, size);
+
+        return rankingAroundReader.readByNodeId(version, nodeId, size);
     }
 }
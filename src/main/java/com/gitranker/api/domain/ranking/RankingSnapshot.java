@@ -0,0 +1,65 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.domain.user.Tier;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 특정 스냅샷 버전에서 확정된 사용자별 순위. INSERT ... SELECT로만 생성되며 이후 변경되지 않습니다.
+ */
+@Entity
+@Table(name = "ranking_snapshots",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_snapshot_user", columnNames = {"snapshot_version", "user_id"})
+        },
+        indexes = {
+                @Index(name = "idx_snapshot_score", columnList = "snapshot_version, total_score DESC, user_id"),
+                @Index(name = "idx_snapshot_tier_score", columnList = "snapshot_version, tier, total_score DESC, user_id"),
+                @Index(name = "idx_snapshot_node", columnList = "snapshot_version, node_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RankingSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "snapshot_version", nullable = false)
+    private long snapshotVersion;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "node_id", nullable = false)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private String username;
+
+    private String profileImage;
+
+    @Column(name = "total_score", nullable = false)
+    private int totalScore;
+
+    @Column(nullable = false)
+    private int ranking;
+
+    @Column(nullable = false)
+    private double percentile;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Tier tier;
+}
@@ -0,0 +1,7 @@
+package com.gitranker.api.domain.ranking;
+
+/**
+ * 인스턴스가 새 스냅샷 버전으로 전환하기 직전에 발행됩니다. 리스너는 현재 스레드에서 동기로 실행됩니다.
+ */
+public record RankingSnapshotActivatingEvent(long version, long previousVersion) {
+}
@@ -0,0 +1,4 @@
+package com.gitranker.api.domain.ranking;
+
+public record RankingSnapshotPublishedEvent(long version) {
+}
@@ -0,0 +1,52 @@
+package com.gitranker.api.domain.ranking;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface RankingSnapshotRepository extends JpaRepository<RankingSnapshot, Long> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO ranking_snapshots
+                (snapshot_version, user_id, node_id, username, profile_image, total_score, ranking, percentile, tier)
+            SELECT
+                :version, r.id, r.node_id, r.username, r.profile_image, r.total_score, r.new_rank, r.new_percentile * 100,
+                CASE
+                    WHEN r.new_percentile <= 0.01 AND r.total_score >= 2000 THEN 'CHALLENGER'
+                    WHEN r.new_percentile <= 0.05 AND r.total_score >= 2000 THEN 'MASTER'
+                    WHEN r.new_percentile <= 0.12 AND r.total_score >= 2000 THEN 'DIAMOND'
+                    WHEN r.new_percentile <= 0.25 AND r.total_score >= 2000 THEN 'EMERALD'
+                    WHEN r.new_percentile <= 0.45 AND r.total_score >= 2000 THEN 'PLATINUM'
+                    WHEN r.total_score >= 1500 THEN 'GOLD'
+                    WHEN r.total_score >= 1000 THEN 'SILVER'
+                    WHEN r.total_score >= 500 THEN 'BRONZE'
+                    ELSE 'IRON'
+                END
+            FROM (
+                SELECT
+                    id, node_id, username, profile_image, total_score,
+                    RANK() OVER (ORDER BY total_score DESC) AS new_rank,
+                    CUME_DIST() OVER (ORDER BY total_score DESC) AS new_percentile
+                FROM users
+            ) r
+            """, nativeQuery = true)
+    int insertFromUsers(@Param("version") long version);
+
+    Page<RankingSnapshot> findBySnapshotVersionOrderByTotalScoreDescUserIdAsc(long snapshotVersion, Pageable pageable);
+
+    Optional<RankingSnapshot> findBySnapshotVersionAndUserId(long snapshotVersion, Long userId);
+
+    @Modifying
+    @Query("""
+            DELETE FROM RankingSnapshot s
+            WHERE s.snapshotVersion < :version
+              AND s.snapshotVersion IN (SELECT v.id FROM RankingSnapshotVersion v WHERE v.publishedAt IS NOT NULL)
+            """)
+    int deletePublishedOlderThan(@Param("version") long version);
+}
@@ -0,0 +1,119 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.global.logging.Event;
+import com.gitranker.api.global.logging.LogContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * 현재 공개된 랭킹 스냅샷 버전을 관리합니다.
+ * 버전 값은 메모리에 두고 주기적으로 DB와 동기화하므로, 다른 인스턴스에서 공개한 스냅샷도 반영됩니다.
+ * 스냅샷은 일일 배치의 랭킹 단계에서만 발행되며, 공개된 스냅샷이 없는 동안 읽기 측은 users 테이블을 직접 조회합니다.
+ * 새 버전은 랭킹 캐시 예열이 끝난 뒤에 현재 버전으로 전환됩니다. 배치가 users에 반영한 순위로 티어가 바뀌었으므로
+ * 전환 전에 메모리 순위 인덱스도 다시 구성합니다.
+ * 전환 직전에 {@link RankingSnapshotActivatingEvent}를 발행해 사용자별 캐시가 바뀐 항목만 정리하게 합니다.
+ */
+@Slf4j
+@Service
+@EnableScheduling
+@RequiredArgsConstructor
+public class RankingSnapshotService {
+
+    public static final long NO_SNAPSHOT = 0L;
+
+    private final RankingSnapshotVersionRepository rankingSnapshotVersionRepository;
+    private final RankingSnapshotRepository rankingSnapshotRepository;
+    private final RankingCacheWarmer rankingCacheWarmer;
+    private final RankingIndexService rankingIndexService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Executor activationExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ranking-snapshot-activation");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile long currentVersion = NO_SNAPSHOT;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refreshCurrentVersion();
+    }
+
+    public long getCurrentVersion() {
+        return currentVersion;
+    }
+
+    public boolean hasSnapshot() {
+        return currentVersion != NO_SNAPSHOT;
+    }
+
+    public Optional<RankingSnapshot> findCurrentEntry(Long userId) {
+        long version = currentVersion;
+        if (version == NO_SNAPSHOT || userId == null) {
+            return Optional.empty();
+        }
+
+        return rankingSnapshotRepository.findBySnapshotVersionAndUserId(version, userId);
+    }
+
+    /**
+     * 다른 인스턴스가 공개한 버전을 확인합니다. 캐시 예열은 스케줄러 스레드를 막지 않도록 전용 스레드에서 합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.ranking.snapshot.poll-interval-ms:10000}")
+    public void refreshCurrentVersion() {
+        rankingSnapshotVersionRepository.findTopByPublishedAtIsNotNullOrderByIdDesc()
+                .filter(version -> version.getId() > currentVersion)
+                .ifPresent(version -> activateAsync(version.getId()));
+    }
+
+    @TransactionalEventListener
+    public void onSnapshotPublished(RankingSnapshotPublishedEvent event) {
+        activateAsync(event.version());
+    }
+
+    private void activateAsync(long version) {
+        activationExecutor.execute(() -> activate(version));
+    }
+
+    synchronized void activate(long version) {
+        if (version <= currentVersion) {
+            return;
+        }
+
+        rankingCacheWarmer.warm(version);
+        rebuildRankingIndex(version);
+
+        long previousVersion = currentVersion;
+        eventPublisher.publishEvent(new RankingSnapshotActivatingEvent(version, previousVersion));
+        currentVersion = version;
+        rankingCacheWarmer.evictOlderThan(version);
+
+        LogContext.event(Event.RANKING_SNAPSHOT_PUBLISHED)
+                .with("snapshot_version", version)
+                .with("previous_version", previousVersion)
+                .with("phase", "switch")
+                .debug();
+    }
+
+    /**
+     * 실패해도 전환은 계속합니다. 인덱스는 주기 검증에서 다시 구성됩니다.
+     */
+    private void rebuildRankingIndex(long version) {
+        try {
+            rankingIndexService.rebuild();
+        } catch (RuntimeException e) {
+            log.warn("랭킹 인덱스 재구성 실패 - Version: {}", version, e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.gitranker.api.domain.ranking;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 랭킹 스냅샷 세대. published_at이 채워진 가장 큰 id가 현재 스냅샷이며,
+ * 이 컬럼 한 건의 갱신이 스냅샷 교체 시점이 됩니다.
+ */
+@Entity
+@Table(name = "ranking_snapshot_versions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RankingSnapshotVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private long userCount;
+
+    @Column(updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    public static RankingSnapshotVersion create() {
+        RankingSnapshotVersion version = new RankingSnapshotVersion();
+        version.createdAt = LocalDateTime.now();
+
+        return version;
+    }
+
+    public void recordUserCount(long userCount) {
+        this.userCount = userCount;
+    }
+
+    public void publish() {
+        this.publishedAt = LocalDateTime.now();
+    }
+
+    public boolean isPublished() {
+        return publishedAt != null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.gitranker.api.domain.ranking;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface RankingSnapshotVersionRepository extends JpaRepository<RankingSnapshotVersion, Long> {
+
+    Optional<RankingSnapshotVersion> findTopByPublishedAtIsNotNullOrderByIdDesc();
+
+    Optional<RankingSnapshotVersion> findTopByPublishedAtIsNotNullAndIdLessThanOrderByIdDesc(Long id);
+
+    /**
+     * 공개된 버전만 삭제합니다. 배치가 구간별로 반영 중인 미공개 버전은 남겨 둡니다.
+     */
+    @Modifying
+    @Query("DELETE FROM RankingSnapshotVersion v WHERE v.id < :version AND v.publishedAt IS NOT NULL")
+    int deletePublishedOlderThan(@Param("version") Long version);
+}
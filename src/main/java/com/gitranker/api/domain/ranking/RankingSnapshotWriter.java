@@ -0,0 +1,65 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.global.error.ErrorType;
+import com.gitranker.api.global.error.exception.BusinessException;
+import com.gitranker.api.global.logging.Event;
+import com.gitranker.api.global.logging.LogContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * users 테이블로부터 새 랭킹 스냅샷을 만들고 공개합니다.
+ * 공개 이벤트는 트랜잭션 커밋 이후에 전달되므로, 읽기 측은 커밋된 스냅샷만 바라봅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RankingSnapshotWriter {
+
+    private final RankingSnapshotRepository rankingSnapshotRepository;
+    private final RankingSnapshotVersionRepository rankingSnapshotVersionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public long createSnapshot() {
+        long startTime = System.currentTimeMillis();
+        RankingSnapshotVersion version = rankingSnapshotVersionRepository.save(RankingSnapshotVersion.create());
+
+        int userCount = rankingSnapshotRepository.insertFromUsers(version.getId());
+        version.recordUserCount(userCount);
+
+        LogContext.event(Event.RANKING_SNAPSHOT_CREATED)
+                .with("snapshot_version", version.getId())
+                .with("total_count", userCount)
+                .with("duration_ms", System.currentTimeMillis() - startTime)
+                .info();
+
+        return version.getId();
+    }
+
+    /**
+     * 스냅샷을 현재 버전으로 공개하고, 직전 버전보다 오래된 공개 스냅샷을 정리합니다.
+     * 아직 공개되지 않은 버전은 다른 배치가 구간별로 반영 중일 수 있으므로 정리 대상에서 제외합니다.
+     */
+    @Transactional
+    public void publish(long versionId) {
+        RankingSnapshotVersion version = rankingSnapshotVersionRepository.findById(versionId)
+                .orElseThrow(() -> new BusinessException(ErrorType.DEFAULT_ERROR, "snapshot version not found"));
+
+        rankingSnapshotVersionRepository.findTopByPublishedAtIsNotNullAndIdLessThanOrderByIdDesc(versionId)
+                .ifPresent(previous -> {
+                    rankingSnapshotRepository.deletePublishedOlderThan(previous.getId());
+                    rankingSnapshotVersionRepository.deletePublishedOlderThan(previous.getId());
+                });
+
+        version.publish();
+
+        LogContext.event(Event.RANKING_SNAPSHOT_PUBLISHED)
+                .with("snapshot_version", versionId)
+                .with("total_count", version.getUserCount())
+                .info();
+
+        eventPublisher.publishEvent(new RankingSnapshotPublishedEvent(versionId));
+    }
+}
@@ -0,0 +1,50 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.domain.ranking.dto.RankingStatistics;
+import com.gitranker.api.domain.ranking.dto.RankingStatistics.ScoreBucket;
+import com.gitranker.api.domain.user.Tier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 티어 분포와 점수 히스토그램을 users 테이블 집계 없이 제공합니다.
+ * 두 값 모두 등록/갱신/탈퇴/배치가 커밋될 때마다 반영되는 메모리 순위 인덱스에서 계산합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RankingStatisticsService {
+
+    private final RankingIndexService rankingIndexService;
+
+    @Value("${app.ranking.statistics.bucket-size:250}")
+    private int bucketSize = 250;
+
+    @Value("${app.ranking.statistics.bucket-count:20}")
+    private int bucketCount = 20;
+
+    public RankingStatistics getStatistics() {
+        Map<Tier, Long> tierCounts = rankingIndexService.countByTier();
+        long totalUsers = tierCounts.values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+
+        return new RankingStatistics(totalUsers, tierCounts, scoreHistogram());
+    }
+
+    private List<ScoreBucket> scoreHistogram() {
+        List<Long> counts = rankingIndexService.countByScoreBuckets(bucketSize, bucketCount);
+
+        List<ScoreBucket> buckets = new ArrayList<>(counts.size());
+        for (int bucket = 0; bucket < counts.size(); bucket++) {
+            Integer maxScore = bucket == counts.size() - 1 ? null : (bucket + 1) * bucketSize;
+            buckets.add(new ScoreBucket(bucket * bucketSize, maxScore, counts.get(bucket)));
+        }
+
+        return buckets;
+    }
+}
@@ -0,0 +1,94 @@
+package com.gitranker.api.domain.ranking;
+
+import java.util.Arrays;
+
+/**
+ * 점수 1점 단위 버킷 위에 구성한 Fenwick 트리 기반 순위 인덱스.
+ * RANK() / CUME_DIST()와 동일한 기준의 집계를 O(log n)에 제공하며, 동기화는 호출 측에서 담당합니다.
+ */
+class ScoreRankIndex {
+
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    private int[] tree;
+    private int capacity;
+    private long size;
+
+    ScoreRankIndex() {
+        this.capacity = INITIAL_CAPACITY;
+        this.tree = new int[capacity + 1];
+    }
+
+    void add(int score) {
+        ensureCapacity(score);
+        update(score + 1, 1);
+        size++;
+    }
+
+    void remove(int score) {
+        if (score < 0 || score >= capacity) {
+            return;
+        }
+
+        update(score + 1, -1);
+        size--;
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * 주어진 점수보다 높은 점수를 가진 항목 수 (RANK() - 1).
+     */
+    long countGreaterThan(int score) {
+        if (score < 0) {
+            return size;
+        }
+
+        return size - prefixSum(score + 1);
+    }
+
+    /**
+     * 주어진 점수 이상인 항목 수 (CUME_DIST() * 전체 수).
+     */
+    long countAtLeast(int score) {
+        if (score <= 0) {
+            return size;
+        }
+
+        return size - prefixSum(score);
+    }
+
+    private void update(int position, int delta) {
+        for (int i = position; i <= capacity; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private long prefixSum(int position) {
+        long sum = 0;
+
+        for (int i = Math.min(position, capacity); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+
+        return sum;
+    }
+
+    private void ensureCapacity(int score) {
+        if (score < 0) {
+            throw new IllegalArgumentException("score must not be negative: " + score);
+        }
+
+        while (score >= capacity) {
+            int newCapacity = capacity << 1;
+            int[] grown = Arrays.copyOf(tree, newCapacity + 1);
+            // 2의 거듭제곱 노드는 (0, newCapacity] 전체 구간을 담당하므로 기존 전체 개수와 같습니다.
+            grown[newCapacity] = (int) size;
+
+            tree = grown;
+            capacity = newCapacity;
+        }
+    }
+}
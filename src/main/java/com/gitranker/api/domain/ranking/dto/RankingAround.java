@@ -0,0 +1,10 @@
+package com.gitranker.api.domain.ranking.dto;
+
+import java.util.List;
+
+public record RankingAround(
+        List<RankingList.UserInfo> above,
+        RankingList.UserInfo user,
+        List<RankingList.UserInfo> below
+) {
+}
@@ -0,0 +1,10 @@
+package com.gitranker.api.domain.ranking.dto;
+
+import java.util.List;
+
+public record RankingCursorList(
+        List<RankingList.UserInfo> rankings,
+        String nextCursor,
+        boolean hasNext
+) {
+}
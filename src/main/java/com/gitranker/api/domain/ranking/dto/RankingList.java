@@ -1,5 +1,6 @@
 package com.gitranker.api.domain.ranking.dto;
 
+import com.gitranker.api.domain.ranking.RankingSnapshot;
 import com.gitranker.api.domain.user.Tier;
 import com.gitranker.api.domain.user.User;
 import org.springframework.data.domain.Page;
@@ -40,6 +41,16 @@ public record RankingList(
                     user.getTier()
             );
         }
+
+        public static UserInfo from(RankingSnapshot snapshot) {
+            return new UserInfo(
+                    snapshot.getUsername(),
+                    snapshot.getProfileImage(),
+                    snapshot.getRanking(),
+                    snapshot.getTotalScore(),
+                    snapshot.getTier()
+            );
+        }
     }
 
     public record PageInfo(
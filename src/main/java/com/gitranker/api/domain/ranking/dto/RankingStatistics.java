@@ -0,0 +1,22 @@
+package com.gitranker.api.domain.ranking.dto;
+
+import com.gitranker.api.domain.user.Tier;
+
+import java.util.List;
+import java.util.Map;
+
+public record RankingStatistics(
+        long totalUsers,
+        Map<Tier, Long> tierCounts,
+        List<ScoreBucket> scoreHistogram
+) {
+    /**
+     * [minScore, maxScore) 구간의 사용자 수. 마지막 구간의 maxScore는 null입니다.
+     */
+    public record ScoreBucket(
+            int minScore,
+            Integer maxScore,
+            long userCount
+    ) {
+    }
+}
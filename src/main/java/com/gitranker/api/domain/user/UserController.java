@@ -15,6 +15,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @Validated
 @RequiredArgsConstructor
 @RestController
@@ -37,7 +39,7 @@ public class UserController {
     }
 
     @PostMapping("/{username}/refresh")
-    public ApiResponse<RegisterUserResponse> refreshUser(
+    public CompletableFuture<ApiResponse<RegisterUserResponse>> refreshUser(
             @PathVariable @Pattern(regexp = USERNAME_PATTERN, message = USERNAME_MESSAGE) String username,
             @AuthenticationPrincipal User user
     ) {
@@ -49,9 +51,8 @@ public class UserController {
             throw new BusinessException(ErrorType.FORBIDDEN);
         }
 
-        RegisterUserResponse response = userRefreshService.refresh(username);
-
-        return ApiResponse.success(response);
+        return userRefreshService.refreshAsync(username)
+                .thenApply(ApiResponse::success);
     }
 
     @DeleteMapping("/me")
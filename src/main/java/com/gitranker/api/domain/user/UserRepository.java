@@ -1,13 +1,18 @@
 package com.gitranker.api.domain.user;
 
+import com.gitranker.api.domain.user.dto.TierCount;
+import com.gitranker.api.domain.user.dto.UserScore;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,10 +24,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByUsername(String username);
 
+    boolean existsByUsername(String username);
+
+    List<User> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
     long countByScoreValueGreaterThan(int value);
 
     long countByCreatedAtAfter(LocalDateTime dateTime);
 
+    @Query("SELECT new com.gitranker.api.domain.user.dto.UserScore(u.id, u.score.value, u.rankInfo.tier) FROM User u")
+    List<UserScore> findAllScores();
+
+    @Query("SELECT new com.gitranker.api.domain.user.dto.TierCount(u.rankInfo.tier, COUNT(u)) FROM User u GROUP BY u.rankInfo.tier")
+    List<TierCount> countByTier();
+
     @Modifying(clearAutomatically = true)
     @Query(value = """
                         UPDATE users u
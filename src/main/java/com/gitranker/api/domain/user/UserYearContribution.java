@@ -0,0 +1,81 @@
+package com.gitranker.api.domain.user;
+
+import com.gitranker.api.domain.user.vo.ActivityStatistics;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자의 연도별 기여 합계. 지난 연도는 거의 바뀌지 않으므로 새로고침 때 다시 조회하지 않고 재사용합니다.
+ * 머지된 PR 수는 연도별로 나눠 조회하지 않으므로 저장하지 않습니다.
+ */
+@Entity
+@Table(name = "user_year_contributions",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_user_year_contribution", columnNames = {"user_id", "contribution_year"})
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserYearContribution {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "contribution_year", nullable = false)
+    private int year;
+
+    @Column(nullable = false)
+    private int commitCount;
+
+    @Column(nullable = false)
+    private int issueCount;
+
+    @Column(nullable = false)
+    private int prCount;
+
+    @Column(nullable = false)
+    private int reviewCount;
+
+    @Column(nullable = false)
+    private LocalDateTime fetchedAt;
+
+    private UserYearContribution(User user, int year) {
+        this.user = user;
+        this.year = year;
+    }
+
+    public static UserYearContribution of(User user, int year, ActivityStatistics stats, LocalDateTime fetchedAt) {
+        UserYearContribution contribution = new UserYearContribution(user, year);
+        contribution.update(stats, fetchedAt);
+        return contribution;
+    }
+
+    public void update(ActivityStatistics stats, LocalDateTime fetchedAt) {
+        this.commitCount = stats.getCommitCount();
+        this.issueCount = stats.getIssueCount();
+        this.prCount = stats.getPrOpenedCount();
+        this.reviewCount = stats.getReviewCount();
+        this.fetchedAt = fetchedAt;
+    }
+
+    public ActivityStatistics toActivityStatistics() {
+        return ActivityStatistics.of(commitCount, issueCount, prCount, 0, reviewCount);
+    }
+}
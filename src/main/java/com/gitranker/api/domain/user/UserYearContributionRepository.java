@@ -0,0 +1,12 @@
+package com.gitranker.api.domain.user;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface UserYearContributionRepository extends JpaRepository<UserYearContribution, Long> {
+
+    List<UserYearContribution> findAllByUser(User user);
+
+    void deleteAllByUser(User user);
+}
@@ -0,0 +1,6 @@
+package com.gitranker.api.domain.user.dto;
+
+import com.gitranker.api.domain.user.Tier;
+
+public record TierCount(Tier tier, long userCount) {
+}
@@ -2,8 +2,8 @@ package com.gitranker.api.domain.user.service;
 
 import com.gitranker.api.domain.user.User;
 import com.gitranker.api.domain.user.vo.ActivityStatistics;
+import com.gitranker.api.domain.user.vo.YearlyContributions;
 import com.gitranker.api.infrastructure.github.GitHubDataMapper;
-import com.gitranker.api.infrastructure.github.dto.GitHubAllActivitiesResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -19,13 +19,13 @@ public class BaselineStatsCalculator {
 
     private final GitHubDataMapper gitHubDataMapper;
 
-    public ActivityStatistics calculate(User user, GitHubAllActivitiesResponse rawResponse) {
+    public ActivityStatistics calculate(User user, YearlyContributions contributions) {
         int currentYear = LocalDate.now().getYear();
         int userJoinYear = user.getGithubCreatedAt().getYear();
 
         if (userJoinYear < currentYear) {
             int lastYear = currentYear - 1;
-            return gitHubDataMapper.calculateStatisticsUntilYear(rawResponse, lastYear);
+            return gitHubDataMapper.calculateStatisticsUntilYear(contributions.byYear(), lastYear);
         }
 
         return null;
@@ -1,10 +1,14 @@
 package com.gitranker.api.domain.user.service;
 
 import com.gitranker.api.domain.auth.RefreshTokenRepository;
+import com.gitranker.api.domain.badge.BadgeCache;
 import com.gitranker.api.domain.failure.BatchFailureLogRepository;
 import com.gitranker.api.domain.log.ActivityLogRepository;
+import com.gitranker.api.domain.ranking.RankingIndexService;
+import com.gitranker.api.domain.ranking.RankingRecalculationService;
 import com.gitranker.api.domain.user.User;
 import com.gitranker.api.domain.user.UserRepository;
+import com.gitranker.api.domain.user.UserYearContributionRepository;
 import com.gitranker.api.global.logging.Event;
 import com.gitranker.api.global.logging.LogContext;
 import com.gitranker.api.global.metrics.BusinessMetrics;
@@ -12,6 +16,7 @@ import com.gitranker.api.global.util.CookieUtils;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,7 +29,11 @@ public class UserDeletionService {
     private final ActivityLogRepository activityLogRepository;
     private final BatchFailureLogRepository batchFailureLogRepository;
     private final UserRepository userRepository;
+    private final UserYearContributionRepository yearContributionRepository;
     private final BusinessMetrics businessMetrics;
+    private final RankingIndexService rankingIndexService;
+    private final RankingRecalculationService rankingRecalculationService;
+    private final BadgeCache badgeCache;
 
     @Value("${app.cookie.domain}")
     private String cookieDomain;
@@ -33,14 +42,19 @@ public class UserDeletionService {
     private boolean isCookieSecure;
 
     @Transactional
+    @CacheEvict(value = "profiles", key = "#user.username")
     public void deleteAccount(User user, HttpServletResponse response) {
         String username = user.getUsername();
         String nodeId = user.getNodeId();
 
         refreshTokenRepository.deleteAllByUser(user);
         activityLogRepository.deleteAllByUser(user);
+        yearContributionRepository.deleteAllByUser(user);
         batchFailureLogRepository.deleteAllByTargetId(username);
         userRepository.delete(user);
+        rankingIndexService.onUserRemoved(user.getId());
+        badgeCache.evict(nodeId);
+        rankingRecalculationService.shiftRanksForRemovedUser(user.getTotalScore());
 
         clearRefreshTokenCookie(response);
 
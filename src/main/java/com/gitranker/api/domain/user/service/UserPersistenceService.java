@@ -1,6 +1,9 @@
 package com.gitranker.api.domain.user.service;
 
+import com.gitranker.api.domain.badge.BadgeCache;
 import com.gitranker.api.domain.log.ActivityLogOrchestrator;
+import com.gitranker.api.domain.ranking.RankingIndexService;
+import com.gitranker.api.domain.ranking.RankingIndexService.RankPosition;
 import com.gitranker.api.domain.ranking.RankingRecalculationService;
 import com.gitranker.api.domain.user.User;
 import com.gitranker.api.domain.user.UserRepository;
@@ -9,7 +12,10 @@ import com.gitranker.api.global.error.ErrorType;
 import com.gitranker.api.global.error.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -20,30 +26,57 @@ public class UserPersistenceService {
     private final UserRepository userRepository;
     private final ActivityLogOrchestrator activityLogOrchestrator;
     private final RankingRecalculationService rankingRecalculationService;
+    private final RankingIndexService rankingIndexService;
+    private final BadgeCache badgeCache;
 
     @Transactional
     public User saveNewUser(User newUser, ActivityStatistics totalStats, ActivityStatistics baselineStats) {
         int newScore = totalStats.calculateScore().getValue();
-        long higherScoreCount = userRepository.countByScoreValueGreaterThan(newScore);
-        long totalUserCount = userRepository.count() + 1;
+        RankPosition position = rankingIndexService.positionOf(null, newScore);
 
-        newUser.updateActivityStatistics(totalStats, higherScoreCount, totalUserCount);
+        newUser.updateActivityStatistics(totalStats, position.higherScoreCount(), position.totalUserCount());
         userRepository.save(newUser);
+        rankingIndexService.onScoreChanged(newUser.getId(), newScore, newUser.getTier());
 
         activityLogOrchestrator.createLogsForNewUser(newUser, totalStats, baselineStats);
 
+        rankingRecalculationService.shiftRanksForAddedUser(newScore);
         rankingRecalculationService.recalculateIfNeeded();
 
         return newUser;
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = "profiles", key = "#user.username", beforeInvocation = true),
+            @CacheEvict(value = "profiles", key = "#newUsername")
+    })
     public User updateProfile(User user, String newUsername, String newProfileImage, String newEmail) {
         user.updateProfile(newUsername, newProfileImage, newEmail);
+        badgeCache.evict(user.getNodeId());
 
         return userRepository.save(user);
     }
 
+    /**
+     * 배치의 프로필 동기화용. 호출한 쪽 트랜잭션과 분리해 실행하므로 한 사용자의 갱신 실패가 단계 트랜잭션을 롤백 전용으로 만들지 않습니다.
+     * 실패한 변경이 바깥 영속성 컨텍스트에 남지 않도록 전달받은 엔티티 대신 새 트랜잭션에서 다시 읽어 갱신합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Caching(evict = {
+            @CacheEvict(value = "profiles", key = "#user.username", beforeInvocation = true),
+            @CacheEvict(value = "profiles", key = "#newUsername")
+    })
+    public User updateProfileInNewTransaction(User user, String newUsername, String newProfileImage, String newEmail) {
+        User managed = userRepository.findById(user.getId())
+                .orElseThrow(() -> new BusinessException(ErrorType.USER_NOT_FOUND));
+
+        managed.updateProfile(newUsername, newProfileImage, newEmail);
+        badgeCache.evict(managed.getNodeId());
+
+        return userRepository.saveAndFlush(managed);
+    }
+
     @Transactional
     public User updateUserStatisticsWithLog(Long userId,
                                             ActivityStatistics totalStats,
@@ -51,15 +84,18 @@ public class UserPersistenceService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorType.USER_NOT_FOUND));
 
+        int previousScore = user.getTotalScore();
         int newScore = totalStats.calculateScore().getValue();
-        long higherScoreCount = userRepository.countByScoreValueGreaterThan(newScore);
-        long totalUserCount = userRepository.count();
+        RankPosition position = rankingIndexService.positionOf(userId, newScore);
 
-        user.updateActivityStatistics(totalStats, higherScoreCount, totalUserCount);
+        user.updateActivityStatistics(totalStats, position.higherScoreCount(), position.totalUserCount());
         user.recordFullScan();
+        rankingIndexService.onScoreChanged(userId, newScore, user.getTier());
+        badgeCache.evict(user.getNodeId());
 
         activityLogOrchestrator.updateLogsForRefresh(user, totalStats, baselineStats);
 
+        rankingRecalculationService.recordScoreChange(previousScore, newScore);
         rankingRecalculationService.recalculateIfNeeded();
 
         return user;
@@ -0,0 +1,36 @@
+package com.gitranker.api.domain.user.service;
+
+import com.gitranker.api.domain.log.ActivityLog;
+import com.gitranker.api.domain.log.ActivityLogService;
+import com.gitranker.api.domain.user.User;
+import com.gitranker.api.domain.user.UserRepository;
+import com.gitranker.api.domain.user.dto.RegisterUserResponse;
+import com.gitranker.api.global.error.ErrorType;
+import com.gitranker.api.global.error.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 프로필 응답을 짧은 TTL로 캐시합니다. 같은 사용자에 대한 동시 캐시 미스는 {@code sync = true}로 한 번의 조회로 합쳐집니다.
+ * 조회 로그와 지표는 캐시 여부와 관계없이 호출 측에서 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserProfileReader {
+
+    private final UserRepository userRepository;
+    private final ActivityLogService activityLogService;
+
+    @Cacheable(value = "profiles", key = "#username", sync = true)
+    @Transactional(readOnly = true)
+    public RegisterUserResponse read(String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new BusinessException(ErrorType.USER_NOT_FOUND));
+
+        ActivityLog activityLog = activityLogService.getLatestLog(user);
+
+        return RegisterUserResponse.of(user, activityLog, false);
+    }
+}
@@ -1,40 +1,22 @@
 package com.gitranker.api.domain.user.service;
 
-import com.gitranker.api.domain.log.ActivityLog;
-import com.gitranker.api.domain.log.ActivityLogService;
-import com.gitranker.api.domain.user.User;
-import com.gitranker.api.domain.user.UserRepository;
 import com.gitranker.api.domain.user.dto.RegisterUserResponse;
-import com.gitranker.api.global.error.ErrorType;
-import com.gitranker.api.global.error.exception.BusinessException;
-import com.gitranker.api.global.logging.Event;
-import com.gitranker.api.global.logging.LogContext;
-import com.gitranker.api.global.metrics.BusinessMetrics;
+import com.gitranker.api.global.metrics.ViewCountAggregator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class UserQueryService {
 
-    private final UserRepository  userRepository;
-    private final ActivityLogService activityLogService;
-    private final BusinessMetrics businessMetrics;
+    private final UserProfileReader userProfileReader;
+    private final ViewCountAggregator viewCountAggregator;
 
     public RegisterUserResponse findByUsername(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BusinessException(ErrorType.USER_NOT_FOUND));
+        RegisterUserResponse response = userProfileReader.read(username);
 
-        ActivityLog activityLog = activityLogService.getLatestLog(user);
+        viewCountAggregator.recordProfileView(username);
 
-        LogContext.event(Event.PROFILE_VIEWED)
-                .with("target_username", username)
-                .info();
-
-        businessMetrics.incrementProfileViews();
-
-        return RegisterUserResponse.of(user, activityLog, false);
+        return response;
     }
 }
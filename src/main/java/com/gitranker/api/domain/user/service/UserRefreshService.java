@@ -6,17 +6,19 @@ import com.gitranker.api.domain.user.User;
 import com.gitranker.api.domain.user.UserRepository;
 import com.gitranker.api.domain.user.dto.RegisterUserResponse;
 import com.gitranker.api.domain.user.vo.ActivityStatistics;
+import com.gitranker.api.domain.user.vo.YearlyContributions;
 import com.gitranker.api.global.error.ErrorType;
 import com.gitranker.api.global.error.exception.BusinessException;
 import com.gitranker.api.global.logging.Event;
 import com.gitranker.api.global.logging.LogContext;
 import com.gitranker.api.global.metrics.BusinessMetrics;
-import com.gitranker.api.infrastructure.github.GitHubActivityService;
-import com.gitranker.api.infrastructure.github.GitHubDataMapper;
-import com.gitranker.api.infrastructure.github.dto.GitHubAllActivitiesResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -26,12 +28,16 @@ public class UserRefreshService {
     private final UserRepository userRepository;
     private final UserPersistenceService userPersistenceService;
     private final ActivityLogService activityLogService;
-    private final GitHubActivityService gitHubActivityService;
-    private final GitHubDataMapper gitHubDataMapper;
+    private final YearlyContributionService yearlyContributionService;
     private final BaselineStatsCalculator baselineStatsCalculator;
     private final BusinessMetrics businessMetrics;
 
-    public RegisterUserResponse refresh(String username) {
+    /**
+     * GitHub 응답을 기다리는 동안 요청 스레드를 점유하지 않습니다.
+     * 사용자 확인과 쿨다운 검사는 호출 스레드에서 바로 하고, 응답 이후의 저장은 boundedElastic 스레드에서 합니다.
+     */
+    @CacheEvict(value = "profiles", key = "#username")
+    public CompletableFuture<RegisterUserResponse> refreshAsync(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new BusinessException(ErrorType.USER_NOT_FOUND));
 
@@ -41,14 +47,19 @@ public class UserRefreshService {
 
         int oldScore = user.getTotalScore();
 
-        GitHubAllActivitiesResponse rawResponse = gitHubActivityService
-                .fetchRawAllActivities(username, user.getGithubCreatedAt());
+        return yearlyContributionService.collectAsync(user)
+                .publishOn(Schedulers.boundedElastic())
+                .map(contributions -> applyRefresh(user, oldScore, contributions))
+                .toFuture();
+    }
 
-        ActivityStatistics totalStats = gitHubDataMapper.toActivityStatistics(rawResponse);
-        ActivityStatistics baselineStats = baselineStatsCalculator.calculate(user, rawResponse);
+    private RegisterUserResponse applyRefresh(User user, int oldScore, YearlyContributions contributions) {
+        ActivityStatistics totalStats = contributions.total();
+        ActivityStatistics baselineStats = baselineStatsCalculator.calculate(user, contributions);
 
         User updatedUser = userPersistenceService.updateUserStatisticsWithLog(
                 user.getId(), totalStats, baselineStats);
+        yearlyContributionService.store(updatedUser, contributions);
 
         int scoreDiff = updatedUser.getTotalScore() - oldScore;
 
@@ -6,14 +6,12 @@ import com.gitranker.api.domain.user.User;
 import com.gitranker.api.domain.user.UserRepository;
 import com.gitranker.api.domain.user.dto.RegisterUserResponse;
 import com.gitranker.api.domain.user.vo.ActivityStatistics;
+import com.gitranker.api.domain.user.vo.YearlyContributions;
 import com.gitranker.api.global.auth.OAuthAttributes;
 import com.gitranker.api.global.logging.Event;
 import com.gitranker.api.global.logging.LogContext;
 import com.gitranker.api.global.logging.LogSanitizer;
 import com.gitranker.api.global.metrics.BusinessMetrics;
-import com.gitranker.api.infrastructure.github.GitHubActivityService;
-import com.gitranker.api.infrastructure.github.GitHubDataMapper;
-import com.gitranker.api.infrastructure.github.dto.GitHubAllActivitiesResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,8 +27,7 @@ public class UserRegistrationService {
     private final UserRepository userRepository;
     private final UserPersistenceService userPersistenceService;
     private final ActivityLogService activityLogService;
-    private final GitHubActivityService gitHubActivityService;
-    private final GitHubDataMapper gitHubDataMapper;
+    private final YearlyContributionService yearlyContributionService;
     private final BaselineStatsCalculator baselineStatsCalculator;
     private final BusinessMetrics businessMetrics;
 
@@ -44,13 +41,13 @@ public class UserRegistrationService {
     private RegisterUserResponse handleNewUser(OAuthAttributes attributes) {
         User newUser = attributes.toEntity();
 
-        GitHubAllActivitiesResponse rawResponse = gitHubActivityService
-                .fetchRawAllActivities(newUser.getUsername(), newUser.getGithubCreatedAt());
+        YearlyContributions contributions = yearlyContributionService.collect(newUser);
 
-        ActivityStatistics totalStats = gitHubDataMapper.toActivityStatistics(rawResponse);
-        ActivityStatistics baselineStats = baselineStatsCalculator.calculate(newUser, rawResponse);
+        ActivityStatistics totalStats = contributions.total();
+        ActivityStatistics baselineStats = baselineStatsCalculator.calculate(newUser, contributions);
 
         User savedUser = userPersistenceService.saveNewUser(newUser, totalStats, baselineStats);
+        yearlyContributionService.store(savedUser, contributions);
 
         LogContext.event(Event.USER_REGISTERED)
                 .with("username", savedUser.getUsername())
@@ -0,0 +1,130 @@
+package com.gitranker.api.domain.user.service;
+
+import com.gitranker.api.domain.user.User;
+import com.gitranker.api.domain.user.UserYearContribution;
+import com.gitranker.api.domain.user.UserYearContributionRepository;
+import com.gitranker.api.domain.user.vo.ActivityStatistics;
+import com.gitranker.api.domain.user.vo.YearlyContributions;
+import com.gitranker.api.global.logging.LogSanitizer;
+import com.gitranker.api.infrastructure.github.GitHubActivityService;
+import com.gitranker.api.infrastructure.github.GitHubDataMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 연도별 기여 합계 저장소를 이용해 전체 활동을 모읍니다.
+ * 올해와 저장되지 않았거나 오래된 지난 연도만 GitHub에서 조회하고, 나머지 연도는 저장된 값을 재사용합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class YearlyContributionService {
+
+    private final UserYearContributionRepository yearContributionRepository;
+    private final GitHubActivityService gitHubActivityService;
+    private final GitHubDataMapper gitHubDataMapper;
+    private final ZoneId appZoneId;
+
+    @Value("${app.contributions.past-year-revalidate-days:30}")
+    private int pastYearRevalidateDays = 30;
+
+    /**
+     * 저장된 연도와 새로 조회한 연도를 합쳐 반환합니다. 저장은 {@link #store(User, YearlyContributions)}에서 따로 합니다.
+     */
+    public YearlyContributions collect(User user) {
+        return collectAsync(user).block();
+    }
+
+    /**
+     * {@link #collect(User)}의 논블로킹 버전. 저장된 연도는 호출 스레드에서 바로 읽고, GitHub 응답은 기다리지 않습니다.
+     */
+    public Mono<YearlyContributions> collectAsync(User user) {
+        LocalDateTime now = LocalDateTime.now(appZoneId);
+        int joinYear = user.getGithubCreatedAt().getYear();
+        int currentYear = now.getYear();
+
+        Map<Integer, UserYearContribution> stored = findStored(user);
+
+        List<Integer> yearsToFetch = new ArrayList<>();
+        Map<Integer, ActivityStatistics> reused = new TreeMap<>();
+        for (int year = joinYear; year <= currentYear; year++) {
+            UserYearContribution contribution = stored.get(year);
+            if (needsFetch(contribution, year, now)) {
+                yearsToFetch.add(year);
+            } else {
+                reused.put(year, contribution.toActivityStatistics());
+            }
+        }
+
+        return gitHubActivityService
+                .fetchRawActivitiesForYearsAsync(user.getUsername(), user.getGithubCreatedAt(), yearsToFetch)
+                .map(response -> {
+                    Map<Integer, ActivityStatistics> fetched = gitHubDataMapper.toYearlyStatistics(response);
+                    Map<Integer, ActivityStatistics> byYear = new TreeMap<>(reused);
+                    byYear.putAll(fetched);
+
+                    log.debug("연도별 기여 조회 - 사용자: {}, 조회: {}개 연도, 재사용: {}개 연도",
+                            LogSanitizer.maskUsername(user.getUsername()), fetched.size(), reused.size());
+
+                    return new YearlyContributions(byYear, response.getMergedPRCount(), Set.copyOf(fetched.keySet()), now);
+                });
+    }
+
+    /**
+     * 이번에 새로 조회한 연도만 저장하거나 갱신합니다.
+     */
+    @Transactional
+    public void store(User user, YearlyContributions contributions) {
+        if (contributions.fetchedYears().isEmpty()) {
+            return;
+        }
+
+        Map<Integer, UserYearContribution> stored = findStored(user);
+        List<UserYearContribution> toSave = new ArrayList<>();
+        for (Integer year : contributions.fetchedYears()) {
+            ActivityStatistics stats = contributions.byYear().get(year);
+            UserYearContribution contribution = stored.get(year);
+            if (contribution == null) {
+                toSave.add(UserYearContribution.of(user, year, stats, contributions.fetchedAt()));
+            } else {
+                contribution.update(stats, contributions.fetchedAt());
+                toSave.add(contribution);
+            }
+        }
+
+        yearContributionRepository.saveAll(toSave);
+    }
+
+    /**
+     * 올해, 저장되지 않은 연도, 그 해가 끝나기 전에 저장된 연도, 재검증 주기가 지난 연도는 다시 조회합니다.
+     */
+    boolean needsFetch(UserYearContribution contribution, int year, LocalDateTime now) {
+        return year >= now.getYear()
+                || contribution == null
+                || contribution.getFetchedAt().getYear() <= year
+                || contribution.getFetchedAt().isBefore(now.minusDays(pastYearRevalidateDays));
+    }
+
+    private Map<Integer, UserYearContribution> findStored(User user) {
+        if (user.getId() == null) {
+            return Map.of();
+        }
+
+        return yearContributionRepository.findAllByUser(user).stream()
+                .collect(Collectors.toMap(UserYearContribution::getYear, Function.identity()));
+    }
+}
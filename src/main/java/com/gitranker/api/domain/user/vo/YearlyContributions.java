@@ -0,0 +1,25 @@
+package com.gitranker.api.domain.user.vo;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 가입 연도부터 올해까지의 연도별 기여 합계와 전체 머지된 PR 수.
+ * fetchedYears는 이번에 GitHub에서 새로 조회해 저장해야 하는 연도입니다.
+ */
+public record YearlyContributions(
+        Map<Integer, ActivityStatistics> byYear,
+        int mergedPRCount,
+        Set<Integer> fetchedYears,
+        LocalDateTime fetchedAt
+) {
+
+    public ActivityStatistics total() {
+        ActivityStatistics total = ActivityStatistics.of(0, 0, 0, mergedPRCount, 0);
+        for (ActivityStatistics stats : byYear.values()) {
+            total = total.merge(stats);
+        }
+        return total;
+    }
+}
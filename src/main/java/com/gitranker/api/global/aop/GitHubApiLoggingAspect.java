@@ -11,6 +11,7 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 @Aspect
 @Component
@@ -28,43 +29,53 @@ public class GitHubApiLoggingAspect {
         try {
             Object result = joinPoint.proceed();
 
-            long latency = System.currentTimeMillis() - start;
-
-            GitHubRateLimitInfo rateLimit = extractRateLimit(result);
-
-            LogContext ctx = LogContext.event(Event.GITHUB_API_CALLED)
-                    .with("operation", methodName)
-                    .with("target", "github_api")
-                    .with("latency_ms", latency)
-                    .with("outcome", "success");
-
-            if (rateLimit != null) {
-                ctx.with("cost", rateLimit.cost())
-                   .with("remaining", rateLimit.remaining());
+            if (result instanceof Mono<?> mono) {
+                return mono
+                        .doOnSuccess(value -> logSuccess(methodName, System.currentTimeMillis() - start, value))
+                        .doOnError(e -> logFailure(methodName, System.currentTimeMillis() - start, e));
             }
 
-            ctx.info();
-
-            apiMetrics.recordSuccess(latency);
+            logSuccess(methodName, System.currentTimeMillis() - start, result);
 
             return result;
 
         } catch (Exception e) {
-            long latency = System.currentTimeMillis() - start;
-
-            LogContext.event(Event.GITHUB_API_CALLED)
-                    .with("operation", methodName)
-                    .with("target", "github_api")
-                    .with("latency_ms", latency)
-                    .with("outcome", "failure")
-                    .with("error_type", e.getClass().getSimpleName())
-                    .with("error_message", e.getMessage())
-                    .error();
+            logFailure(methodName, System.currentTimeMillis() - start, e);
 
             throw e;
         }
     }
 
+    private void logSuccess(String methodName, long latency, Object result) {
+        GitHubRateLimitInfo rateLimit = extractRateLimit(result);
+
+        LogContext ctx = LogContext.event(Event.GITHUB_API_CALLED)
+                .with("operation", methodName)
+                .with("target", "github_api")
+                .with("latency_ms", latency)
+                .with("outcome", "success");
+
+        if (rateLimit != null) {
+            ctx.with("cost", rateLimit.cost())
+               .with("remaining", rateLimit.remaining());
+        }
+
+        ctx.info();
+
+        apiMetrics.recordSuccess(latency);
+    }
+
+    private void logFailure(String methodName, long latency, Throwable e) {
+        LogContext.event(Event.GITHUB_API_CALLED)
+                .with("operation", methodName)
+                .with("target", "github_api")
+                .with("latency_ms", latency)
+                .with("outcome", "failure")
+                .with("error_type", e.getClass().getSimpleName())
+                .with("error_message", e.getMessage())
+                .error();
+    }
+
     private GitHubRateLimitInfo extractRateLimit(Object result) {
         if (result instanceof GitHubAllActivitiesResponse r
                 && r.data() != null && r.data().rateLimit() != null) {
@@ -20,6 +20,21 @@ public class CacheConfig {
                 .expireAfterWrite(5, TimeUnit.MINUTES)
                 .maximumSize(500)
                 .recordStats());
+        cacheManager.registerCustomCache("rankingAround", Caffeine.newBuilder()
+                .expireAfterWrite(5, TimeUnit.MINUTES)
+                .maximumSize(5_000)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache("badges", Caffeine.newBuilder()
+                .expireAfterAccess(1, TimeUnit.HOURS)
+                .maximumSize(10_000)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache("profiles", Caffeine.newBuilder()
+                .expireAfterWrite(30, TimeUnit.SECONDS)
+                .maximumSize(1_000)
+                .recordStats()
+                .build());
         return cacheManager;
     }
 }
@@ -4,6 +4,7 @@ import com.gitranker.api.global.auth.CustomAuthenticationEntryPoint;
 import com.gitranker.api.global.auth.CustomOAuth2UserService;
 import com.gitranker.api.global.auth.OAuth2AuthenticationSuccessHandler;
 import com.gitranker.api.global.auth.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -44,6 +45,8 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(CompletableFuture) 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/v1/ranking/**",
                                 "/api/v1/users/*/profile",
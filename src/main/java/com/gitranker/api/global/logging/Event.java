@@ -24,6 +24,12 @@ public enum Event {
     BATCH_FAILED("배치 실패", Category.BATCH),
     BATCH_ITEM_FAILED("배치 항목 실패", Category.BATCH),
 
+    // 랭킹
+    RANKING_INDEX_REBUILT("랭킹 인덱스 재구성", Category.RANKING),
+    RANKING_INDEX_DRIFT_DETECTED("랭킹 인덱스 불일치 감지", Category.RANKING),
+    RANKING_SNAPSHOT_CREATED("랭킹 스냅샷 생성", Category.RANKING),
+    RANKING_SNAPSHOT_PUBLISHED("랭킹 스냅샷 공개", Category.RANKING),
+
     // 외부 API
     GITHUB_API_CALLED("GitHub API 호출", Category.EXTERNAL_API),
     RATE_LIMIT_WARNING("Rate Limit 경고", Category.EXTERNAL_API),
@@ -43,6 +49,6 @@ public enum Event {
     }
 
     public enum Category {
-        USER, AUTH, BATCH, EXTERNAL_API, HTTP, ERROR
+        USER, AUTH, BATCH, RANKING, EXTERNAL_API, HTTP, ERROR
     }
 }
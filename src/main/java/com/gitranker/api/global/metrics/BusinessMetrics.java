@@ -2,6 +2,7 @@ package com.gitranker.api.global.metrics;
 
 import com.gitranker.api.global.error.ErrorType;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Component;
 
@@ -15,6 +16,8 @@ public class BusinessMetrics {
     private final Counter loginCounter;
     private final Counter profileViewCounter;
     private final Counter badgeViewCounter;
+    private final DistributionSummary badgeGzipBytes;
+    private final DistributionSummary badgeIdentityBytes;
     private final Counter refreshCounter;
     private final Counter deletionCounter;
     private final Map<ErrorType, Counter> errorCounters;
@@ -36,6 +39,9 @@ public class BusinessMetrics {
                 .description("Total badge views")
                 .register(registry);
 
+        badgeGzipBytes = badgeResponseBytes(registry, "gzip");
+        badgeIdentityBytes = badgeResponseBytes(registry, "identity");
+
         refreshCounter = Counter.builder("user_refreshes_total")
                 .description("Total user manual refreshes")
                 .register(registry);
@@ -69,6 +75,10 @@ public class BusinessMetrics {
         badgeViewCounter.increment();
     }
 
+    public void recordBadgeResponseBytes(boolean gzipped, int bytes) {
+        (gzipped ? badgeGzipBytes : badgeIdentityBytes).record(bytes);
+    }
+
     public void incrementRefreshes() {
         refreshCounter.increment();
     }
@@ -80,4 +90,12 @@ public class BusinessMetrics {
     public void recordError(ErrorType errorType) {
         errorCounters.get(errorType).increment();
     }
+
+    private static DistributionSummary badgeResponseBytes(MeterRegistry registry, String encoding) {
+        return DistributionSummary.builder("badge_response_bytes")
+                .description("Badge response body size")
+                .baseUnit("bytes")
+                .tag("encoding", encoding)
+                .register(registry);
+    }
 }
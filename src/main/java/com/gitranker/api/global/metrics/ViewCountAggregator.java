@@ -0,0 +1,107 @@
+package com.gitranker.api.global.metrics;
+
+import com.gitranker.api.global.logging.Event;
+import com.gitranker.api.global.logging.LogContext;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 배지/프로필 조회 수를 대상 사용자별로 메모리에 모았다가 주기적으로 한 줄씩 기록합니다.
+ * 요청마다 구조화 로그를 남기지 않으므로 조회 경로의 로그 비용이 사라지고,
+ * 사용자별 조회 수는 flush 로그의 view_count 합으로 집계할 수 있습니다.
+ * 카운터 메트릭은 기존과 같이 요청마다 증가합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ViewCountAggregator {
+
+    private final BusinessMetrics businessMetrics;
+
+    private final ConcurrentMap<String, ViewCounter> badgeViews = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ViewCounter> profileViews = new ConcurrentHashMap<>();
+
+    public void recordBadgeView(String username) {
+        businessMetrics.incrementBadgeViews();
+        record(badgeViews, username);
+    }
+
+    public void recordProfileView(String username) {
+        businessMetrics.incrementProfileViews();
+        record(profileViews, username);
+    }
+
+    @Scheduled(fixedDelayString = "${app.views.flush-interval-ms:60000}")
+    public void flush() {
+        flush(Event.BADGE_VIEWED, badgeViews);
+        flush(Event.PROFILE_VIEWED, profileViews);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    int pendingTargets() {
+        return badgeViews.size() + profileViews.size();
+    }
+
+    /**
+     * 카운터가 제거 중이었다면 더한 값을 맵에 남아 있는 카운터로 옮깁니다.
+     * 제거는 맵의 잠금 안에서 끝나므로 computeIfAbsent는 제거가 끝난 뒤의 카운터를 돌려줍니다.
+     */
+    private void record(ConcurrentMap<String, ViewCounter> views, String target) {
+        ViewCounter counter = views.computeIfAbsent(target, key -> new ViewCounter());
+        counter.count.increment();
+
+        while (counter.retiring) {
+            long moved = counter.count.sumThenReset();
+            if (moved == 0) {
+                return;
+            }
+            counter = views.computeIfAbsent(target, key -> new ViewCounter());
+            counter.count.add(moved);
+        }
+    }
+
+    /**
+     * 카운터는 sumThenReset으로 비우고 유지하며, 한 주기 동안 조회가 없던 대상만 제거해 맵 크기를 제한합니다.
+     * 제거 직전의 증가가 사라지지 않도록, 잠금 안에서 먼저 제거 중으로 표시한 뒤 합이 0일 때만 제거합니다.
+     * 표시 이후에 더한 쪽은 record에서 표시를 보고 값을 옮기므로, 두 경우 중 하나는 반드시 증가를 봅니다.
+     */
+    private void flush(Event event, ConcurrentMap<String, ViewCounter> views) {
+        views.forEach((target, counter) -> {
+            long count = counter.count.sumThenReset();
+            if (count == 0) {
+                views.computeIfPresent(target, (key, current) -> current == counter ? retireIfIdle(current) : current);
+                return;
+            }
+
+            LogContext.event(event)
+                    .with("target_username", target)
+                    .with("view_count", count)
+                    .info();
+        });
+    }
+
+    private static ViewCounter retireIfIdle(ViewCounter counter) {
+        counter.retiring = true;
+        if (counter.count.sum() == 0) {
+            return null;
+        }
+
+        counter.retiring = false;
+        return counter;
+    }
+
+    private static final class ViewCounter {
+
+        private final LongAdder count = new LongAdder();
+        private volatile boolean retiring;
+    }
+}
@@ -0,0 +1,215 @@
+package com.gitranker.api.infrastructure.github;
+
+import com.gitranker.api.global.error.ErrorType;
+import com.gitranker.api.global.error.exception.GitHubApiRetryableException;
+import com.gitranker.api.global.error.exception.GitHubRateLimitException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 모든 GitHub GraphQL 호출이 공유하는 AIMD 방식의 동시 실행 제한기.
+ * 응답이 빠르고 남은 호출량이 충분하면 한도를 조금씩(+1/한도) 늘리고,
+ * 느린 응답에는 조금, 레이트 리밋(보조 한도 포함)과 타임아웃에는 절반으로 줄입니다.
+ * 남은 호출량은 토큰 풀 전체의 합으로 받으며, healthy-remaining 아래로 내려가면 늘리지 않고 줄여 남은 예산을 천천히 씁니다.
+ * 같은 혼잡에 대한 신호가 여러 응답에 걸쳐 와도 한 번만 줄이도록, 직전 감소 전에 보낸 호출의 결과로는 다시 줄이지 않고,
+ * 호출과 연결되지 않은 예산 신호는 응답 시간(RTT) 한 번에 최대 한 번만 반영합니다.
+ * 한도를 넘는 호출은 대기열에서 순서대로 기다립니다.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final int MIN_LIMIT = 1;
+    private static final double SLOW_BACKOFF = 0.9;
+    private static final double BUDGET_BACKOFF = 0.75;
+    private static final double OVERLOAD_BACKOFF = 0.5;
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final int maxLimit;
+    private final long slowLatencyMs;
+    private final int healthyRemaining;
+
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private double limit;
+    private int inFlight = 0;
+    private int lastRemaining = Integer.MAX_VALUE;
+    private long smoothedLatencyMs = -1;
+    private long lastDecreaseNanos = NEVER;
+
+    public AdaptiveConcurrencyLimiter(
+            @Value("${github.api.concurrency.initial-limit:5}") int initialLimit,
+            @Value("${github.api.concurrency.max-limit:16}") int maxLimit,
+            @Value("${github.api.concurrency.slow-latency-ms:5000}") long slowLatencyMs,
+            @Value("${github.api.concurrency.healthy-remaining:1000}") int healthyRemaining,
+            GitHubApiMetrics apiMetrics
+    ) {
+        this.maxLimit = Math.max(MIN_LIMIT, maxLimit);
+        this.limit = Math.clamp(initialLimit, MIN_LIMIT, this.maxLimit);
+        this.slowLatencyMs = slowLatencyMs;
+        this.healthyRemaining = healthyRemaining;
+
+        apiMetrics.bindConcurrencyLimiter(this);
+    }
+
+    /**
+     * 허용량이 생길 때까지 구독을 미루고, 호출이 끝나면 지연 시간과 결과로 한도를 조정합니다.
+     */
+    public <T> Mono<T> limit(Mono<T> call) {
+        return Mono.<Permit>create(this::acquire)
+                .flatMap(permit -> call
+                        .doOnSuccess(value -> permit.onSuccess())
+                        .doOnError(permit::onError)
+                        .doOnCancel(permit::release));
+    }
+
+    /**
+     * 토큰 풀 전체의 남은 호출량을 반영합니다. 한 토큰이 소진돼도 다른 토큰에 여유가 있으면 줄이지 않습니다.
+     * 예산이 부족한 동안에는 한도를 늘리지 않고 RTT마다 한 번씩 줄입니다. RTT 표본이 없으면 느린 응답 기준 시간을 씁니다.
+     */
+    public synchronized void onRateLimit(int remaining) {
+        lastRemaining = remaining;
+        long now = System.nanoTime();
+        long rttMs = smoothedLatencyMs < 0 ? slowLatencyMs : smoothedLatencyMs;
+        if (remaining < healthyRemaining
+                && (lastDecreaseNanos == NEVER || now - lastDecreaseNanos >= rttMs * 1_000_000)) {
+            decrease(BUDGET_BACKOFF, now);
+        }
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueueDepth() {
+        return waiters.size();
+    }
+
+    private void acquire(MonoSink<Permit> sink) {
+        Waiter waiter = new Waiter(sink, new Permit());
+        boolean granted;
+        synchronized (this) {
+            granted = inFlight < (int) limit && waiters.isEmpty();
+            if (granted) {
+                inFlight++;
+            } else {
+                waiters.addLast(waiter);
+            }
+        }
+        if (granted) {
+            waiter.grant();
+        } else {
+            sink.onCancel(() -> cancel(waiter));
+        }
+    }
+
+    /**
+     * 대기 중에 취소되면 대기열에서 빼고, 이미 허용량을 받은 뒤라면 돌려줍니다.
+     */
+    private void cancel(Waiter waiter) {
+        boolean removed;
+        synchronized (this) {
+            removed = waiters.remove(waiter);
+        }
+        if (!removed) {
+            waiter.permit().release();
+        }
+    }
+
+    private synchronized void onCompleted(long startNanos, long latencyMs, Throwable error) {
+        inFlight--;
+        smoothedLatencyMs = smoothedLatencyMs < 0 ? latencyMs : (smoothedLatencyMs * 7 + latencyMs) / 8;
+        boolean sentAfterDecrease = lastDecreaseNanos == NEVER || startNanos - lastDecreaseNanos >= 0;
+
+        if (error != null) {
+            if (isOverload(error) && sentAfterDecrease) {
+                decrease(OVERLOAD_BACKOFF, System.nanoTime());
+            }
+        } else if (latencyMs > slowLatencyMs) {
+            if (sentAfterDecrease) {
+                decrease(SLOW_BACKOFF, System.nanoTime());
+            }
+        } else if (lastRemaining >= healthyRemaining) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    private synchronized void onReleased() {
+        inFlight--;
+    }
+
+    private void decrease(double factor, long now) {
+        limit = Math.max(MIN_LIMIT, limit * factor);
+        lastDecreaseNanos = now;
+    }
+
+    private static boolean isOverload(Throwable error) {
+        return error instanceof GitHubRateLimitException
+                || (error instanceof GitHubApiRetryableException e && e.getErrorType() == ErrorType.GITHUB_API_TIMEOUT);
+    }
+
+    /**
+     * 한도 안에 자리가 나면 대기 중인 호출을 깨웁니다. sink 호출은 잠금 밖에서 합니다.
+     */
+    private void drain() {
+        while (true) {
+            Waiter next;
+            synchronized (this) {
+                if (inFlight >= (int) limit || waiters.isEmpty()) {
+                    return;
+                }
+                next = waiters.pollFirst();
+                inFlight++;
+            }
+            next.grant();
+        }
+    }
+
+    private record Waiter(MonoSink<Permit> sink, Permit permit) {
+
+        void grant() {
+            permit.startNanos = System.nanoTime();
+            sink.success(permit);
+        }
+    }
+
+    private final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean(false);
+        private volatile long startNanos;
+
+        void onSuccess() {
+            complete(null);
+        }
+
+        void onError(Throwable error) {
+            complete(error);
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                onReleased();
+                drain();
+            }
+        }
+
+        private void complete(Throwable error) {
+            if (released.compareAndSet(false, true)) {
+                onCompleted(startNanos, (System.nanoTime() - startNanos) / 1_000_000, error);
+                drain();
+            }
+        }
+    }
+}
@@ -2,14 +2,19 @@ package com.gitranker.api.infrastructure.github;
 
 import com.gitranker.api.infrastructure.github.dto.GitHubActivitySummary;
 import com.gitranker.api.infrastructure.github.dto.GitHubAllActivitiesResponse;
+import com.gitranker.api.infrastructure.github.dto.GitHubMultiUserActivitiesResponse;
 import com.gitranker.api.infrastructure.github.dto.GitHubNodeUserResponse;
 import com.gitranker.api.infrastructure.github.token.GitHubTokenPool;
 import com.gitranker.api.global.logging.LogSanitizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -28,6 +33,19 @@ public class GitHubActivityService {
         return toSummary(response);
     }
 
+    /**
+     * 여러 사용자의 연도별 활동을 한 요청으로 조회합니다. 조회에 실패한 사용자는 결과에서 빠지므로 호출 측에서 개별 조회로 처리합니다.
+     */
+    public Map<String, GitHubActivitySummary> fetchActivitiesForYear(List<String> usernames, int year) {
+        String token = tokenPool.getToken();
+        GitHubMultiUserActivitiesResponse response = graphQLClient.getActivitiesForYear(token, usernames, year);
+
+        Map<String, GitHubActivitySummary> summaries = response.toSummaries(usernames);
+        log.debug("다중 사용자 증분 데이터 조회 완료 - 요청: {}, 성공: {}, 연도: {}", usernames.size(), summaries.size(), year);
+
+        return summaries;
+    }
+
     public GitHubAllActivitiesResponse fetchRawAllActivities(String username, LocalDateTime githubJoinDate) {
         String token = tokenPool.getToken();
         GitHubAllActivitiesResponse response = graphQLClient.getAllActivities(token, username, githubJoinDate);
@@ -37,6 +55,26 @@ public class GitHubActivityService {
         return response;
     }
 
+    /**
+     * 지정한 연도들의 기여도와 전체 머지된 PR 수만 조회합니다. 저장된 지난 연도를 재사용할 때 사용합니다.
+     */
+    public GitHubAllActivitiesResponse fetchRawActivitiesForYears(
+            String username, LocalDateTime githubJoinDate, Collection<Integer> years
+    ) {
+        return fetchRawActivitiesForYearsAsync(username, githubJoinDate, years).block();
+    }
+
+    /**
+     * {@link #fetchRawActivitiesForYears}의 논블로킹 버전. 토큰은 구독 시점에 고릅니다.
+     */
+    public Mono<GitHubAllActivitiesResponse> fetchRawActivitiesForYearsAsync(
+            String username, LocalDateTime githubJoinDate, Collection<Integer> years
+    ) {
+        return Mono.defer(() -> graphQLClient.getActivitiesForYearsAsync(tokenPool.getToken(), username, githubJoinDate, years))
+                .doOnSuccess(response -> log.debug("연도별 데이터 조회 완료 - 사용자: {}, 연도: {}",
+                        LogSanitizer.maskUsername(username), years));
+    }
+
     public GitHubNodeUserResponse fetchUserByNodeId(String nodeId) {
         String token = tokenPool.getToken();
         GitHubNodeUserResponse response = graphQLClient.getUserInfoByNodeId(token, nodeId);
@@ -47,6 +85,18 @@ public class GitHubActivityService {
         return response;
     }
 
+    /**
+     * 여러 nodeId의 현재 프로필을 nodes(ids:) 한 번으로 조회합니다. 찾을 수 없는 nodeId는 결과에 포함되지 않습니다.
+     */
+    public Map<String, GitHubNodeUserResponse.Node> fetchUsersByNodeIds(List<String> nodeIds) {
+        String token = tokenPool.getToken();
+        Map<String, GitHubNodeUserResponse.Node> users = graphQLClient.getUsersByNodeIds(token, nodeIds).getUsersByNodeId();
+
+        log.debug("nodeId 일괄 사용자 조회 완료 - 요청: {}, 조회: {}", nodeIds.size(), users.size());
+
+        return users;
+    }
+
     public GitHubActivitySummary toSummary(GitHubAllActivitiesResponse response) {
         return new GitHubActivitySummary(
                 response.getCommitCount(),
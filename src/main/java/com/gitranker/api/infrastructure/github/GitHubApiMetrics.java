@@ -28,7 +28,11 @@ public class GitHubApiMetrics {
 
     private final Timer latencyTimer;
 
+    private final MeterRegistry registry;
+
     public GitHubApiMetrics(MeterRegistry registry) {
+        this.registry = registry;
+
         Gauge.builder(METRIC_PREFIX + "_remaining", remaining, AtomicInteger::get)
                 .description("GitHub API Rate Limit remaining calls")
                 .register(registry);
@@ -62,6 +66,23 @@ public class GitHubApiMetrics {
                 .register(registry);
     }
 
+    /**
+     * 동시 실행 제한기의 현재 한도, 실행 중인 호출 수, 대기열 길이를 게이지로 노출합니다.
+     */
+    public void bindConcurrencyLimiter(AdaptiveConcurrencyLimiter limiter) {
+        Gauge.builder(METRIC_PREFIX + "_concurrency_limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit for GitHub API calls")
+                .register(registry);
+
+        Gauge.builder(METRIC_PREFIX + "_concurrency_in_flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("GitHub API calls currently in flight")
+                .register(registry);
+
+        Gauge.builder(METRIC_PREFIX + "_concurrency_queue_depth", limiter, AdaptiveConcurrencyLimiter::getQueueDepth)
+                .description("GitHub API calls waiting for a concurrency permit")
+                .register(registry);
+    }
+
     public void recordRateLimit(int cost, int remaining, LocalDateTime resetAt) {
         this.remaining.set(remaining);
 
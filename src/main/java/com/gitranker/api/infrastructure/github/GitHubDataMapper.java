@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
+import java.util.TreeMap;
 
 import static com.gitranker.api.infrastructure.github.dto.GitHubAllActivitiesResponse.ContributionsCollection;
 
@@ -28,29 +29,43 @@ public class GitHubDataMapper {
         );
     }
 
-    public ActivityStatistics calculateStatisticsUntilYear(GitHubAllActivitiesResponse response, int targetYear) {
+    /**
+     * 응답의 연도별 기여도를 연도 기준으로 나눕니다. 머지된 PR 수는 연도별 값이 아니므로 포함하지 않습니다.
+     */
+    public Map<Integer, ActivityStatistics> toYearlyStatistics(GitHubAllActivitiesResponse response) {
+        Map<Integer, ActivityStatistics> yearlyStats = new TreeMap<>();
         if (response == null || response.data() == null || response.data().getYearDataMap() == null) {
-            return ActivityStatistics.empty();
+            return yearlyStats;
         }
 
-        int commits = 0;
-        int issues = 0;
-        int prs = 0;
-        int reviews = 0;
-
         for (Map.Entry<String, YearData> entry : response.data().getYearDataMap().entrySet()) {
             int year = extractYear(entry.getKey());
 
-            if (year > 0 && year <= targetYear) {
+            if (year > 0) {
                 ContributionsCollection collection = entry.getValue().contributionsCollection();
-                commits += collection.totalCommitContributions();
-                issues += collection.totalIssueContributions();
-                prs += collection.totalPullRequestContributions();
-                reviews += collection.totalPullRequestReviewContributions();
+                yearlyStats.put(year, ActivityStatistics.of(
+                        collection.totalCommitContributions(),
+                        collection.totalIssueContributions(),
+                        collection.totalPullRequestContributions(),
+                        0,
+                        collection.totalPullRequestReviewContributions()
+                ));
+            }
+        }
+
+        return yearlyStats;
+    }
+
+    public ActivityStatistics calculateStatisticsUntilYear(Map<Integer, ActivityStatistics> yearlyStats, int targetYear) {
+        ActivityStatistics stats = ActivityStatistics.empty();
+
+        for (Map.Entry<Integer, ActivityStatistics> entry : yearlyStats.entrySet()) {
+            if (entry.getKey() <= targetYear) {
+                stats = stats.merge(entry.getValue());
             }
         }
 
-        return ActivityStatistics.of(commits, issues, prs, 0, reviews);
+        return stats;
     }
 
     private int extractYear(String yearKey) {
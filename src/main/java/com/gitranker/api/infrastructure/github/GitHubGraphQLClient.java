@@ -11,7 +11,9 @@ import com.gitranker.api.global.logging.Event;
 import com.gitranker.api.global.logging.LogContext;
 import com.gitranker.api.infrastructure.github.dto.GitHubAllActivitiesResponse;
 import com.gitranker.api.infrastructure.github.dto.GitHubGraphQLRequest;
+import com.gitranker.api.infrastructure.github.dto.GitHubMultiUserActivitiesResponse;
 import com.gitranker.api.infrastructure.github.dto.GitHubNodeUserResponse;
+import com.gitranker.api.infrastructure.github.dto.GitHubNodesUserResponse;
 import com.gitranker.api.infrastructure.github.dto.GitHubRateLimitInfo;
 import com.gitranker.api.infrastructure.github.dto.GitHubUserInfoResponse;
 import com.gitranker.api.infrastructure.github.token.GitHubTokenPool;
@@ -25,12 +27,13 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.IntStream;
 
@@ -38,7 +41,6 @@ import java.util.stream.IntStream;
 @Component
 public class GitHubGraphQLClient {
     private static final Duration API_TIMEOUT = Duration.ofSeconds(20);
-    private static final int CONCURRENCY_LIMIT = 5;
     private static final int SAFE_REMAINING_THRESHOLD = 50;
 
     private final WebClient webClient;
@@ -47,6 +49,7 @@ public class GitHubGraphQLClient {
     private final GitHubApiMetrics apiMetrics;
     private final GitHubTokenPool tokenPool;
     private final GitHubApiErrorHandler errorHandler;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
 
     public GitHubGraphQLClient(
             @Value("${github.api.graphql-url}") String graphqlUrl,
@@ -55,7 +58,8 @@ public class GitHubGraphQLClient {
             WebClient.Builder webClientBuilder,
             GitHubApiMetrics apiMetrics,
             GitHubTokenPool tokenPool,
-            GitHubApiErrorHandler errorHandler
+            GitHubApiErrorHandler errorHandler,
+            AdaptiveConcurrencyLimiter concurrencyLimiter
     ) {
         this.webClient = webClientBuilder
                 .baseUrl(graphqlUrl)
@@ -66,6 +70,7 @@ public class GitHubGraphQLClient {
         this.apiMetrics = apiMetrics;
         this.tokenPool = tokenPool;
         this.errorHandler = errorHandler;
+        this.concurrencyLimiter = concurrencyLimiter;
     }
 
     private void validateAccessToken(String accessToken) {
@@ -108,38 +113,72 @@ public class GitHubGraphQLClient {
         return response;
     }
 
-    public GitHubAllActivitiesResponse getAllActivities(String accessToken, String username, LocalDateTime githubJoinDate) {
-        validateAccessToken(accessToken);
+    public GitHubNodesUserResponse getUsersByNodeIds(String accessToken, List<String> nodeIds) {
+        String query = queryBuilder.buildUsersLookupByNodeIdsQuery(nodeIds);
+
+        GitHubNodesUserResponse response = executeQuery(accessToken, query, GitHubNodesUserResponse.class);
+
+        if (response.data() != null && response.data().rateLimit() != null) {
+            recordRateLimitInfo(accessToken, response.data().rateLimit());
+
+            checkRateLimitSafety(
+                    response.data().rateLimit().remaining(),
+                    response.data().rateLimit().resetAt()
+            );
+        }
 
+        return response;
+    }
+
+    public GitHubAllActivitiesResponse getAllActivities(String accessToken, String username, LocalDateTime githubJoinDate) {
         int joinYear = githubJoinDate.getYear();
         int currentYear = LocalDateTime.now(appZoneId).getYear();
 
+        return getActivitiesForYears(accessToken, username, githubJoinDate,
+                IntStream.rangeClosed(joinYear, currentYear).boxed().toList());
+    }
+
+    /**
+     * 지정한 연도들의 기여도와 전체 머지된 PR 수를 조회합니다. 배치처럼 스레드를 점유해도 되는 호출부를 위한 블로킹 버전입니다.
+     */
+    public GitHubAllActivitiesResponse getActivitiesForYears(
+            String accessToken, String username, LocalDateTime githubJoinDate, Collection<Integer> years
+    ) {
+        return getActivitiesForYearsAsync(accessToken, username, githubJoinDate, years).block();
+    }
+
+    /**
+     * 지정한 연도들의 기여도와 전체 머지된 PR 수를 조회합니다. 연도마다 요청 하나를 보냅니다.
+     * 응답을 기다리는 동안 스레드를 점유하지 않으며, 결과는 Netty 이벤트 루프에서 발행됩니다.
+     */
+    public Mono<GitHubAllActivitiesResponse> getActivitiesForYearsAsync(
+            String accessToken, String username, LocalDateTime githubJoinDate, Collection<Integer> years
+    ) {
+        validateAccessToken(accessToken);
+
         Flux<String> queries = Flux.concat(
                 Flux.just(queryBuilder.buildMergedPRBlock(username)),
-                Flux.fromStream(IntStream.rangeClosed(joinYear, currentYear).boxed())
+                Flux.fromIterable(years)
                         .map(year -> queryBuilder.buildYearlyContributionQuery(username, year, githubJoinDate))
         );
 
-        GitHubAllActivitiesResponse aggregatedResponse = queries
-                .parallel(CONCURRENCY_LIMIT)
-                .runOn(Schedulers.boundedElastic())
+        return queries
                 .flatMap(query -> executeQueryReactive(accessToken, query, GitHubAllActivitiesResponse.class))
-                .sequential()
-                .reduce(GitHubAllActivitiesResponse.empty(), (acc, current) -> {
+                .reduceWith(GitHubAllActivitiesResponse::empty, (acc, current) -> {
                     acc.merge(current);
                     return acc;
                 })
-                .block();
-
-        if (aggregatedResponse == null || aggregatedResponse.data() == null) {
-            throw new GitHubApiNonRetryableException(ErrorType.GITHUB_COLLECT_ACTIVITY_FAILED);
-        }
+                .map(aggregatedResponse -> {
+                    if (aggregatedResponse.data() == null) {
+                        throw new GitHubApiNonRetryableException(ErrorType.GITHUB_COLLECT_ACTIVITY_FAILED);
+                    }
 
-        if (aggregatedResponse.data().rateLimit() != null) {
-            recordRateLimitInfo(accessToken, aggregatedResponse.data().rateLimit());
-        }
+                    if (aggregatedResponse.data().rateLimit() != null) {
+                        recordRateLimitInfo(accessToken, aggregatedResponse.data().rateLimit());
+                    }
 
-        return aggregatedResponse;
+                    return aggregatedResponse;
+                });
     }
 
     public GitHubAllActivitiesResponse getActivitiesForYear(String accessToken, String username, int year) {
@@ -159,6 +198,32 @@ public class GitHubGraphQLClient {
         return response;
     }
 
+    /**
+     * 여러 사용자의 연도별 활동을 별칭 쿼리 한 번으로 조회합니다.
+     * 일부 사용자의 오류는 응답에 남겨 두고 해당 사용자만 실패로 처리하며, 데이터가 전혀 없을 때만 요청 전체를 실패로 봅니다.
+     */
+    public GitHubMultiUserActivitiesResponse getActivitiesForYear(String accessToken, List<String> usernames, int year) {
+        String query = queryBuilder.buildMultiUserBatchQuery(usernames, year);
+
+        GitHubMultiUserActivitiesResponse response =
+                executeQuery(accessToken, query, GitHubMultiUserActivitiesResponse.class);
+
+        if (response == null || response.data() == null) {
+            throw new GitHubApiRetryableException(ErrorType.GITHUB_PARTIAL_ERROR);
+        }
+
+        if (response.data().rateLimit() != null) {
+            recordRateLimitInfo(accessToken, response.data().rateLimit());
+
+            checkRateLimitSafety(
+                    response.data().rateLimit().remaining(),
+                    response.data().rateLimit().resetAt()
+            );
+        }
+
+        return response;
+    }
+
     private void checkRateLimitSafety(int remaining, LocalDateTime resetAt) {
         if (remaining < SAFE_REMAINING_THRESHOLD) {
             LogContext.event(Event.RATE_LIMIT_WARNING)
@@ -173,10 +238,13 @@ public class GitHubGraphQLClient {
         }
     }
 
+    /**
+     * 모든 호출은 공유 동시 실행 제한기를 거칩니다. 한도는 지연 시간과 레이트 리밋 응답에 따라 조정됩니다.
+     */
     private <T> Mono<T> executeQueryReactive(String accessToken, String query, Class<T> responseType) {
         GitHubGraphQLRequest request = GitHubGraphQLRequest.of(query);
 
-        return webClient.post()
+        return concurrencyLimiter.limit(webClient.post()
                 .header("Authorization", AuthConstants.BEARER_PREFIX + accessToken)
                 .bodyValue(request)
                 .exchangeToMono(response -> {
@@ -201,7 +269,7 @@ public class GitHubGraphQLClient {
                     if (e instanceof WebClientRequestException wce) {
                         throw errorHandler.handleNetworkError(wce);
                     }
-                });
+                }));
     }
 
     private <T> T executeQuery(String accessToken, String query, Class<T> responseType) {
@@ -221,5 +289,6 @@ public class GitHubGraphQLClient {
         apiMetrics.recordRateLimit(rateLimit.cost(), rateLimit.remaining(), rateLimit.resetAt());
 
         tokenPool.updateTokenState(accessToken, rateLimit.remaining(), rateLimit.resetAt());
+        concurrencyLimiter.onRateLimit(tokenPool.getTotalRemaining());
     }
 }
@@ -0,0 +1,114 @@
+package com.gitranker.api.infrastructure.github.dto;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.gitranker.api.infrastructure.github.dto.GitHubAllActivitiesResponse.ContributionsCollection;
+import com.gitranker.api.infrastructure.github.dto.GitHubAllActivitiesResponse.RateLimit;
+import com.gitranker.api.infrastructure.github.util.GraphQLQueryBuilder;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 여러 사용자를 별칭(u0, m0, u1, m1, ...)으로 묶어 조회한 응답.
+ * 오류의 path가 가리키는 별칭이나 값이 비어 있는 별칭의 사용자만 실패로 보고, 나머지 사용자는 그대로 사용합니다.
+ */
+public record GitHubMultiUserActivitiesResponse(
+        @JsonProperty("data") Data data,
+        @JsonProperty("errors") List<Error> errors
+) {
+    public boolean hasErrors() {
+        return errors != null && !errors.isEmpty();
+    }
+
+    /**
+     * 요청한 순서의 사용자 이름으로 응답을 나눕니다. 조회에 실패한 사용자는 결과에 포함하지 않습니다.
+     */
+    public Map<String, GitHubActivitySummary> toSummaries(List<String> usernames) {
+        Map<String, GitHubActivitySummary> summaries = new LinkedHashMap<>();
+        if (data == null) {
+            return summaries;
+        }
+
+        Set<String> failedAliases = failedAliases();
+        for (int i = 0; i < usernames.size(); i++) {
+            String userAlias = GraphQLQueryBuilder.userAlias(i);
+            String mergedPRsAlias = GraphQLQueryBuilder.mergedPRsAlias(i);
+            AliasData user = data.aliases.get(userAlias);
+            AliasData mergedPRs = data.aliases.get(mergedPRsAlias);
+
+            if (failedAliases.contains(userAlias) || failedAliases.contains(mergedPRsAlias)
+                    || user == null || user.contributionsCollection() == null || mergedPRs == null) {
+                continue;
+            }
+
+            ContributionsCollection contributions = user.contributionsCollection();
+            summaries.put(usernames.get(i), new GitHubActivitySummary(
+                    contributions.totalCommitContributions(),
+                    contributions.totalPullRequestContributions(),
+                    mergedPRs.issueCount() != null ? mergedPRs.issueCount() : 0,
+                    contributions.totalIssueContributions(),
+                    contributions.totalPullRequestReviewContributions()
+            ));
+        }
+        return summaries;
+    }
+
+    private Set<String> failedAliases() {
+        Set<String> aliases = new HashSet<>();
+        if (errors != null) {
+            for (Error error : errors) {
+                if (error.path() != null && !error.path().isEmpty()) {
+                    aliases.add(String.valueOf(error.path().get(0)));
+                }
+            }
+        }
+        return aliases;
+    }
+
+    public static class Data {
+        private final Map<String, AliasData> aliases = new HashMap<>();
+        @JsonProperty("rateLimit")
+        RateLimit rateLimit;
+
+        @JsonAnySetter
+        public void setAlias(String key, AliasData value) {
+            aliases.put(key, value);
+        }
+
+        public RateLimit rateLimit() {
+            return rateLimit;
+        }
+    }
+
+    /**
+     * 사용자 별칭에는 contributionsCollection이, 검색 별칭에는 issueCount가 채워집니다.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record AliasData(
+            @JsonProperty("contributionsCollection")
+            ContributionsCollection contributionsCollection,
+
+            @JsonProperty("issueCount")
+            Integer issueCount
+    ) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Error(
+            @JsonProperty("type")
+            String type,
+
+            @JsonProperty("message")
+            String message,
+
+            @JsonProperty("path")
+            List<Object> path
+    ) {
+    }
+}
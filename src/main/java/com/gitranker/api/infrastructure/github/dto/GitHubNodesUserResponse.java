@@ -0,0 +1,37 @@
+package com.gitranker.api.infrastructure.github.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.gitranker.api.infrastructure.github.dto.GitHubNodeUserResponse.Node;
+import com.gitranker.api.infrastructure.github.dto.GitHubNodeUserResponse.RateLimit;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * nodes(ids:) 조회 응답. 찾을 수 없는 nodeId는 null 항목과 오류로 돌아오므로, 조회된 사용자만 nodeId 기준으로 모읍니다.
+ */
+public record GitHubNodesUserResponse(
+        @JsonProperty("data")
+        Data data
+) {
+    public Map<String, Node> getUsersByNodeId() {
+        Map<String, Node> users = new HashMap<>();
+        if (data == null || data.nodes() == null) {
+            return users;
+        }
+
+        for (Node node : data.nodes()) {
+            if (node != null && node.id() != null && node.login() != null) {
+                users.put(node.id(), node);
+            }
+        }
+        return users;
+    }
+
+    public record Data(
+            @JsonProperty("nodes") List<Node> nodes,
+            @JsonProperty("rateLimit") RateLimit rateLimit
+    ) {
+    }
+}
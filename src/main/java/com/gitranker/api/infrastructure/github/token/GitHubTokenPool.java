@@ -14,24 +14,35 @@ import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.locks.ReentrantLock;
-
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 설정된 GitHub 토큰을 돌려 쓰는 풀. 전역 잠금 없이 각 토큰의 원자적 상태만 읽고 씁니다.
+ * 초기화 시각까지 초당 쓸 수 있는 호출량이 가장 큰 토큰을 고르되, 현재 토큰과 차이가 크지 않으면 현재 토큰을 계속 씁니다.
+ * 응답의 상태 갱신은 토큰 값으로 바로 찾아 반영합니다.
+ */
 @Slf4j
 @Component
 public class GitHubTokenPool {
 
-    private final ReentrantLock tokenLock = new ReentrantLock();
-    private final List<TokenState> tokens;
+    private static final double SWITCH_RATIO = 1.25;
+
+    private final TokenState[] tokens;
+    private final Map<String, TokenState> tokensByValue;
     private final int threshold;
     private final ZoneId appZoneId;
-    private int currentIndex = 0;
+    private volatile int currentIndex = 0;
 
     public GitHubTokenPool(
             @Value("${github.api.tokens}") String tokensConfig,
             @Value("${github.api.threshold}") int threshold,
             ZoneId appZoneId
     ) {
-        this.tokens = parseTokens(tokensConfig);
+        this.tokens = parseTokens(tokensConfig).toArray(TokenState[]::new);
+        this.tokensByValue = Arrays.stream(tokens)
+                .collect(Collectors.toUnmodifiableMap(TokenState::getValue, Function.identity(), (first, duplicate) -> first));
         this.threshold = threshold;
         this.appZoneId = appZoneId;
     }
@@ -55,59 +66,79 @@ public class GitHubTokenPool {
     }
 
     public String getToken() {
-        tokenLock.lock();
-        try {
-            int startIndex = currentIndex;
-            int size = tokens.size();
-
-            for (int i = 0; i < size; i++) {
-                int idx = (startIndex + i) % size;
-                TokenState token = tokens.get(idx);
-
-                if (token.isAvailable(threshold)) {
-                    if (idx != startIndex) {
-                        currentIndex = idx;
-                    }
-                    return token.getValue();
-                }
+        long now = Instant.now().getEpochSecond();
+        int startIndex = currentIndex;
+        int size = tokens.length;
+
+        int bestIndex = -1;
+        double bestBudget = 0;
+        double currentBudget = -1;
+
+        for (int i = 0; i < size; i++) {
+            int idx = (startIndex + i) % size;
+            TokenState token = tokens[idx];
+            if (!token.isAvailable(threshold, now)) {
+                continue;
+            }
+
+            double budget = token.budgetPerSecond(now);
+            if (idx == startIndex) {
+                currentBudget = budget;
             }
+            if (bestIndex < 0 || budget > bestBudget) {
+                bestIndex = idx;
+                bestBudget = budget;
+            }
+        }
 
-            LocalDateTime earliestResetAt = findEarliestResetAt();
+        if (bestIndex < 0) {
+            throw new GitHubRateLimitExhaustedException(findEarliestResetAt());
+        }
 
-            throw new GitHubRateLimitExhaustedException(earliestResetAt);
-        } finally {
-            tokenLock.unlock();
+        if (currentBudget >= 0 && bestBudget < currentBudget * SWITCH_RATIO) {
+            return tokens[startIndex].getValue();
         }
+
+        if (bestIndex != startIndex) {
+            currentIndex = bestIndex;
+        }
+        return tokens[bestIndex].getValue();
     }
 
     private LocalDateTime findEarliestResetAt() {
-        return tokens.stream()
+        return Arrays.stream(tokens)
                 .map(TokenState::getResetAt)
                 .min(Comparator.naturalOrder())
                 .map(instant -> LocalDateTime.ofInstant(instant, appZoneId))
                 .orElse(LocalDateTime.now(appZoneId).plusHours(1));
     }
 
+    /**
+     * 모든 토큰의 남은 호출량 합. 초기화 시각이 지난 토큰은 DEFAULT_LIMIT으로 셉니다.
+     */
+    public int getTotalRemaining() {
+        int total = 0;
+        for (TokenState token : tokens) {
+            total += token.getRemaining();
+        }
+        return total;
+    }
+
     public void updateTokenState(String tokenValue, int remaining, LocalDateTime resetAt) {
-        tokenLock.lock();
-        try {
-            tokens.stream()
-                    .filter(t -> t.getValue().equals(tokenValue))
-                    .findFirst()
-                    .ifPresent(token -> {
-                        Instant resetInstant = resetAt.atZone(appZoneId).toInstant();
-                        token.update(remaining, resetInstant);
-
-                        if (remaining <= threshold) {
-                            LogContext.event(Event.RATE_LIMIT_WARNING)
-                                    .with("remaining", remaining)
-                                    .with("threshold", threshold)
-                                    .with("reset_at", resetAt.toString())
-                                    .warn();
-                        }
-                    });
-        } finally {
-            tokenLock.unlock();
+        TokenState token = tokensByValue.get(tokenValue);
+        if (token == null) {
+            return;
+        }
+
+        Instant resetInstant = resetAt.atZone(appZoneId).toInstant();
+        token.update(remaining, resetInstant);
+
+        if (remaining <= threshold) {
+            LogContext.event(Event.RATE_LIMIT_WARNING)
+                    .with("remaining", remaining)
+                    .with("threshold", threshold)
+                    .with("reset_at", resetAt.toString())
+                    .warn();
         }
     }
 }
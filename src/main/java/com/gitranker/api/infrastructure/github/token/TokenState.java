@@ -3,32 +3,78 @@ package com.gitranker.api.infrastructure.github.token;
 import lombok.Getter;
 
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
 
-@Getter
+/**
+ * 토큰 하나의 Rate Limit 상태. remaining과 resetAt(epoch 초)을 long 하나에 묶어 원자적으로 갱신하고 읽습니다.
+ * 조회는 상태를 바꾸지 않으며, 초기화 시각이 지났으면 DEFAULT_LIMIT이 남은 것으로 봅니다.
+ */
 public class TokenState {
 
     public static final int DEFAULT_LIMIT = 5000;
 
+    private static final long REMAINING_MASK = 0xFFFF_FFFFL;
+
+    @Getter
     private final String value;
-    private volatile int remaining;
-    private volatile Instant resetAt;
+    private final AtomicLong state;
 
     public TokenState(String value) {
         this.value = value;
-        this.remaining = DEFAULT_LIMIT;
-        this.resetAt = Instant.now().plusSeconds(3600);
+        this.state = new AtomicLong(pack(DEFAULT_LIMIT, Instant.now().plusSeconds(3600).getEpochSecond()));
     }
 
     public boolean isAvailable(int threshold) {
-        if (Instant.now().isAfter(resetAt)) {
-            this.remaining = DEFAULT_LIMIT;
-        }
+        return isAvailable(threshold, Instant.now().getEpochSecond());
+    }
+
+    boolean isAvailable(int threshold, long nowEpochSecond) {
+        return remainingAt(state.get(), nowEpochSecond) > threshold;
+    }
 
-        return remaining > threshold;
+    /**
+     * 초기화 시각까지 초당 쓸 수 있는 호출량. 여유가 큰 토큰을 고를 때 사용합니다.
+     */
+    double budgetPerSecond(long nowEpochSecond) {
+        long current = state.get();
+        long secondsUntilReset = Math.max(1, resetEpochSecond(current) - nowEpochSecond);
+        return (double) remainingAt(current, nowEpochSecond) / secondsUntilReset;
     }
 
+    /**
+     * 같은 초기화 구간의 응답이 순서가 뒤바뀌어 도착해도 remaining이 다시 늘지 않도록 더 작은 값을 유지합니다.
+     */
     public void update(int remaining, Instant resetAt) {
-        this.remaining = remaining;
-        this.resetAt = resetAt;
+        long resetEpochSecond = resetAt.getEpochSecond();
+        state.updateAndGet(current -> {
+            if (resetEpochSecond(current) == resetEpochSecond && remaining(current) < remaining) {
+                return current;
+            }
+            return pack(remaining, resetEpochSecond);
+        });
+    }
+
+    public int getRemaining() {
+        return remainingAt(state.get(), Instant.now().getEpochSecond());
+    }
+
+    public Instant getResetAt() {
+        return Instant.ofEpochSecond(resetEpochSecond(state.get()));
+    }
+
+    private static int remainingAt(long state, long nowEpochSecond) {
+        return nowEpochSecond > resetEpochSecond(state) ? DEFAULT_LIMIT : remaining(state);
+    }
+
+    private static long pack(int remaining, long resetEpochSecond) {
+        return (resetEpochSecond << 32) | (Math.max(0, remaining) & REMAINING_MASK);
+    }
+
+    private static int remaining(long state) {
+        return (int) (state & REMAINING_MASK);
+    }
+
+    private static long resetEpochSecond(long state) {
+        return state >>> 32;
     }
 }
@@ -9,6 +9,8 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -16,6 +18,14 @@ import java.time.format.DateTimeFormatter;
 public class GraphQLQueryBuilder {
 
     private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX");
+    private static final String USER_NODE_FIELDS = """
+            ... on User {
+                  id
+                  login
+                  email
+                  avatarUrl
+                }""";
+
     private final ZoneId appZoneId;
 
     public String buildMergedPRBlock(String username) {
@@ -111,6 +121,55 @@ public class GraphQLQueryBuilder {
         );
     }
 
+    /**
+     * 여러 사용자의 연도별 기여도와 머지된 PR 수를 한 요청으로 조회합니다.
+     * i번째 사용자는 {@link #userAlias(int)}, {@link #mergedPRsAlias(int)} 별칭으로 응답에 담깁니다.
+     */
+    public String buildMultiUserBatchQuery(List<String> usernames, int year) {
+        int currentYear = LocalDate.now(appZoneId).getYear();
+
+        String fromDate = buildFromDate(year, -1, null);
+        String toDate = buildToDate(year, currentYear);
+
+        StringBuilder blocks = new StringBuilder();
+        for (int i = 0; i < usernames.size(); i++) {
+            String username = usernames.get(i);
+            blocks.append(String.format("""
+                    %s: user(login: "%s") {
+                      contributionsCollection(from: "%s", to: "%s") {
+                        totalCommitContributions
+                        totalIssueContributions
+                        totalPullRequestContributions
+                        totalPullRequestReviewContributions
+                      }
+                    }
+                    %s: search(query: "author:%s type:pr is:merged", type: ISSUE, first: 1) {
+                      issueCount
+                    }
+                    """, userAlias(i), username, fromDate, toDate, mergedPRsAlias(i), username));
+        }
+
+        return String.format("""
+                {
+                    rateLimit {
+                        limit
+                        remaining
+                        resetAt
+                        cost
+                    }
+                    %s
+                }
+                """, blocks);
+    }
+
+    public static String userAlias(int index) {
+        return "u" + index;
+    }
+
+    public static String mergedPRsAlias(int index) {
+        return "m" + index;
+    }
+
     public String buildUserLookupByNodeIdQuery(String nodeId) {
         return String.format("""
                 {
@@ -121,15 +180,33 @@ public class GraphQLQueryBuilder {
                     cost
                   }
                   node(id: "%s") {
-                    ... on User {
-                      id
-                      login
-                      email
-                      avatarUrl
-                    }
+                    %s
+                  }
+                }
+                """, nodeId, USER_NODE_FIELDS);
+    }
+
+    /**
+     * 여러 nodeId의 사용자 정보를 nodes(ids:) 한 번으로 조회합니다. GitHub는 요청당 최대 100개까지 허용합니다.
+     */
+    public String buildUsersLookupByNodeIdsQuery(List<String> nodeIds) {
+        String ids = nodeIds.stream()
+                .map(nodeId -> "\"" + nodeId + "\"")
+                .collect(Collectors.joining(", "));
+
+        return String.format("""
+                {
+                  rateLimit {
+                    limit
+                    remaining
+                    resetAt
+                    cost
+                  }
+                  nodes(ids: [%s]) {
+                    %s
                   }
                 }
-                """, nodeId);
+                """, ids, USER_NODE_FIELDS);
     }
 
     private String buildFromDate(int year, int joinYear, LocalDateTime githubJoinDate) {
@@ -0,0 +1,77 @@
+package com.gitranker.api.batch.strategy;
+
+import com.gitranker.api.domain.user.User;
+import com.gitranker.api.global.error.ErrorType;
+import com.gitranker.api.global.error.exception.GitHubApiRetryableException;
+import com.gitranker.api.infrastructure.github.GitHubActivityService;
+import com.gitranker.api.infrastructure.github.dto.GitHubActivitySummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentYearActivityPrefetcherTest {
+
+    private static final GitHubActivitySummary SUMMARY = new GitHubActivitySummary(10, 3, 2, 1, 4);
+
+    @InjectMocks
+    private CurrentYearActivityPrefetcher prefetcher;
+
+    @Mock
+    private GitHubActivityService activityService;
+
+    private User user(String username) {
+        User user = mock(User.class);
+        when(user.getUsername()).thenReturn(username);
+        return user;
+    }
+
+    @Test
+    @DisplayName("청크에서 읽은 사용자를 묶음 단위로 한 번에 조회하고, 값은 한 번만 꺼낼 수 있다")
+    void should_prefetchInGroups_when_firstTaken() {
+        ReflectionTestUtils.setField(prefetcher, "usersPerQuery", 2);
+        prefetcher.afterRead(user("a"));
+        prefetcher.afterRead(user("b"));
+        prefetcher.afterRead(user("c"));
+        when(activityService.fetchActivitiesForYear(List.of("a", "b"), 2026)).thenReturn(Map.of("a", SUMMARY, "b", SUMMARY));
+        when(activityService.fetchActivitiesForYear(List.of("c"), 2026)).thenReturn(Map.of());
+
+        assertThat(prefetcher.take("a", 2026)).contains(SUMMARY);
+        assertThat(prefetcher.take("a", 2026)).isEmpty();
+        assertThat(prefetcher.take("b", 2026)).contains(SUMMARY);
+        assertThat(prefetcher.take("c", 2026)).isEmpty();
+        verify(activityService, times(2)).fetchActivitiesForYear(anyList(), anyInt());
+    }
+
+    @Test
+    @DisplayName("묶음 조회가 실패하면 개별 조회로 넘어가도록 빈 값을 반환한다")
+    void should_returnEmpty_when_groupQueryFailed() {
+        prefetcher.afterRead(user("a"));
+        when(activityService.fetchActivitiesForYear(List.of("a"), 2026))
+                .thenThrow(new GitHubApiRetryableException(ErrorType.GITHUB_API_TIMEOUT));
+
+        assertThat(prefetcher.take("a", 2026)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 GitHub를 묶어서 조회하지 않는다")
+    void should_skipPrefetch_when_disabled() {
+        ReflectionTestUtils.setField(prefetcher, "enabled", false);
+        prefetcher.afterRead(mock(User.class));
+
+        assertThat(prefetcher.take("a", 2026)).isEmpty();
+        verifyNoInteractions(activityService);
+    }
+}
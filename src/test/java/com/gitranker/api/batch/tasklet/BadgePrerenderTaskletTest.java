@@ -0,0 +1,96 @@
+package com.gitranker.api.batch.tasklet;
+
+import com.gitranker.api.domain.badge.BadgePrerenderer;
+import com.gitranker.api.domain.ranking.RankingSnapshotVersion;
+import com.gitranker.api.domain.ranking.RankingSnapshotVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BadgePrerenderTaskletTest {
+
+    @InjectMocks
+    private BadgePrerenderTasklet tasklet;
+
+    @Mock private RankingSnapshotVersionRepository rankingSnapshotVersionRepository;
+    @Mock private BadgePrerenderer badgePrerenderer;
+
+    private StepContribution contribution;
+    private ChunkContext chunkContext;
+
+    @BeforeEach
+    void setUp() {
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+        contribution = new StepContribution(stepExecution);
+        chunkContext = new ChunkContext(new StepContext(stepExecution));
+    }
+
+    private RankingSnapshotVersion publishedVersion(long id) {
+        RankingSnapshotVersion version = RankingSnapshotVersion.create();
+        version.publish();
+        ReflectionTestUtils.setField(version, "id", id);
+        return version;
+    }
+
+    @Test
+    @DisplayName("기본값은 꺼져 있어 아무 작업도 하지 않는다")
+    void should_skip_when_disabledByDefault() {
+        assertThat(tasklet.execute(contribution, chunkContext)).isEqualTo(RepeatStatus.FINISHED);
+
+        verifyNoInteractions(rankingSnapshotVersionRepository, badgePrerenderer);
+    }
+
+    @Test
+    @DisplayName("현재 버전 전환을 기다리지 않고 가장 최근에 공개된 버전의 배지 파일을 쓴다")
+    void should_prerenderLatestPublishedVersion_when_enabled() {
+        ReflectionTestUtils.setField(tasklet, "enabled", true);
+        when(rankingSnapshotVersionRepository.findTopByPublishedAtIsNotNullOrderByIdDesc())
+                .thenReturn(Optional.of(publishedVersion(8L)));
+        when(badgePrerenderer.prerender(8L)).thenReturn(42);
+
+        assertThat(tasklet.execute(contribution, chunkContext)).isEqualTo(RepeatStatus.FINISHED);
+
+        verify(badgePrerenderer).prerender(8L);
+        assertThat(contribution.getWriteCount()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("공개된 스냅샷이 없으면 렌더링하지 않는다")
+    void should_skip_when_noPublishedSnapshot() {
+        ReflectionTestUtils.setField(tasklet, "enabled", true);
+        when(rankingSnapshotVersionRepository.findTopByPublishedAtIsNotNullOrderByIdDesc())
+                .thenReturn(Optional.empty());
+
+        assertThat(tasklet.execute(contribution, chunkContext)).isEqualTo(RepeatStatus.FINISHED);
+
+        verifyNoInteractions(badgePrerenderer);
+    }
+
+    @Test
+    @DisplayName("사전 렌더링이 실패해도 단계는 완료된다")
+    void should_finish_when_prerenderFails() {
+        ReflectionTestUtils.setField(tasklet, "enabled", true);
+        when(rankingSnapshotVersionRepository.findTopByPublishedAtIsNotNullOrderByIdDesc())
+                .thenReturn(Optional.of(publishedVersion(8L)));
+        when(badgePrerenderer.prerender(8L)).thenThrow(new IllegalStateException("disk full"));
+
+        assertThat(tasklet.execute(contribution, chunkContext)).isEqualTo(RepeatStatus.FINISHED);
+    }
+}
@@ -0,0 +1,147 @@
+package com.gitranker.api.batch.tasklet;
+
+import com.gitranker.api.domain.user.Role;
+import com.gitranker.api.domain.user.User;
+import com.gitranker.api.domain.user.UserRepository;
+import com.gitranker.api.domain.user.service.UserPersistenceService;
+import com.gitranker.api.global.error.exception.GitHubRateLimitException;
+import com.gitranker.api.infrastructure.github.GitHubActivityService;
+import com.gitranker.api.infrastructure.github.dto.GitHubNodeUserResponse.Node;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileSyncTaskletTest {
+
+    @InjectMocks
+    private ProfileSyncTasklet tasklet;
+
+    @Mock private UserRepository userRepository;
+    @Mock private UserPersistenceService userPersistenceService;
+    @Mock private GitHubActivityService gitHubActivityService;
+
+    private StepExecution stepExecution;
+    private StepContribution contribution;
+    private ChunkContext chunkContext;
+
+    @BeforeEach
+    void setUp() {
+        stepExecution = MetaDataInstanceFactory.createStepExecution();
+        contribution = new StepContribution(stepExecution);
+        chunkContext = new ChunkContext(new StepContext(stepExecution));
+    }
+
+    private User user(long id, String username, String profileImage) {
+        User user = User.builder()
+                .githubId(id)
+                .nodeId("node" + id)
+                .username(username)
+                .profileImage(profileImage)
+                .githubCreatedAt(LocalDateTime.of(2020, 1, 1, 0, 0))
+                .role(Role.USER)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    @Test
+    @DisplayName("한 번의 nodes 조회로 바뀐 사용자만 갱신하고 마지막 id를 저장한다")
+    void should_updateOnlyChangedProfiles_when_syncingPage() {
+        User renamed = user(1L, "old-name", "avatar1");
+        User unchanged = user(2L, "same", "avatar2");
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(ProfileSyncTasklet.NODES_PER_QUERY)))
+                .thenReturn(List.of(renamed, unchanged));
+        when(gitHubActivityService.fetchUsersByNodeIds(List.of("node1", "node2"))).thenReturn(Map.of(
+                "node1", new Node("node1", "new-name", "", "avatar1"),
+                "node2", new Node("node2", "same", null, "avatar2")));
+        when(userRepository.existsByUsername("new-name")).thenReturn(false);
+
+        RepeatStatus status = tasklet.execute(contribution, chunkContext);
+
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        assertThat(contribution.getWriteCount()).isEqualTo(1);
+        assertThat(stepExecution.getExecutionContext().getLong(ProfileSyncTasklet.LAST_ID_KEY)).isEqualTo(2L);
+        verify(userPersistenceService).updateProfileInNewTransaction(renamed, "new-name", "avatar1", null);
+        verify(userPersistenceService, never()).updateProfileInNewTransaction(eq(unchanged), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("새 login을 다른 사용자가 쓰고 있으면 login은 유지하고 나머지만 갱신한다")
+    void should_keepUsername_when_newLoginTaken() {
+        User user = user(1L, "old-name", "avatar1");
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(ProfileSyncTasklet.NODES_PER_QUERY)))
+                .thenReturn(List.of(user));
+        when(gitHubActivityService.fetchUsersByNodeIds(List.of("node1")))
+                .thenReturn(Map.of("node1", new Node("node1", "taken", null, "avatar-new")));
+        when(userRepository.existsByUsername("taken")).thenReturn(true);
+
+        tasklet.execute(contribution, chunkContext);
+
+        verify(userPersistenceService).updateProfileInNewTransaction(user, "old-name", "avatar-new", null);
+    }
+
+    @Test
+    @DisplayName("한 사용자의 갱신이 실패하면 그 사용자만 건너뛰고 나머지를 갱신한다")
+    void should_skipUser_when_updateFails() {
+        User failing = user(1L, "old-one", "avatar1");
+        User renamed = user(2L, "old-two", "avatar2");
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(ProfileSyncTasklet.NODES_PER_QUERY)))
+                .thenReturn(List.of(failing, renamed));
+        when(gitHubActivityService.fetchUsersByNodeIds(List.of("node1", "node2"))).thenReturn(Map.of(
+                "node1", new Node("node1", "new-one", null, "avatar1"),
+                "node2", new Node("node2", "new-two", null, "avatar2")));
+        when(userRepository.existsByUsername(any())).thenReturn(false);
+        when(userPersistenceService.updateProfileInNewTransaction(failing, "new-one", "avatar1", null))
+                .thenThrow(new DataIntegrityViolationException("duplicate username"));
+
+        RepeatStatus status = tasklet.execute(contribution, chunkContext);
+
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        assertThat(contribution.getWriteCount()).isEqualTo(1);
+        assertThat(stepExecution.getExecutionContext().getLong(ProfileSyncTasklet.LAST_ID_KEY)).isEqualTo(2L);
+        verify(userPersistenceService).updateProfileInNewTransaction(renamed, "new-two", "avatar2", null);
+    }
+
+    @Test
+    @DisplayName("GitHub 조회가 실패해도 단계를 실패시키지 않는다")
+    void should_finish_when_lookupFails() {
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(ProfileSyncTasklet.NODES_PER_QUERY)))
+                .thenReturn(List.of(user(1L, "name", "avatar")));
+        when(gitHubActivityService.fetchUsersByNodeIds(any()))
+                .thenThrow(new GitHubRateLimitException(LocalDateTime.now()));
+
+        assertThat(tasklet.execute(contribution, chunkContext)).isEqualTo(RepeatStatus.FINISHED);
+        verifyNoInteractions(userPersistenceService);
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 아무 작업도 하지 않는다")
+    void should_skip_when_disabled() {
+        ReflectionTestUtils.setField(tasklet, "enabled", false);
+
+        assertThat(tasklet.execute(contribution, chunkContext)).isEqualTo(RepeatStatus.FINISHED);
+        verifyNoInteractions(userRepository, gitHubActivityService, userPersistenceService);
+    }
+}
@@ -0,0 +1,116 @@
+package com.gitranker.api.batch.tasklet;
+
+import com.gitranker.api.batch.metrics.BatchMetrics;
+import com.gitranker.api.domain.ranking.RankingJdbcRepository;
+import com.gitranker.api.domain.ranking.RankingSnapshotWriter;
+import com.gitranker.api.domain.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RankingRecalculationTaskletTest {
+
+    @InjectMocks
+    private RankingRecalculationTasklet tasklet;
+
+    @Mock private UserRepository userRepository;
+    @Mock private RankingSnapshotWriter rankingSnapshotWriter;
+    @Mock private RankingJdbcRepository rankingJdbcRepository;
+    @Mock private BatchMetrics batchMetrics;
+
+    private StepExecution stepExecution;
+    private StepContribution contribution;
+    private ChunkContext chunkContext;
+
+    @BeforeEach
+    void setUp() {
+        stepExecution = MetaDataInstanceFactory.createStepExecution();
+        contribution = new StepContribution(stepExecution);
+        chunkContext = new ChunkContext(new StepContext(stepExecution));
+    }
+
+    @Test
+    @DisplayName("CHUNKED 모드는 스냅샷 순위를 id 구간별로 반영한 뒤 공개한다")
+    void should_applyRangesThenPublish_when_chunkedMode() throws Exception {
+        ReflectionTestUtils.setField(tasklet, "applyChunkSize", 100);
+        when(rankingSnapshotWriter.createSnapshot()).thenReturn(7L);
+        when(rankingJdbcRepository.findMaxUserId()).thenReturn(250L);
+        when(rankingJdbcRepository.applySnapshotRange(eq(7L), anyLong(), anyLong())).thenReturn(10);
+
+        assertThat(tasklet.execute(contribution, chunkContext)).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(tasklet.execute(contribution, chunkContext)).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(tasklet.execute(contribution, chunkContext)).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(tasklet.execute(contribution, chunkContext)).isEqualTo(RepeatStatus.FINISHED);
+
+        InOrder inOrder = inOrder(rankingJdbcRepository, rankingSnapshotWriter);
+        inOrder.verify(rankingJdbcRepository).applySnapshotRange(7L, 0L, 100L);
+        inOrder.verify(rankingJdbcRepository).applySnapshotRange(7L, 100L, 200L);
+        inOrder.verify(rankingJdbcRepository).applySnapshotRange(7L, 200L, 250L);
+        inOrder.verify(rankingSnapshotWriter).publish(7L);
+        verify(batchMetrics, times(3)).recordRankingChunk(anyLong(), eq(10));
+        verify(batchMetrics).recordRankingProgress(100);
+        verify(userRepository, never()).bulkUpdateRanking();
+    }
+
+    @Test
+    @DisplayName("재시작 시 ExecutionContext의 마지막 구간부터 이어서 반영한다")
+    void should_resumeFromLastId_when_restarted() throws Exception {
+        stepExecution.getExecutionContext().putLong(RankingRecalculationTasklet.SNAPSHOT_VERSION_KEY, 7L);
+        stepExecution.getExecutionContext().putLong(RankingRecalculationTasklet.LAST_ID_KEY, 900L);
+        stepExecution.getExecutionContext().putLong(RankingRecalculationTasklet.MAX_ID_KEY, 1000L);
+
+        RepeatStatus status = tasklet.execute(contribution, chunkContext);
+
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        verify(rankingSnapshotWriter, never()).createSnapshot();
+        verify(rankingJdbcRepository).applySnapshotRange(7L, 900L, 1000L);
+        verify(rankingSnapshotWriter).publish(7L);
+    }
+
+    @Test
+    @DisplayName("사용자가 없으면 스냅샷만 공개하고 종료한다")
+    void should_publishImmediately_when_noUsers() throws Exception {
+        when(rankingSnapshotWriter.createSnapshot()).thenReturn(7L);
+        when(rankingJdbcRepository.findMaxUserId()).thenReturn(0L);
+
+        tasklet.execute(contribution, chunkContext);
+        RepeatStatus status = tasklet.execute(contribution, chunkContext);
+
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        verify(rankingJdbcRepository, never()).applySnapshotRange(anyLong(), anyLong(), anyLong());
+        verify(rankingSnapshotWriter).publish(7L);
+    }
+
+    @Test
+    @DisplayName("BULK 모드는 단일 UPDATE로 전체 순위를 갱신한다")
+    void should_bulkUpdate_when_bulkMode() throws Exception {
+        ReflectionTestUtils.setField(tasklet, "applyMode", RankingApplyMode.BULK);
+        when(rankingSnapshotWriter.createSnapshot()).thenReturn(7L);
+
+        RepeatStatus status = tasklet.execute(contribution, chunkContext);
+
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        verify(userRepository).bulkUpdateRanking();
+        verify(rankingSnapshotWriter).publish(7L);
+        verify(batchMetrics, never()).recordRankingChunk(anyLong(), anyInt());
+    }
+}
@@ -0,0 +1,107 @@
+package com.gitranker.api.domain.badge;
+
+import com.gitranker.api.domain.badge.BadgeCache.RenderedBadge;
+import com.gitranker.api.domain.ranking.RankingSnapshotActivatingEvent;
+import com.gitranker.api.domain.ranking.RankingSnapshotService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class BadgeCacheTest {
+
+    private final BadgeReadRepository badgeReadRepository = mock(BadgeReadRepository.class);
+    private final BadgeFileStore badgeFileStore = mock(BadgeFileStore.class);
+    private final BadgeCache badgeCache = new BadgeCache(
+            new ConcurrentMapCacheManager(BadgeCache.BADGES_CACHE), badgeReadRepository, badgeFileStore);
+
+    @Test
+    @DisplayName("같은 nodeId의 변형별 배지를 따로 보관하고, nodeId 단위 제거로 함께 지운다")
+    void should_keepVariantsSeparately_when_putForSameNode() {
+        RenderedBadge card = RenderedBadge.of(3L, "user", "\"card\"", "<svg>card</svg>");
+        RenderedBadge compact = RenderedBadge.of(3L, "user", "\"compact\"", "<svg>compact</svg>");
+
+        badgeCache.put("node1", BadgeVariant.DEFAULT, card);
+        badgeCache.put("node1", BadgeVariant.COMPACT, compact);
+
+        assertThat(badgeCache.find("node1", BadgeVariant.DEFAULT)).contains(card);
+        assertThat(badgeCache.find("node1", BadgeVariant.COMPACT)).contains(compact);
+        assertThat(badgeCache.find("node1", BadgeVariant.FLAT)).isEmpty();
+
+        badgeCache.evictAll(List.of("node1"));
+
+        assertThat(badgeCache.find("node1", BadgeVariant.DEFAULT)).isEmpty();
+        assertThat(badgeCache.find("node1", BadgeVariant.COMPACT)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("새 스냅샷으로 전환할 때 순위 값이 바뀐 사용자만 제거하고 나머지는 유지한다")
+    void should_evictOnlyChangedUsers_when_snapshotActivating() {
+        RenderedBadge changed = RenderedBadge.of(3L, "changed", "\"a\"", "<svg>a</svg>");
+        RenderedBadge unchanged = RenderedBadge.of(3L, "unchanged", "\"b\"", "<svg>b</svg>");
+        badgeCache.put("node1", BadgeVariant.DEFAULT, changed);
+        badgeCache.put("node2", BadgeVariant.DEFAULT, unchanged);
+        when(badgeReadRepository.findChangedNodeIds(3L, 4L)).thenReturn(List.of("node1"));
+
+        badgeCache.onSnapshotActivating(new RankingSnapshotActivatingEvent(4L, 3L));
+
+        assertThat(badgeCache.find("node1", BadgeVariant.DEFAULT)).isEmpty();
+        assertThat(badgeCache.find("node2", BadgeVariant.DEFAULT)).contains(unchanged);
+    }
+
+    @Test
+    @DisplayName("전환이 시작된 뒤 이전 버전으로 렌더링된 배지는 저장하지 않는다")
+    void should_rejectOlderVersion_when_putAfterActivation() {
+        when(badgeReadRepository.findChangedNodeIds(3L, 4L)).thenReturn(List.of());
+        badgeCache.onSnapshotActivating(new RankingSnapshotActivatingEvent(4L, 3L));
+
+        badgeCache.put("node1", BadgeVariant.DEFAULT, RenderedBadge.of(3L, "user", "\"old\"", "<svg>old</svg>"));
+        badgeCache.put("node2", BadgeVariant.DEFAULT, RenderedBadge.of(4L, "user", "\"new\"", "<svg>new</svg>"));
+
+        assertThat(badgeCache.find("node1", BadgeVariant.DEFAULT)).isEmpty();
+        assertThat(badgeCache.find("node2", BadgeVariant.DEFAULT)).isPresent();
+    }
+
+    @Test
+    @DisplayName("첫 스냅샷으로 전환하면 users 기준으로 렌더링한 항목을 모두 비운다")
+    void should_clearAll_when_firstSnapshotActivating() {
+        badgeCache.put("node1", BadgeVariant.DEFAULT, RenderedBadge.of(0L, "user", "\"live\"", "<svg>live</svg>"));
+
+        badgeCache.onSnapshotActivating(new RankingSnapshotActivatingEvent(1L, RankingSnapshotService.NO_SNAPSHOT));
+
+        assertThat(badgeCache.find("node1", BadgeVariant.DEFAULT)).isEmpty();
+        verifyNoInteractions(badgeReadRepository);
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 현재 스냅샷 버전의 배지 파일에서 찾는다")
+    void should_readBadgeFile_when_cacheMiss() {
+        RenderedBadge fromFile = RenderedBadge.of(4L, "user", "\"file\"", "<svg>file</svg>");
+        when(badgeReadRepository.findChangedNodeIds(3L, 4L)).thenReturn(List.of());
+        when(badgeFileStore.find("node1", BadgeVariant.FLAT, 4L)).thenReturn(Optional.of(fromFile));
+        badgeCache.onSnapshotActivating(new RankingSnapshotActivatingEvent(4L, 3L));
+
+        assertThat(badgeCache.find("node1", BadgeVariant.FLAT)).contains(fromFile);
+    }
+
+    @Test
+    @DisplayName("사용자 데이터가 바뀌어 제거하면 배지 파일의 항목도 무효화하지만, 스냅샷 전환은 파일을 건드리지 않는다")
+    void should_invalidateBadgeFile_when_userEvicted() {
+        when(badgeReadRepository.findChangedNodeIds(3L, 4L)).thenReturn(List.of("node2"));
+
+        badgeCache.evict("node1");
+        badgeCache.onSnapshotActivating(new RankingSnapshotActivatingEvent(4L, 3L));
+
+        verify(badgeFileStore).invalidate("node1");
+        verify(badgeFileStore, never()).invalidate("node2");
+    }
+}
@@ -1,5 +1,6 @@
 package com.gitranker.api.domain.badge;
 
+import com.gitranker.api.domain.badge.BadgeCache.RenderedBadge;
 import com.gitranker.api.domain.user.Tier;
 import com.gitranker.api.domain.user.UserRepository;
 import com.gitranker.api.global.auth.CustomOAuth2UserService;
@@ -13,11 +14,22 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,6 +45,7 @@ class BadgeControllerTest {
     private MockMvc mockMvc;
 
     @MockitoBean private BadgeService badgeService;
+    @MockitoBean private TierPreviewBadges tierPreviewBadges;
     @MockitoBean private JwtProvider jwtProvider;
     @MockitoBean private UserRepository userRepository;
     @MockitoBean private CustomOAuth2UserService customOAuth2UserService;
@@ -45,24 +58,146 @@ class BadgeControllerTest {
     @DisplayName("nodeId로 뱃지를 요청하면 SVG를 반환한다")
     void should_returnSvg_when_validNodeId() throws Exception {
         String svgContent = "<svg>test badge</svg>";
-        when(badgeService.generateBadge("node-123")).thenReturn(svgContent);
+        when(badgeService.getBadgeETag("node-123", BadgeVariant.DEFAULT)).thenReturn("\"r-3-abc\"");
+        when(badgeService.generateBadge("node-123", BadgeVariant.DEFAULT, "\"r-3-abc\""))
+                .thenReturn(RenderedBadge.of(3L, "user", "\"r-3-abc\"", svgContent));
 
         mockMvc.perform(get("/api/v1/badges/node-123"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith("image/svg+xml"))
                 .andExpect(content().string(svgContent))
-                .andExpect(header().exists("Cache-Control"));
+                .andExpect(header().exists("Cache-Control"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"r-3-abc\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().doesNotExist("Pragma"));
+    }
+
+    @Test
+    @DisplayName("gzip을 허용하는 요청에는 미리 압축한 본문을 Content-Encoding과 함께 반환한다")
+    void should_returnPrecompressedSvg_when_gzipAccepted() throws Exception {
+        String svgContent = "<svg>test badge • 1,234</svg>";
+        RenderedBadge badge = RenderedBadge.of(3L, "user", "\"r-3-abc\"", svgContent);
+        when(badgeService.getBadgeETag("node-123", BadgeVariant.DEFAULT)).thenReturn("\"r-3-abc\"");
+        when(badgeService.generateBadge("node-123", BadgeVariant.DEFAULT, "\"r-3-abc\"")).thenReturn(badge);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/badges/node-123")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"r-3-abc-gzip\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+
+        byte[] body = result.getResponse().getContentAsByteArray();
+        assertThat(ByteBuffer.wrap(body)).isEqualTo(badge.gzippedSvg());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(svgContent);
+        }
+        verify(businessMetrics).recordBadgeResponseBytes(true, body.length);
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding의 q=0과 와일드카드를 해석한다")
+    void should_negotiateGzip_when_acceptEncodingGiven() {
+        assertThat(BadgeController.acceptsGzip(null)).isFalse();
+        assertThat(BadgeController.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(BadgeController.acceptsGzip("GZIP;q=0.5")).isTrue();
+        assertThat(BadgeController.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(BadgeController.acceptsGzip("identity")).isFalse();
+        assertThat(BadgeController.acceptsGzip("*")).isTrue();
+        assertThat(BadgeController.acceptsGzip("*, gzip;q=0")).isFalse();
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 일치하면 렌더링 없이 304를 반환한다")
+    void should_return304_when_eTagMatches() throws Exception {
+        when(badgeService.getBadgeETag("node-123", BadgeVariant.DEFAULT)).thenReturn("\"r-3-abc\"");
+
+        mockMvc.perform(get("/api/v1/badges/node-123").header(HttpHeaders.IF_NONE_MATCH, "\"r-3-abc\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"r-3-abc\""))
+                .andExpect(header().exists("Cache-Control"))
+                .andExpect(content().string(""));
+
+        verify(badgeService, never()).generateBadge(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("If-None-Match는 선택된 표현의 ETag와 비교하므로 gzip 요청에 비압축 ETag가 오면 본문을 반환한다")
+    void should_compareSelectedRepresentationETag_when_gzipAccepted() throws Exception {
+        when(badgeService.getBadgeETag("node-123", BadgeVariant.DEFAULT)).thenReturn("\"r-3-abc\"");
+        when(badgeService.generateBadge("node-123", BadgeVariant.DEFAULT, "\"r-3-abc\""))
+                .thenReturn(RenderedBadge.of(3L, "user", "\"r-3-abc\"", "<svg>test badge</svg>"));
+
+        mockMvc.perform(get("/api/v1/badges/node-123")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"r-3-abc\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"r-3-abc-gzip\""));
+
+        mockMvc.perform(get("/api/v1/badges/node-123")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"r-3-abc-gzip\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"r-3-abc-gzip\""));
+    }
+
+    @Test
+    @DisplayName("gzip 표현의 ETag는 닫는 따옴표 앞에 -gzip을 붙인다")
+    void should_suffixGzip_when_gzipRepresentationSelected() {
+        assertThat(BadgeController.representationETag("\"r-3-abc\"", false)).isEqualTo("\"r-3-abc\"");
+        assertThat(BadgeController.representationETag("\"r-3-abc\"", true)).isEqualTo("\"r-3-abc-gzip\"");
+    }
+
+    @Test
+    @DisplayName("style 파라미터로 고른 변형의 배지와 ETag를 반환한다")
+    void should_returnVariantBadge_when_styleGiven() throws Exception {
+        String svgContent = "<svg>compact badge</svg>";
+        when(badgeService.getBadgeETag("node-123", BadgeVariant.COMPACT)).thenReturn("\"r-compact-3-abc\"");
+        when(badgeService.generateBadge("node-123", BadgeVariant.COMPACT, "\"r-compact-3-abc\""))
+                .thenReturn(RenderedBadge.of(3L, "user", "\"r-compact-3-abc\"", svgContent));
+
+        mockMvc.perform(get("/api/v1/badges/node-123").param("style", "Compact"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(svgContent))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"r-compact-3-abc\""));
     }
 
     @Test
-    @DisplayName("티어별 뱃지를 요청하면 SVG를 반환한다")
+    @DisplayName("지원하지 않는 style이면 400을 반환한다")
+    void should_return400_when_styleUnknown() throws Exception {
+        mockMvc.perform(get("/api/v1/badges/node-123").param("style", "neon"))
+                .andExpect(status().isBadRequest());
+
+        verify(badgeService, never()).getBadgeETag(any(), any());
+    }
+
+    @Test
+    @DisplayName("티어별 뱃지를 요청하면 미리 렌더링한 SVG를 immutable 캐시 헤더와 함께 반환한다")
     void should_returnSvg_when_validTier() throws Exception {
         String svgContent = "<svg>gold badge</svg>";
-        when(badgeService.generateBadgeByTier(Tier.GOLD)).thenReturn(svgContent);
+        when(tierPreviewBadges.get(Tier.GOLD))
+                .thenReturn(RenderedBadge.of(0L, "GOLD", "\"preview-r-GOLD\"", svgContent));
 
         mockMvc.perform(get("/api/v1/badges/GOLD/badge"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith("image/svg+xml"))
-                .andExpect(content().string(svgContent));
+                .andExpect(content().string(svgContent))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"preview-r-GOLD\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=86400, public, immutable"));
+
+        verify(badgeService, never()).generateBadge(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("티어 미리보기의 ETag가 일치하면 304를 반환한다")
+    void should_return304_when_tierPreviewETagMatches() throws Exception {
+        when(tierPreviewBadges.get(Tier.GOLD))
+                .thenReturn(RenderedBadge.of(0L, "GOLD", "\"preview-r-GOLD\"", "<svg>gold badge</svg>"));
+
+        mockMvc.perform(get("/api/v1/badges/GOLD/badge").header(HttpHeaders.IF_NONE_MATCH, "\"preview-r-GOLD\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
     }
 }
@@ -0,0 +1,205 @@
+package com.gitranker.api.domain.badge;
+
+import com.gitranker.api.domain.badge.BadgeCache.RenderedBadge;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BadgeFileStoreTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 1, 12, 0, 0, 123_456_000);
+
+    @TempDir
+    private Path directory;
+
+    @Mock private BadgeReadRepository badgeReadRepository;
+
+    private BadgeFileStore badgeFileStore;
+
+    @BeforeEach
+    void setUp() {
+        badgeFileStore = new BadgeFileStore(badgeReadRepository);
+        ReflectionTestUtils.setField(badgeFileStore, "directory", directory);
+    }
+
+    private Map<BadgeVariant, RenderedBadge> badges(long version, String username) {
+        Map<BadgeVariant, RenderedBadge> badges = new EnumMap<>(BadgeVariant.class);
+        for (BadgeVariant variant : BadgeVariant.values()) {
+            badges.put(variant, RenderedBadge.of(version, username, "\"" + username + "-" + variant.getStyle() + "\"",
+                    "<svg>" + username + " " + variant.getStyle() + "</svg>"));
+        }
+        return badges;
+    }
+
+    private void writeFile(long version, String... usernames) {
+        try (BadgeFileStore.Writer writer = badgeFileStore.openWriter(version)) {
+            for (String username : usernames) {
+                writer.append("node-" + username, UPDATED_AT, badges(version, username));
+            }
+            writer.commit();
+        }
+    }
+
+    private Map<String, LocalDateTime> unchanged(String... usernames) {
+        Map<String, LocalDateTime> updatedAt = new HashMap<>();
+        for (String username : usernames) {
+            updatedAt.put("node-" + username, UPDATED_AT);
+        }
+        return updatedAt;
+    }
+
+    @Test
+    @DisplayName("커밋한 파일을 매핑해 변형별 본문, gzip 본문, ETag를 그대로 읽는다")
+    void should_readEveryVariant_when_fileCommitted() {
+        writeFile(7L, "alice", "bob");
+        when(badgeReadRepository.findAllUpdatedAt()).thenReturn(unchanged("alice", "bob"));
+
+        badgeFileStore.refresh();
+
+        for (BadgeVariant variant : BadgeVariant.values()) {
+            RenderedBadge expected = badges(7L, "bob").get(variant);
+            RenderedBadge badge = badgeFileStore.find("node-bob", variant, 7L).orElseThrow();
+            assertThat(badge.svg()).isEqualTo(expected.svg());
+            assertThat(badge.gzippedSvg()).isEqualTo(expected.gzippedSvg());
+            assertThat(badge.svg().isReadOnly()).isTrue();
+            assertThat(badge.eTag()).isEqualTo(expected.eTag());
+            assertThat(badge.username()).isEqualTo("bob");
+            assertThat(badge.snapshotVersion()).isEqualTo(7L);
+        }
+        assertThat(badgeFileStore.find("node-carol", BadgeVariant.DEFAULT, 7L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("현재 스냅샷 버전과 다른 파일의 배지는 반환하지 않는다")
+    void should_returnEmpty_when_versionDiffers() {
+        writeFile(7L, "alice");
+        when(badgeReadRepository.findAllUpdatedAt()).thenReturn(unchanged("alice"));
+
+        badgeFileStore.refresh();
+
+        assertThat(badgeFileStore.find("node-alice", BadgeVariant.DEFAULT, 8L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("배지가 구간 경계를 넘지 않도록 나눠 써서 여러 구간에 걸친 파일도 읽는다")
+    void should_readAcrossSegments_when_fileLargerThanSegment() {
+        ReflectionTestUtils.setField(badgeFileStore, "segmentSize", 256L);
+        String[] usernames = IntStream.range(0, 30).mapToObj(i -> "user" + i).toArray(String[]::new);
+        writeFile(7L, usernames);
+        when(badgeReadRepository.findAllUpdatedAt()).thenReturn(unchanged(usernames));
+
+        badgeFileStore.refresh();
+
+        for (String username : usernames) {
+            assertThat(badgeFileStore.find("node-" + username, BadgeVariant.COMPACT, 7L).orElseThrow().svg())
+                    .isEqualTo(badges(7L, username).get(BadgeVariant.COMPACT).svg());
+        }
+    }
+
+    @Test
+    @DisplayName("렌더링 이후 수정되었거나 탈퇴한 사용자는 파일을 읽어 들일 때 제외한다")
+    void should_excludeChangedUsers_when_loading() {
+        writeFile(7L, "same", "changed", "deleted");
+        Map<String, LocalDateTime> updatedAt = unchanged("same");
+        updatedAt.put("node-changed", UPDATED_AT.plusMinutes(1));
+        when(badgeReadRepository.findAllUpdatedAt()).thenReturn(updatedAt);
+
+        badgeFileStore.refresh();
+
+        assertThat(badgeFileStore.find("node-same", BadgeVariant.DEFAULT, 7L)).isPresent();
+        assertThat(badgeFileStore.find("node-changed", BadgeVariant.DEFAULT, 7L)).isEmpty();
+        assertThat(badgeFileStore.find("node-deleted", BadgeVariant.DEFAULT, 7L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무효화한 nodeId는 새 파일이 렌더링되기 전까지 파일에서 읽지 않는다")
+    void should_skipInvalidatedNode_until_newerFileLoaded() throws InterruptedException {
+        writeFile(7L, "alice");
+        when(badgeReadRepository.findAllUpdatedAt()).thenReturn(unchanged("alice"));
+        badgeFileStore.refresh();
+
+        badgeFileStore.invalidate("node-alice");
+
+        assertThat(badgeFileStore.find("node-alice", BadgeVariant.DEFAULT, 7L)).isEmpty();
+
+        // 같은 밀리초에 렌더링을 시작하면 무효화 이후 렌더링인지 알 수 없어 계속 제외하므로 시각을 넘깁니다.
+        Thread.sleep(5);
+        writeFile(8L, "alice");
+        badgeFileStore.refresh();
+
+        assertThat(badgeFileStore.find("node-alice", BadgeVariant.DEFAULT, 8L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("커밋하지 않은 파일은 공개하지 않고, 오래된 파일은 최근 두 개만 남긴다")
+    void should_publishOnlyCommittedFiles_and_keepLatestTwo() throws IOException {
+        writeFile(5L, "alice");
+        writeFile(6L, "alice");
+        writeFile(7L, "alice");
+        try (BadgeFileStore.Writer writer = badgeFileStore.openWriter(8L)) {
+            writer.append("node-alice", UPDATED_AT, badges(8L, "alice"));
+        }
+        when(badgeReadRepository.findAllUpdatedAt()).thenReturn(unchanged("alice"));
+
+        badgeFileStore.refresh();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.map(file -> file.getFileName().toString()))
+                    .containsExactlyInAnyOrder("badges-6.bin", "badges-7.bin");
+        }
+        assertThat(badgeFileStore.find("node-alice", BadgeVariant.DEFAULT, 7L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("템플릿이 달라 거절한 파일은 수정 시각이 바뀌기 전까지 다시 읽지 않는다")
+    void should_notRereadRejectedFile_until_modified() throws IOException {
+        writeFile(7L, "alice");
+        Path file = directory.resolve("badges-7.bin");
+        byte[] valid = Files.readAllBytes(file);
+        byte[] otherTemplate = valid.clone();
+        otherTemplate[34] ^= 1; // 헤더의 템플릿 리비전 첫 글자
+        Files.write(file, otherTemplate);
+        FileTime rejectedAt = Files.getLastModifiedTime(file);
+        badgeFileStore.refresh();
+
+        Files.write(file, valid);
+        Files.setLastModifiedTime(file, rejectedAt);
+        badgeFileStore.refresh();
+
+        assertThat(badgeFileStore.find("node-alice", BadgeVariant.DEFAULT, 7L)).isEmpty();
+
+        Files.setLastModifiedTime(file, FileTime.fromMillis(rejectedAt.toMillis() + 1_000));
+        when(badgeReadRepository.findAllUpdatedAt()).thenReturn(unchanged("alice"));
+        badgeFileStore.refresh();
+
+        assertThat(badgeFileStore.find("node-alice", BadgeVariant.DEFAULT, 7L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("파일이 없으면 아무것도 매핑하지 않는다")
+    void should_findNothing_when_noFile() {
+        badgeFileStore.refresh();
+
+        assertThat(badgeFileStore.find("node-alice", BadgeVariant.DEFAULT, 7L)).isEmpty();
+    }
+}
@@ -0,0 +1,105 @@
+package com.gitranker.api.domain.badge;
+
+import com.gitranker.api.domain.badge.BadgeCache.RenderedBadge;
+import com.gitranker.api.domain.badge.BadgeReadRepository.BadgeData;
+import com.gitranker.api.domain.badge.BadgeReadRepository.SnapshotBadgeData;
+import com.gitranker.api.domain.log.ActivityLog;
+import com.gitranker.api.domain.user.Tier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BadgePrerendererTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @TempDir
+    private Path directory;
+
+    @Mock private BadgeReadRepository badgeReadRepository;
+    @Mock private BadgeService badgeService;
+
+    private BadgeFileStore badgeFileStore;
+    private BadgePrerenderer badgePrerenderer;
+
+    @BeforeEach
+    void setUp() {
+        badgeFileStore = new BadgeFileStore(badgeReadRepository);
+        ReflectionTestUtils.setField(badgeFileStore, "directory", directory);
+        badgePrerenderer = new BadgePrerenderer(badgeReadRepository, badgeService, badgeFileStore);
+    }
+
+    private SnapshotBadgeData row(long userId, int score) {
+        BadgeData data = new BadgeData("user" + userId, UPDATED_AT, score, 1.0,
+                (int) userId, Tier.GOLD, ActivityLog.builder().build());
+        return new SnapshotBadgeData(userId, "node" + userId, data);
+    }
+
+    private void stubRender() {
+        when(badgeService.render(any(BadgeData.class), eq(7L), any(BadgeVariant.class)))
+                .thenAnswer(invocation -> {
+                    BadgeData data = invocation.getArgument(0);
+                    BadgeVariant variant = invocation.getArgument(2);
+                    return RenderedBadge.of(7L, data.username(), "\"" + variant.getStyle() + "\"",
+                            "<svg>" + data.username() + " " + variant.getStyle() + "</svg>");
+                });
+    }
+
+    @Test
+    @DisplayName("순위 순서로 페이지를 이어 읽으며 모든 사용자의 모든 변형을 배지 파일에 쓴다")
+    void should_writeEveryVariantOfEveryUser_when_prerendering() {
+        when(badgeReadRepository.findSnapshotBadgeDataAfter(7L, Integer.MAX_VALUE, 0L, 500))
+                .thenReturn(List.of(row(1, 3000), row(2, 2000)));
+        when(badgeReadRepository.findSnapshotBadgeDataAfter(7L, 2000, 2L, 500))
+                .thenReturn(List.of());
+        when(badgeReadRepository.findAllUpdatedAt())
+                .thenReturn(Map.of("node1", UPDATED_AT, "node2", UPDATED_AT));
+        stubRender();
+
+        int rendered = badgePrerenderer.prerender(7L);
+        badgeFileStore.refresh();
+
+        assertThat(rendered).isEqualTo(2);
+        verify(badgeService, times(2 * BadgeVariant.values().length)).render(any(), eq(7L), any());
+        assertThat(badgeFileStore.find("node2", BadgeVariant.FLAT, 7L).orElseThrow().svg())
+                .isEqualTo(StandardCharsets.UTF_8.encode("<svg>user2 flat</svg>"));
+        assertThat(badgeFileStore.find("node1", BadgeVariant.DEFAULT, 7L).orElseThrow().eTag())
+                .isEqualTo("\"default\"");
+    }
+
+    @Test
+    @DisplayName("렌더링 중 실패하면 배지 파일을 공개하지 않는다")
+    void should_notPublishFile_when_renderingFails() throws IOException {
+        when(badgeReadRepository.findSnapshotBadgeDataAfter(7L, Integer.MAX_VALUE, 0L, 500))
+                .thenReturn(List.of(row(1, 3000)));
+        when(badgeService.render(any(BadgeData.class), eq(7L), any(BadgeVariant.class)))
+                .thenThrow(new IllegalStateException("render failed"));
+
+        assertThatThrownBy(() -> badgePrerenderer.prerender(7L)).isInstanceOf(IllegalStateException.class);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.gitranker.api.domain.badge;
+
+import com.gitranker.api.domain.badge.BadgeReadRepository.BadgeData;
+import com.gitranker.api.domain.badge.BadgeReadRepository.SnapshotBadgeData;
+import com.gitranker.api.domain.log.ActivityLog;
+import com.gitranker.api.domain.log.ActivityLogRepository;
+import com.gitranker.api.domain.ranking.RankingSnapshotRepository;
+import com.gitranker.api.domain.user.Role;
+import com.gitranker.api.domain.user.Tier;
+import com.gitranker.api.domain.user.User;
+import com.gitranker.api.domain.user.UserRepository;
+import com.gitranker.api.domain.user.vo.RankInfo;
+import com.gitranker.api.domain.user.vo.Score;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@Import(BadgeReadRepository.class)
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.batch.jdbc.initialize-schema=never"
+})
+class BadgeReadRepositoryIT {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("gitranker_test");
+
+    @Autowired
+    private BadgeReadRepository badgeReadRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ActivityLogRepository activityLogRepository;
+
+    @Autowired
+    private RankingSnapshotRepository rankingSnapshotRepository;
+
+    @BeforeEach
+    void setUp() {
+        activityLogRepository.deleteAll();
+        rankingSnapshotRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private User createAndSaveUser(String username, Long githubId, int score) {
+        User user = User.builder()
+                .githubId(githubId)
+                .nodeId("node-" + username)
+                .username(username)
+                .githubCreatedAt(LocalDateTime.of(2020, 1, 1, 0, 0))
+                .role(Role.USER)
+                .build();
+        user.updateScore(Score.of(score));
+        return userRepository.save(user);
+    }
+
+    private void saveLog(User user, LocalDate date, int commitCount, int diffCommitCount) {
+        activityLogRepository.save(ActivityLog.builder()
+                .user(user)
+                .activityDate(date)
+                .commitCount(commitCount)
+                .diffCommitCount(diffCommitCount)
+                .build());
+    }
+
+    @Test
+    @DisplayName("스냅샷이 아닌 users 행의 점수와 순위를 최신 활동 로그와 함께 조회한다")
+    void should_readLiveRankAndLatestLog_when_userChangedAfterSnapshot() {
+        User target = createAndSaveUser("target", 1L, 3000);
+        createAndSaveUser("mid", 2L, 1500);
+        createAndSaveUser("low", 3L, 100);
+        saveLog(target, LocalDate.of(2026, 1, 1), 100, 5);
+        saveLog(target, LocalDate.of(2026, 1, 2), 120, 20);
+        userRepository.flush();
+        rankingSnapshotRepository.insertFromUsers(7L);
+
+        target.updateScore(Score.of(500));
+        target.updateRankInfo(RankInfo.of(3, 100.0, 500));
+        userRepository.saveAndFlush(target);
+
+        BadgeData data = badgeReadRepository.findByNodeId("node-target").orElseThrow();
+
+        assertThat(data.username()).isEqualTo("target");
+        assertThat(data.totalScore()).isEqualTo(500);
+        assertThat(data.ranking()).isEqualTo(3);
+        assertThat(data.tier()).isEqualTo(Tier.BRONZE);
+        assertThat(data.activityLog().getCommitCount()).isEqualTo(120);
+        assertThat(data.activityLog().getDiffCommitCount()).isEqualTo(20);
+        assertThat(badgeReadRepository.findStampByNodeId("node-target")).contains(data.stamp());
+    }
+
+    @Test
+    @DisplayName("활동 로그가 없으면 0으로 채운다")
+    void should_fillZero_when_noLog() {
+        createAndSaveUser("fresh", 1L, 700);
+        userRepository.flush();
+
+        BadgeData data = badgeReadRepository.findByNodeId("node-fresh").orElseThrow();
+
+        assertThat(data.totalScore()).isEqualTo(700);
+        assertThat(data.tier()).isEqualTo(Tier.IRON);
+        assertThat(data.activityLog().getCommitCount()).isZero();
+        assertThat(data.activityLog().getDiffReviewCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("스냅샷 순위 순서로 배지 데이터를 키셋 페이지로 조회한다")
+    void should_pageBadgeDataInRankOrder_when_readingSnapshot() {
+        User high = createAndSaveUser("high", 1L, 3000);
+        createAndSaveUser("mid", 2L, 1500);
+        createAndSaveUser("low", 3L, 100);
+        saveLog(high, LocalDate.of(2026, 1, 2), 120, 20);
+        userRepository.flush();
+        rankingSnapshotRepository.insertFromUsers(7L);
+
+        List<SnapshotBadgeData> first = badgeReadRepository.findSnapshotBadgeDataAfter(7L, Integer.MAX_VALUE, 0L, 2);
+        SnapshotBadgeData last = first.get(1);
+        List<SnapshotBadgeData> next = badgeReadRepository.findSnapshotBadgeDataAfter(
+                7L, last.data().totalScore(), last.userId(), 2);
+
+        assertThat(first).extracting(SnapshotBadgeData::nodeId).containsExactly("node-high", "node-mid");
+        assertThat(first.get(0).data().activityLog().getCommitCount()).isEqualTo(120);
+        assertThat(next).extracting(SnapshotBadgeData::nodeId).containsExactly("node-low");
+    }
+
+    @Test
+    @DisplayName("두 스냅샷 사이에 표시 값이 바뀌었거나 새로 들어온 사용자만 조회한다")
+    void should_findOnlyChangedUsers_when_comparingSnapshots() {
+        createAndSaveUser("same", 1L, 3000);
+        User changed = createAndSaveUser("changed", 2L, 1000);
+        userRepository.flush();
+        rankingSnapshotRepository.insertFromUsers(7L);
+
+        changed.updateScore(Score.of(1500));
+        userRepository.saveAndFlush(changed);
+        rankingSnapshotRepository.insertFromUsers(8L);
+
+        assertThat(badgeReadRepository.findChangedNodeIds(7L, 8L)).containsExactly("node-changed");
+        assertThat(badgeReadRepository.findChangedNodeIds(6L, 8L)).containsExactlyInAnyOrder("node-same", "node-changed");
+    }
+
+    @Test
+    @DisplayName("모든 사용자의 수정 시각을 배지 데이터와 같은 값으로 조회한다")
+    void should_readUpdatedAtOfAllUsers_when_validatingBadgeFile() {
+        createAndSaveUser("first", 1L, 3000);
+        createAndSaveUser("second", 2L, 1000);
+        userRepository.flush();
+
+        Map<String, LocalDateTime> updatedAt = badgeReadRepository.findAllUpdatedAt();
+
+        assertThat(updatedAt).containsOnlyKeys("node-first", "node-second");
+        assertThat(updatedAt.get("node-first"))
+                .isEqualTo(badgeReadRepository.findByNodeId("node-first").orElseThrow().updatedAt());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 nodeId는 빈 결과를 반환한다")
+    void should_returnEmpty_when_nodeIdUnknown() {
+        assertThat(badgeReadRepository.findByNodeId("missing")).isEmpty();
+    }
+}
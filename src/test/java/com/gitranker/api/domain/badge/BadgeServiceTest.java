@@ -1,14 +1,12 @@
 package com.gitranker.api.domain.badge;
 
+import com.gitranker.api.domain.badge.BadgeReadRepository.BadgeData;
 import com.gitranker.api.domain.log.ActivityLog;
-import com.gitranker.api.domain.log.ActivityLogRepository;
-import com.gitranker.api.domain.user.Role;
+import com.gitranker.api.domain.ranking.RankingSnapshotService;
 import com.gitranker.api.domain.user.Tier;
-import com.gitranker.api.domain.user.User;
-import com.gitranker.api.domain.user.UserRepository;
 import com.gitranker.api.global.error.ErrorType;
 import com.gitranker.api.global.error.exception.BusinessException;
-import com.gitranker.api.global.metrics.BusinessMetrics;
+import com.gitranker.api.global.metrics.ViewCountAggregator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,89 +14,156 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDate;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class BadgeServiceTest {
 
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 1, 12, 0);
+
     @InjectMocks
     private BadgeService badgeService;
 
-    @Mock private UserRepository userRepository;
-    @Mock private ActivityLogRepository activityLogRepository;
+    @Mock private BadgeReadRepository badgeReadRepository;
     @Mock private SvgBadgeRenderer svgBadgeRenderer;
-    @Mock private BusinessMetrics businessMetrics;
+    @Mock private ViewCountAggregator viewCountAggregator;
+    @Mock private RankingSnapshotService rankingSnapshotService;
+    @Mock private BadgeCache badgeCache;
 
     @Test
-    @DisplayName("사용자가 존재하면 SVG 뱃지를 생성한다")
+    @DisplayName("배지 데이터를 한 번 조회해 SVG 뱃지를 생성하고 캐시에 저장한다")
     void should_generateBadge_when_userExists() {
-        User user = User.builder()
-                .githubId(1L)
-                .nodeId("node1")
-                .username("testuser")
-                .githubCreatedAt(LocalDateTime.of(2020, 1, 1, 0, 0))
-                .role(Role.USER)
-                .build();
-        ActivityLog activityLog = ActivityLog.empty(user, LocalDate.now());
-
-        when(userRepository.findByNodeId("node1")).thenReturn(Optional.of(user));
-        when(activityLogRepository.getTopByUserOrderByActivityDateDesc(user)).thenReturn(activityLog);
-        when(svgBadgeRenderer.render(eq(user), eq(Tier.IRON), eq(activityLog))).thenReturn("<svg>badge</svg>");
-
-        String badge = badgeService.generateBadge("node1");
-
-        assertThat(badge).isEqualTo("<svg>badge</svg>");
-        verify(businessMetrics).incrementBadgeViews();
+        ActivityLog activityLog = ActivityLog.builder().commitCount(10).diffCommitCount(2).build();
+        BadgeData data = new BadgeData("testuser", UPDATED_AT, 2500, 3.5, 7, Tier.MASTER, activityLog);
+
+        when(rankingSnapshotService.getCurrentVersion()).thenReturn(3L);
+        when(badgeCache.find("node1", BadgeVariant.DEFAULT)).thenReturn(Optional.empty());
+        when(badgeReadRepository.findByNodeId("node1")).thenReturn(Optional.of(data));
+        when(svgBadgeRenderer.render(BadgeVariant.DEFAULT, "testuser", 2500, 3.5, 7, Tier.MASTER, activityLog)).thenReturn("<svg>badge</svg>");
+
+        BadgeCache.RenderedBadge badge = badgeService.generateBadge("node1", BadgeVariant.DEFAULT, "\"etag\"");
+
+        assertThat(svgOf(badge)).isEqualTo("<svg>badge</svg>");
+        assertThat(badge.eTag()).isEqualTo(BadgeService.eTagOf(data, BadgeVariant.DEFAULT));
+        assertThat(badge.snapshotVersion()).isEqualTo(3L);
+        verify(viewCountAggregator).recordBadgeView("testuser");
+        verify(badgeCache).put("node1", BadgeVariant.DEFAULT, badge);
     }
 
     @Test
-    @DisplayName("사용자가 존재하지 않으면 USER_NOT_FOUND 예외가 발생한다")
-    void should_throwUserNotFound_when_nodeIdInvalid() {
-        when(userRepository.findByNodeId("invalid")).thenReturn(Optional.empty());
+    @DisplayName("캐시된 배지의 ETag가 현재 값과 같으면 스냅샷 버전 확인, DB 조회, 렌더링 없이 반환한다")
+    void should_returnCachedBadge_when_cacheHit() {
+        when(badgeCache.find("node1", BadgeVariant.DEFAULT))
+                .thenReturn(Optional.of(BadgeCache.RenderedBadge.of(3L, "testuser", "\"etag\"", "<svg>cached</svg>")));
+
+        BadgeCache.RenderedBadge badge = badgeService.generateBadge("node1", BadgeVariant.DEFAULT, "\"etag\"");
+
+        assertThat(svgOf(badge)).isEqualTo("<svg>cached</svg>");
+        verify(viewCountAggregator).recordBadgeView("testuser");
+        verifyNoInteractions(rankingSnapshotService, badgeReadRepository, svgBadgeRenderer);
+    }
+
+    @Test
+    @DisplayName("캐시된 배지의 ETag가 현재 값과 다르면 다시 렌더링한다")
+    void should_rerender_when_cachedETagStale() {
+        ActivityLog activityLog = ActivityLog.builder().build();
+        BadgeData data = new BadgeData("testuser", UPDATED_AT, 2500, 3.5, 8, Tier.MASTER, activityLog);
+        String currentETag = BadgeService.eTagOf(data, BadgeVariant.DEFAULT);
+
+        when(rankingSnapshotService.getCurrentVersion()).thenReturn(3L);
+        when(badgeCache.find("node1", BadgeVariant.DEFAULT))
+                .thenReturn(Optional.of(BadgeCache.RenderedBadge.of(3L, "testuser", "\"stale\"", "<svg>stale</svg>")));
+        when(badgeReadRepository.findByNodeId("node1")).thenReturn(Optional.of(data));
+        when(svgBadgeRenderer.render(BadgeVariant.DEFAULT, "testuser", 2500, 3.5, 8, Tier.MASTER, activityLog))
+                .thenReturn("<svg>fresh</svg>");
+
+        BadgeCache.RenderedBadge badge = badgeService.generateBadge("node1", BadgeVariant.DEFAULT, currentETag);
+
+        assertThat(svgOf(badge)).isEqualTo("<svg>fresh</svg>");
+        assertThat(badge.eTag()).isEqualTo(currentETag);
+        verify(badgeCache).put("node1", BadgeVariant.DEFAULT, badge);
+    }
+
+    @Test
+    @DisplayName("ETag는 수정 시각과 표시 값만 조회해 렌더링과 캐시 접근 없이 계산한다")
+    void should_computeETagFromStamp_when_eTagRequested() {
+        BadgeData data = new BadgeData("testuser", UPDATED_AT, 2500, 3.5, 7, Tier.MASTER, ActivityLog.builder().build());
+        when(badgeReadRepository.findStampByNodeId("node1")).thenReturn(Optional.of(data.stamp()));
 
-        assertThatThrownBy(() -> badgeService.generateBadge("invalid"))
+        String eTag = badgeService.getBadgeETag("node1", BadgeVariant.DEFAULT);
+
+        assertThat(eTag).isEqualTo(BadgeService.eTagOf(data, BadgeVariant.DEFAULT)).startsWith("\"").endsWith("\"");
+        verify(badgeReadRepository, never()).findByNodeId(any());
+        verifyNoInteractions(svgBadgeRenderer, badgeCache, viewCountAggregator);
+    }
+
+    @Test
+    @DisplayName("ETag를 요청한 사용자가 없으면 USER_NOT_FOUND 예외가 발생한다")
+    void should_throwUserNotFound_when_eTagRequestedForUnknownUser() {
+        when(badgeReadRepository.findStampByNodeId("invalid")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> badgeService.getBadgeETag("invalid", BadgeVariant.DEFAULT))
                 .isInstanceOf(BusinessException.class)
                 .satisfies(ex -> assertThat(((BusinessException) ex).getErrorType())
                         .isEqualTo(ErrorType.USER_NOT_FOUND));
     }
 
     @Test
-    @DisplayName("활동 로그가 없으면 빈 로그로 뱃지를 생성한다")
-    void should_useEmptyLog_when_noActivityLogExists() {
-        User user = User.builder()
-                .githubId(1L)
-                .nodeId("node1")
-                .username("testuser")
-                .githubCreatedAt(LocalDateTime.of(2020, 1, 1, 0, 0))
-                .role(Role.USER)
-                .build();
-
-        when(userRepository.findByNodeId("node1")).thenReturn(Optional.of(user));
-        when(activityLogRepository.getTopByUserOrderByActivityDateDesc(user)).thenReturn(null);
-        when(svgBadgeRenderer.render(eq(user), eq(Tier.IRON), any(ActivityLog.class))).thenReturn("<svg/>");
-
-        String badge = badgeService.generateBadge("node1");
-
-        assertThat(badge).isNotNull();
-        verify(svgBadgeRenderer).render(eq(user), eq(Tier.IRON), any(ActivityLog.class));
+    @DisplayName("ETag는 스냅샷 버전과 무관하고, 표시 값이나 수정 시각, 변형이 바뀔 때만 바뀐다")
+    void should_changeETagOnlyWithUserData_when_deriving() {
+        ActivityLog activityLog = ActivityLog.builder().build();
+        BadgeData data = new BadgeData("testuser", UPDATED_AT, 2500, 3.5, 7, Tier.MASTER, activityLog);
+        String eTag = BadgeService.eTagOf(data, BadgeVariant.DEFAULT);
+
+        assertThat(BadgeService.eTagOf(new BadgeData("testuser", UPDATED_AT, 2500, 3.5, 7, Tier.MASTER, activityLog),
+                BadgeVariant.DEFAULT)).isEqualTo(eTag);
+        assertThat(BadgeService.eTagOf(new BadgeData("testuser", UPDATED_AT, 2500, 3.5, 8, Tier.MASTER, activityLog),
+                BadgeVariant.DEFAULT)).isNotEqualTo(eTag);
+        assertThat(BadgeService.eTagOf(new BadgeData("testuser", UPDATED_AT.plusSeconds(1), 2500, 3.5, 7, Tier.MASTER, activityLog),
+                BadgeVariant.DEFAULT)).isNotEqualTo(eTag);
+        assertThat(BadgeService.eTagOf(data, BadgeVariant.COMPACT)).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("변형마다 따로 렌더링해 변형별 캐시 항목과 ETag로 저장한다")
+    void should_renderAndCachePerVariant_when_variantRequested() {
+        ActivityLog activityLog = ActivityLog.builder().build();
+        BadgeData data = new BadgeData("testuser", UPDATED_AT, 2500, 3.5, 7, Tier.MASTER, activityLog);
+
+        when(rankingSnapshotService.getCurrentVersion()).thenReturn(3L);
+        when(badgeCache.find("node1", BadgeVariant.COMPACT)).thenReturn(Optional.empty());
+        when(badgeReadRepository.findByNodeId("node1")).thenReturn(Optional.of(data));
+        when(svgBadgeRenderer.render(BadgeVariant.COMPACT, "testuser", 2500, 3.5, 7, Tier.MASTER, activityLog))
+                .thenReturn("<svg>compact</svg>");
+
+        BadgeCache.RenderedBadge badge = badgeService.generateBadge("node1", BadgeVariant.COMPACT, "\"etag\"");
+
+        assertThat(svgOf(badge)).isEqualTo("<svg>compact</svg>");
+        assertThat(badge.eTag()).isEqualTo(BadgeService.eTagOf(data, BadgeVariant.COMPACT));
+        verify(badgeCache).put("node1", BadgeVariant.COMPACT, badge);
     }
 
     @Test
-    @DisplayName("티어별 미리보기 뱃지를 생성한다")
-    void should_generatePreviewBadge_when_tierProvided() {
-        when(svgBadgeRenderer.render(any(User.class), eq(Tier.DIAMOND), any(ActivityLog.class)))
-                .thenReturn("<svg>diamond</svg>");
+    @DisplayName("사용자가 존재하지 않으면 USER_NOT_FOUND 예외가 발생한다")
+    void should_throwUserNotFound_when_nodeIdInvalid() {
+        when(badgeCache.find("invalid", BadgeVariant.DEFAULT)).thenReturn(Optional.empty());
+        when(badgeReadRepository.findByNodeId("invalid")).thenReturn(Optional.empty());
 
-        String badge = badgeService.generateBadgeByTier(Tier.DIAMOND);
+        assertThatThrownBy(() -> badgeService.generateBadge("invalid", BadgeVariant.DEFAULT, "\"etag\""))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorType())
+                        .isEqualTo(ErrorType.USER_NOT_FOUND));
+        verify(badgeCache, never()).put(any(), any(), any());
+    }
 
-        assertThat(badge).isEqualTo("<svg>diamond</svg>");
+    private String svgOf(BadgeCache.RenderedBadge badge) {
+        return StandardCharsets.UTF_8.decode(badge.svg().duplicate()).toString();
     }
 }
@@ -0,0 +1,78 @@
+package com.gitranker.api.domain.badge;
+
+import com.gitranker.api.domain.log.ActivityLog;
+import com.gitranker.api.domain.user.Tier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SvgBadgeRendererTest {
+
+    private final BadgeFormatter formatter = new BadgeFormatter();
+    private final SvgBadgeRenderer renderer = new SvgBadgeRenderer(new TierGradientProvider(), formatter);
+
+    private final ActivityLog activityLog = ActivityLog.builder()
+            .commitCount(1500).diffCommitCount(12)
+            .issueCount(10).diffIssueCount(-3)
+            .prCount(30).diffPrCount(0)
+            .mergedPrCount(25).diffMergedPrCount(5)
+            .reviewCount(1045).diffReviewCount(0)
+            .build();
+
+    @ParameterizedTest
+    @EnumSource(Tier.class)
+    @DisplayName("컴파일된 템플릿 렌더링 결과는 기존 String.format 렌더링 결과와 바이트 단위로 같다")
+    void should_matchGoldenSvg_when_rendered(Tier tier) throws IOException {
+        String svg = renderer.render("golden-user", 12345, 3.456, 1234, tier, activityLog);
+
+        assertThat(svg.getBytes(StandardCharsets.UTF_8)).isEqualTo(golden(tier));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Tier.class)
+    @DisplayName("애니메이션 없는 변형은 shine 애니메이션만 빠지고, 단색과 작은 변형은 원격 웹폰트를 불러오지 않는다")
+    void should_dropAnimationAndRemoteFont_when_variantRendered(Tier tier) {
+        String staticSvg = renderer.render(BadgeVariant.STATIC, "golden-user", 12345, 3.456, 1234, tier, activityLog);
+        String flatSvg = renderer.render(BadgeVariant.FLAT, "golden-user", 12345, 3.456, 1234, tier, activityLog);
+        String compactSvg = renderer.render(BadgeVariant.COMPACT, "golden-user", 12345, 3.456, 1234, tier, activityLog);
+
+        assertThat(staticSvg).doesNotContain("@keyframes", "shine-bar").contains("@import", "12,345 pts", "Top 3.46%");
+        assertThat(flatSvg).doesNotContain("@import", "@keyframes", "tierGradient").contains("@golden-user", "Rank 1,234");
+        assertThat(compactSvg).doesNotContain("@import", "@keyframes").contains("@golden-user", "12,345 pts")
+                .startsWith("<svg width=\"250\" height=\"20\"");
+    }
+
+    @Test
+    @DisplayName("숫자는 로케일과 무관하게 천 단위 구분 기호를 붙인다")
+    void should_groupDigits_when_formattingNumber() {
+        assertThat(formatter.formatNumber(0)).isEqualTo("0");
+        assertThat(formatter.formatNumber(999)).isEqualTo("999");
+        assertThat(formatter.formatNumber(1000)).isEqualTo("1,000");
+        assertThat(formatter.formatNumber(1234567)).isEqualTo("1,234,567");
+        assertThat(formatter.formatNumber(-1234)).isEqualTo("-1,234");
+        assertThat(formatter.formatNumber(Long.MIN_VALUE)).isEqualTo("-9,223,372,036,854,775,808");
+    }
+
+    @Test
+    @DisplayName("백분위는 소수 둘째 자리까지 반올림한다")
+    void should_roundHalfUp_when_appendingPercentile() {
+        assertThat(formatter.appendPercentile(new StringBuilder(), 3.455).toString()).isEqualTo("3.46");
+        assertThat(formatter.appendPercentile(new StringBuilder(), 100.0).toString()).isEqualTo("100.00");
+        assertThat(formatter.appendPercentile(new StringBuilder(), 0.004).toString()).isEqualTo("0.00");
+    }
+
+    private byte[] golden(Tier tier) throws IOException {
+        String path = "/badges/" + tier.name().toLowerCase() + ".svg";
+        try (InputStream in = getClass().getResourceAsStream(path)) {
+            assertThat(in).as(path).isNotNull();
+            return in.readAllBytes();
+        }
+    }
+}
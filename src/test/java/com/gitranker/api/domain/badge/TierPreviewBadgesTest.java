@@ -0,0 +1,49 @@
+package com.gitranker.api.domain.badge;
+
+import com.gitranker.api.domain.badge.BadgeCache.RenderedBadge;
+import com.gitranker.api.domain.log.ActivityLog;
+import com.gitranker.api.domain.user.Tier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TierPreviewBadgesTest {
+
+    @Mock private SvgBadgeRenderer svgBadgeRenderer;
+
+    @Test
+    @DisplayName("생성 시 모든 티어를 한 번씩 렌더링하고 이후 요청은 저장된 값을 반환한다")
+    void should_renderEachTierOnce_when_created() {
+        for (Tier tier : Tier.values()) {
+            when(svgBadgeRenderer.render(eq(tier.toString()), anyInt(), anyDouble(), anyInt(), eq(tier), any(ActivityLog.class)))
+                    .thenReturn("<svg>" + tier.name() + "</svg>");
+        }
+
+        TierPreviewBadges previews = new TierPreviewBadges(svgBadgeRenderer);
+        RenderedBadge gold = previews.get(Tier.GOLD);
+
+        assertThat(previews.get(Tier.GOLD)).isSameAs(gold);
+        assertThat(StandardCharsets.UTF_8.decode(gold.svg().duplicate()).toString()).isEqualTo("<svg>GOLD</svg>");
+        assertThat(gold.eTag()).startsWith("\"preview-").endsWith("-GOLD\"");
+        assertThat(Arrays.stream(Tier.values()).map(tier -> previews.get(tier).eTag()).distinct())
+                .hasSize(Tier.values().length);
+        verify(svgBadgeRenderer, times(Tier.values().length))
+                .render(anyString(), anyInt(), anyDouble(), anyInt(), any(Tier.class), any(ActivityLog.class));
+    }
+}
@@ -0,0 +1,99 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.domain.ranking.RankingJdbcRepository.RankRow;
+import com.gitranker.api.domain.user.Tier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IncrementalRankingUpdaterTest {
+
+    @InjectMocks
+    private IncrementalRankingUpdater incrementalRankingUpdater;
+
+    @Mock private RankingJdbcRepository rankingJdbcRepository;
+    @Mock private RankingIndexService rankingIndexService;
+
+    @Test
+    @DisplayName("점수 구간 내에서 순위, 백분위, 티어가 달라진 행만 갱신한다")
+    void should_updateOnlyChangedRows_when_scoreRangeRecalculated() {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        histogram.put(3000, 1L);
+        histogram.put(2500, 2L);
+
+        when(rankingJdbcRepository.countAll()).thenReturn(4L);
+        when(rankingJdbcRepository.countScoreAbove(3000)).thenReturn(0L);
+        when(rankingJdbcRepository.findScoreHistogram(2500, 3000)).thenReturn(histogram);
+        when(rankingJdbcRepository.findRankRowsAfter(2500, 3000, 3001L, 0L, 500)).thenReturn(List.of(
+                new RankRow(1L, 3000, 1, 25.0, Tier.EMERALD),
+                new RankRow(2L, 2500, 3, 50.0, Tier.GOLD),
+                new RankRow(3L, 2500, 2, 75.004, Tier.GOLD)
+        ));
+
+        int updatedCount = incrementalRankingUpdater.updateScoreRange(2500, 3000);
+
+        assertThat(updatedCount).isEqualTo(1);
+        verify(rankingJdbcRepository).updateRanks(List.of(new RankRow(2L, 2500, 2, 75.0, Tier.GOLD)));
+        verifyNoInteractions(rankingIndexService);
+    }
+
+    @Test
+    @DisplayName("다시 계산한 순위로 티어가 바뀐 행은 티어 분포에 반영되도록 알린다")
+    void should_notifyTierChange_when_recalculatedTierDiffers() {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        histogram.put(3000, 1L);
+
+        when(rankingJdbcRepository.countAll()).thenReturn(100L);
+        when(rankingJdbcRepository.countScoreAbove(3000)).thenReturn(0L);
+        when(rankingJdbcRepository.findScoreHistogram(2500, 3000)).thenReturn(histogram);
+        when(rankingJdbcRepository.findRankRowsAfter(2500, 3000, 3001L, 0L, 500))
+                .thenReturn(List.of(new RankRow(1L, 3000, 2, 2.0, Tier.MASTER)));
+
+        incrementalRankingUpdater.updateScoreRange(2500, 3000);
+
+        verify(rankingJdbcRepository).updateRanks(List.of(new RankRow(1L, 3000, 1, 1.0, Tier.CHALLENGER)));
+        verify(rankingIndexService).onTierChanged(1L, Tier.CHALLENGER);
+    }
+
+    @Test
+    @DisplayName("구간 상한이 최대값이면 상위 점수 집계 없이 계산한다")
+    void should_computeFromTop_when_rangeUnbounded() {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        histogram.put(100, 1L);
+
+        when(rankingJdbcRepository.countAll()).thenReturn(1L);
+        when(rankingJdbcRepository.findScoreHistogram(0, Integer.MAX_VALUE)).thenReturn(histogram);
+        when(rankingJdbcRepository.findRankRowsAfter(0, Integer.MAX_VALUE, (long) Integer.MAX_VALUE + 1, 0L, 500))
+                .thenReturn(List.of(new RankRow(1L, 100, 0, 100.0, Tier.IRON)));
+
+        int updatedCount = incrementalRankingUpdater.updateScoreRange(0, Integer.MAX_VALUE);
+
+        assertThat(updatedCount).isEqualTo(1);
+        verify(rankingJdbcRepository, never()).countScoreAbove(anyInt());
+        verify(rankingJdbcRepository).updateRanks(List.of(new RankRow(1L, 100, 1, 100.0, Tier.IRON)));
+    }
+
+    @Test
+    @DisplayName("사용자가 없으면 아무것도 갱신하지 않는다")
+    void should_skip_when_noUsers() {
+        when(rankingJdbcRepository.countAll()).thenReturn(0L);
+
+        int updatedCount = incrementalRankingUpdater.updateScoreRange(0, 100);
+
+        assertThat(updatedCount).isZero();
+        verify(rankingJdbcRepository, never()).updateRanks(any());
+    }
+}
@@ -0,0 +1,75 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.domain.ranking.RankingReadRepository.RankedUser;
+import com.gitranker.api.domain.ranking.dto.RankingAround;
+import com.gitranker.api.domain.ranking.dto.RankingList;
+import com.gitranker.api.domain.user.Tier;
+import com.gitranker.api.global.error.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RankingAroundReaderTest {
+
+    @InjectMocks
+    private RankingAroundReader rankingAroundReader;
+
+    @Mock private RankingReadRepository rankingReadRepository;
+
+    private RankedUser ranked(long userId, String username, long ranking, int score) {
+        return new RankedUser(userId, new RankingList.UserInfo(username, null, ranking, score, Tier.GOLD));
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후 가입해 스냅샷에 없는 사용자는 users 행의 점수로 스냅샷 구간에 위치시킨다")
+    void should_placeLiveUserInSnapshot_when_registeredAfterSnapshot() {
+        RankedUser fresh = ranked(9L, "fresh", 2, 1800);
+        when(rankingReadRepository.findSnapshotUserByUsername(3L, "fresh")).thenReturn(Optional.empty());
+        when(rankingReadRepository.findLiveUserByUsername("fresh")).thenReturn(Optional.of(fresh));
+        when(rankingReadRepository.findSnapshotBefore(3L, 1800, 9L, 1))
+                .thenReturn(List.of(ranked(1L, "high", 1, 2000)));
+        when(rankingReadRepository.findSnapshotAfter(3L, null, 1800, 9L, 1))
+                .thenReturn(List.of(ranked(2L, "low", 2, 1500)));
+
+        RankingAround around = rankingAroundReader.readByUsername(3L, "fresh", 1);
+
+        assertThat(around.user()).isEqualTo(fresh.userInfo());
+        assertThat(around.above()).extracting(RankingList.UserInfo::username).containsExactly("high");
+        assertThat(around.below()).extracting(RankingList.UserInfo::username).containsExactly("low");
+    }
+
+    @Test
+    @DisplayName("스냅샷에 있는 사용자는 users 행을 조회하지 않는다")
+    void should_notReadLiveRow_when_userInSnapshot() {
+        RankedUser user = ranked(1L, "alice", 1, 2000);
+        when(rankingReadRepository.findSnapshotUserByNodeId(3L, "node1")).thenReturn(Optional.of(user));
+        when(rankingReadRepository.findSnapshotBefore(3L, 2000, 1L, 1)).thenReturn(List.of());
+        when(rankingReadRepository.findSnapshotAfter(3L, null, 2000, 1L, 1)).thenReturn(List.of());
+
+        RankingAround around = rankingAroundReader.readByNodeId(3L, "node1", 1);
+
+        assertThat(around.user()).isEqualTo(user.userInfo());
+        verify(rankingReadRepository, never()).findLiveUserByNodeId("node1");
+    }
+
+    @Test
+    @DisplayName("스냅샷과 users 어디에도 없으면 USER_NOT_FOUND 예외가 발생한다")
+    void should_throwUserNotFound_when_userMissingEverywhere() {
+        when(rankingReadRepository.findSnapshotUserByNodeId(3L, "missing")).thenReturn(Optional.empty());
+        when(rankingReadRepository.findLiveUserByNodeId("missing")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> rankingAroundReader.readByNodeId(3L, "missing", 1))
+                .isInstanceOf(BusinessException.class);
+    }
+}
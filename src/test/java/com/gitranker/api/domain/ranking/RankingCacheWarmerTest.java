@@ -0,0 +1,83 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.domain.ranking.dto.RankingList;
+import com.gitranker.api.domain.user.Tier;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RankingCacheWarmerTest {
+
+    @InjectMocks
+    private RankingCacheWarmer rankingCacheWarmer;
+
+    @Mock private RankingPageReader rankingPageReader;
+    @Mock private CacheManager cacheManager;
+    @Mock private RankingMetrics rankingMetrics;
+
+    private RankingList page(boolean isLast) {
+        return new RankingList(Collections.emptyList(), new RankingList.PageInfo(0, 20, 0, 0, true, isLast));
+    }
+
+    @Test
+    @DisplayName("티어별 상위 페이지를 마지막 페이지까지 예열한다")
+    void should_warmTopPagesPerTier_until_lastPage() {
+        when(rankingPageReader.refresh(eq(3L), anyInt(), any())).thenReturn(page(true));
+        when(rankingPageReader.refresh(eq(3L), anyInt(), isNull())).thenReturn(page(false));
+
+        rankingCacheWarmer.warm(3L);
+
+        verify(rankingPageReader, times(5)).refresh(eq(3L), anyInt(), isNull());
+        verify(rankingPageReader).refresh(3L, 0, Tier.GOLD);
+        verify(rankingPageReader, never()).refresh(3L, 1, Tier.GOLD);
+        verify(rankingPageReader, times(Tier.values().length + 1)).refreshByCursor(eq(3L), eq(""), any());
+        verify(rankingMetrics).recordWarm(anyLong(), eq(5 + Tier.values().length + Tier.values().length + 1));
+    }
+
+    @Test
+    @DisplayName("예열 중 오류가 나면 실패 지표만 기록하고 예외를 전파하지 않는다")
+    void should_recordFailure_when_warmFails() {
+        when(rankingPageReader.refresh(anyLong(), anyInt(), any())).thenThrow(new IllegalStateException("db down"));
+
+        rankingCacheWarmer.warm(3L);
+
+        verify(rankingMetrics).recordWarmFailure();
+        verify(rankingMetrics, never()).recordWarm(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("새 버전보다 오래된 버전의 캐시 항목만 제거한다")
+    void should_evictOnlyOlderVersions_when_evictOlderThan() {
+        CaffeineCache cache = new CaffeineCache("rankings", Caffeine.newBuilder().build());
+        cache.put("v2:page:0:tier:null", page(true));
+        cache.put("v3:page:0:tier:null", page(true));
+        CaffeineCache aroundCache = new CaffeineCache("rankingAround", Caffeine.newBuilder().build());
+        aroundCache.put("v2:user:alice:size:5", "stale");
+        aroundCache.put("v3:user:alice:size:5", "current");
+        when(cacheManager.getCache("rankings")).thenReturn(cache);
+        when(cacheManager.getCache("rankingAround")).thenReturn(aroundCache);
+
+        rankingCacheWarmer.evictOlderThan(3L);
+
+        assertThat(cache.get("v2:page:0:tier:null")).isNull();
+        assertThat(cache.get("v3:page:0:tier:null")).isNotNull();
+        assertThat(aroundCache.get("v2:user:alice:size:5")).isNull();
+        assertThat(aroundCache.get("v3:user:alice:size:5")).isNotNull();
+    }
+}
@@ -1,6 +1,9 @@
 package com.gitranker.api.domain.ranking;
 
+import com.gitranker.api.domain.ranking.dto.RankingAround;
+import com.gitranker.api.domain.ranking.dto.RankingCursorList;
 import com.gitranker.api.domain.ranking.dto.RankingList;
+import com.gitranker.api.domain.ranking.dto.RankingStatistics;
 import com.gitranker.api.domain.user.Tier;
 import com.gitranker.api.domain.user.UserRepository;
 import com.gitranker.api.global.auth.CustomOAuth2UserService;
@@ -14,15 +17,22 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -38,6 +48,7 @@ class RankingControllerTest {
     private MockMvc mockMvc;
 
     @MockitoBean private RankingService rankingService;
+    @MockitoBean private RankingStatisticsService rankingStatisticsService;
     @MockitoBean private JwtProvider jwtProvider;
     @MockitoBean private UserRepository userRepository;
     @MockitoBean private CustomOAuth2UserService customOAuth2UserService;
@@ -74,10 +85,87 @@ class RankingControllerTest {
                 .andExpect(jsonPath("$.result").value("SUCCESS"));
     }
 
+    @Test
+    @DisplayName("스냅샷 버전 ETag가 If-None-Match와 일치하면 조회 없이 304를 반환한다")
+    void should_return304_when_snapshotETagMatches() throws Exception {
+        when(rankingService.getSnapshotETag()).thenReturn(Optional.of("\"ranking-v7\""));
+
+        mockMvc.perform(get("/api/v1/ranking").header(HttpHeaders.IF_NONE_MATCH, "\"ranking-v7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"ranking-v7\""));
+
+        verify(rankingService, never()).getRankingList(anyInt(), isNull());
+    }
+
+    @Test
+    @DisplayName("스냅샷 버전이 바뀌었으면 새 ETag와 함께 랭킹을 반환한다")
+    void should_returnRankingsWithETag_when_snapshotETagChanged() throws Exception {
+        when(rankingService.getSnapshotETag()).thenReturn(Optional.of("\"ranking-v8\""));
+        when(rankingService.getRankingList(eq(0), isNull())).thenReturn(createEmptyRankingList());
+
+        mockMvc.perform(get("/api/v1/ranking").header(HttpHeaders.IF_NONE_MATCH, "\"ranking-v7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"ranking-v8\""))
+                .andExpect(jsonPath("$.data.rankings").isArray());
+    }
+
     @Test
     @DisplayName("음수 page이면 400을 반환한다")
     void should_return400_when_negativePage() throws Exception {
         mockMvc.perform(get("/api/v1/ranking").param("page", "-1"))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("cursor 파라미터가 있으면 커서 기반으로 조회한다")
+    void should_useCursorPaging_when_cursorProvided() throws Exception {
+        RankingList.UserInfo userInfo = new RankingList.UserInfo("user1", "img", 1, 3000, Tier.CHALLENGER);
+        when(rankingService.getRankingListByCursor(eq(""), isNull()))
+                .thenReturn(new RankingCursorList(List.of(userInfo), "next", true));
+
+        mockMvc.perform(get("/api/v1/ranking").param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.rankings[0].username").value("user1"))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+
+        verify(rankingService, never()).getRankingList(anyInt(), isNull());
+    }
+
+    @Test
+    @DisplayName("주변 랭킹을 요청하면 위아래 사용자를 반환한다")
+    void should_returnNeighbors_when_aroundRequested() throws Exception {
+        RankingList.UserInfo above = new RankingList.UserInfo("above", "img", 9, 2100, Tier.DIAMOND);
+        RankingList.UserInfo me = new RankingList.UserInfo("user1", "img", 10, 2000, Tier.DIAMOND);
+        RankingList.UserInfo below = new RankingList.UserInfo("below", "img", 11, 1900, Tier.GOLD);
+        when(rankingService.getRankingAround("user1", 1))
+                .thenReturn(new RankingAround(List.of(above), me, List.of(below)));
+
+        mockMvc.perform(get("/api/v1/ranking/around/user1").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.above[0].username").value("above"))
+                .andExpect(jsonPath("$.data.user.ranking").value(10))
+                .andExpect(jsonPath("$.data.below[0].username").value("below"));
+    }
+
+    @Test
+    @DisplayName("주변 랭킹 size가 범위를 벗어나면 400을 반환한다")
+    void should_return400_when_aroundSizeOutOfRange() throws Exception {
+        mockMvc.perform(get("/api/v1/ranking/around/user1").param("size", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("통계를 요청하면 티어 분포와 점수 히스토그램을 캐시 가능한 응답으로 반환한다")
+    void should_returnCacheableStatistics_when_statisticsRequested() throws Exception {
+        when(rankingStatisticsService.getStatistics()).thenReturn(new RankingStatistics(
+                10L, Map.of(Tier.GOLD, 10L),
+                List.of(new RankingStatistics.ScoreBucket(0, null, 10L))));
+
+        mockMvc.perform(get("/api/v1/ranking/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=60, public"))
+                .andExpect(jsonPath("$.data.tierCounts.GOLD").value(10))
+                .andExpect(jsonPath("$.data.scoreHistogram[0].userCount").value(10));
+    }
 }
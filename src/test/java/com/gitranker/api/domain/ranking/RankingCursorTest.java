@@ -0,0 +1,36 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.global.error.ErrorType;
+import com.gitranker.api.global.error.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RankingCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 위치를 반환한다")
+    void should_roundTrip_when_encodedAndDecoded() {
+        RankingCursor cursor = new RankingCursor(1500, 42L);
+
+        assertThat(RankingCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지를 의미한다")
+    void should_returnFirst_when_cursorBlank() {
+        assertThat(RankingCursor.decode("")).isEqualTo(RankingCursor.first());
+        assertThat(RankingCursor.decode(null)).isEqualTo(RankingCursor.first());
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 INVALID_REQUEST 예외가 발생한다")
+    void should_throwInvalidRequest_when_cursorMalformed() {
+        assertThatThrownBy(() -> RankingCursor.decode("not-a-cursor!"))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(ex -> assertThat(((BusinessException) ex).getErrorType())
+                        .isEqualTo(ErrorType.INVALID_REQUEST));
+    }
+}
@@ -0,0 +1,178 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.domain.ranking.RankingIndexService.RankPosition;
+import com.gitranker.api.domain.user.Tier;
+import com.gitranker.api.domain.user.UserRepository;
+import com.gitranker.api.domain.user.dto.TierCount;
+import com.gitranker.api.domain.user.dto.UserScore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RankingIndexServiceTest {
+
+    @InjectMocks
+    private RankingIndexService rankingIndexService;
+
+    @Mock private UserRepository userRepository;
+
+    @Test
+    @DisplayName("인덱스 준비 전에는 SQL 집계로 순위 기준값을 계산한다")
+    void should_fallbackToDatabase_when_indexNotReady() {
+        when(userRepository.countByScoreValueGreaterThan(300)).thenReturn(4L);
+        when(userRepository.count()).thenReturn(10L);
+
+        RankPosition position = rankingIndexService.positionOf(null, 300);
+
+        assertThat(position).isEqualTo(new RankPosition(4L, 11L));
+    }
+
+    @Test
+    @DisplayName("신규 사용자는 전체 수에 포함하여 순위 기준값을 계산한다")
+    void should_includeNewUserInTotal_when_indexReady() {
+        when(userRepository.findAllScores()).thenReturn(List.of(
+                new UserScore(1L, 500, Tier.GOLD), new UserScore(2L, 300, Tier.GOLD), new UserScore(3L, 100, Tier.GOLD)));
+        rankingIndexService.rebuild();
+
+        RankPosition position = rankingIndexService.positionOf(null, 200);
+
+        assertThat(position).isEqualTo(new RankPosition(2L, 4L));
+        verify(userRepository, never()).countByScoreValueGreaterThan(anyInt());
+    }
+
+    @Test
+    @DisplayName("기존 사용자는 자신의 이전 점수를 제외하고 순위 기준값을 계산한다")
+    void should_excludeOwnScore_when_existingUserScoreChanges() {
+        when(userRepository.findAllScores()).thenReturn(List.of(
+                new UserScore(1L, 500, Tier.GOLD), new UserScore(2L, 300, Tier.GOLD), new UserScore(3L, 100, Tier.GOLD)));
+        rankingIndexService.rebuild();
+
+        RankPosition position = rankingIndexService.positionOf(1L, 200);
+
+        assertThat(position).isEqualTo(new RankPosition(1L, 3L));
+    }
+
+    @Test
+    @DisplayName("점수 변경과 삭제가 인덱스에 반영된다")
+    void should_applyChanges_when_scoreChangedOrUserRemoved() {
+        when(userRepository.findAllScores()).thenReturn(List.of(
+                new UserScore(1L, 500, Tier.GOLD), new UserScore(2L, 300, Tier.GOLD)));
+        rankingIndexService.rebuild();
+
+        rankingIndexService.onScoreChanged(2L, 900, Tier.GOLD);
+        rankingIndexService.onScoreChanged(3L, 700, Tier.GOLD);
+        rankingIndexService.onUserRemoved(1L);
+
+        assertThat(rankingIndexService.countGreaterThan(0)).isEqualTo(2);
+        assertThat(rankingIndexService.countGreaterThan(700)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("SQL 집계와의 불일치가 연속 두 번 확인되면 인덱스를 재구성한다")
+    void should_rebuild_when_driftDetected() {
+        when(userRepository.findAllScores()).thenReturn(List.of(new UserScore(1L, 500, Tier.GOLD)));
+        rankingIndexService.rebuild();
+        when(userRepository.count()).thenReturn(2L);
+
+        rankingIndexService.verifyConsistency();
+
+        verify(userRepository, times(1)).findAllScores();
+
+        rankingIndexService.verifyConsistency();
+
+        verify(userRepository, times(2)).findAllScores();
+    }
+
+    @Test
+    @DisplayName("한 번만 확인된 불일치는 다음 검사에서 일치하면 재구성하지 않는다")
+    void should_keepIndex_when_driftIsTransient() {
+        when(userRepository.findAllScores()).thenReturn(List.of(new UserScore(1L, 500, Tier.GOLD)));
+        rankingIndexService.rebuild();
+        when(userRepository.count()).thenReturn(2L, 1L, 2L);
+        when(userRepository.countByTier()).thenReturn(List.of(new TierCount(Tier.GOLD, 1L)));
+        when(userRepository.countByScoreValueGreaterThan(500)).thenReturn(0L);
+
+        rankingIndexService.verifyConsistency();
+        rankingIndexService.verifyConsistency();
+        rankingIndexService.verifyConsistency();
+
+        verify(userRepository, times(1)).findAllScores();
+    }
+
+    @Test
+    @DisplayName("SQL 집계와 일치하면 인덱스를 유지한다")
+    void should_keepIndex_when_consistent() {
+        when(userRepository.findAllScores()).thenReturn(List.of(
+                new UserScore(1L, 500, Tier.GOLD), new UserScore(2L, 300, Tier.GOLD)));
+        rankingIndexService.rebuild();
+        when(userRepository.count()).thenReturn(2L);
+        when(userRepository.countByTier()).thenReturn(List.of(new TierCount(Tier.GOLD, 2L)));
+        when(userRepository.countByScoreValueGreaterThan(300)).thenReturn(1L);
+        when(userRepository.countByScoreValueGreaterThan(500)).thenReturn(0L);
+
+        rankingIndexService.verifyConsistency();
+
+        verify(userRepository, times(1)).findAllScores();
+    }
+
+    @Test
+    @DisplayName("티어별 사용자 수가 SQL 집계와 다르면 인덱스를 재구성한다")
+    void should_rebuild_when_tierCountDrifts() {
+        when(userRepository.findAllScores()).thenReturn(List.of(
+                new UserScore(1L, 500, Tier.GOLD), new UserScore(2L, 300, Tier.SILVER)));
+        rankingIndexService.rebuild();
+        when(userRepository.count()).thenReturn(2L);
+        when(userRepository.countByTier()).thenReturn(List.of(
+                new TierCount(Tier.GOLD, 2L), new TierCount(Tier.SILVER, 0L)));
+
+        rankingIndexService.verifyConsistency();
+        rankingIndexService.verifyConsistency();
+
+        verify(userRepository, times(2)).findAllScores();
+    }
+
+    @Test
+    @DisplayName("등록, 갱신, 순위 변경, 탈퇴가 커밋되면 티어별 사용자 수에 바로 반영된다")
+    void should_followTierChanges_when_usersChange() {
+        when(userRepository.findAllScores()).thenReturn(List.of(
+                new UserScore(1L, 500, Tier.GOLD), new UserScore(2L, 300, Tier.SILVER)));
+        rankingIndexService.rebuild();
+
+        rankingIndexService.onScoreChanged(3L, 100, Tier.IRON);
+        rankingIndexService.onScoreChanged(2L, 600, Tier.GOLD);
+        rankingIndexService.onTierChanged(1L, Tier.PLATINUM);
+        rankingIndexService.onUserRemoved(3L);
+
+        Map<Tier, Long> counts = rankingIndexService.countByTier();
+        assertThat(counts).containsEntry(Tier.PLATINUM, 1L)
+                .containsEntry(Tier.GOLD, 1L)
+                .containsEntry(Tier.SILVER, 0L)
+                .containsEntry(Tier.IRON, 0L)
+                .hasSize(Tier.values().length);
+        assertThat(rankingIndexService.countGreaterThan(500)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("점수 구간별 사용자 수를 인덱스에서 계산하고 마지막 구간은 상한 없이 집계한다")
+    void should_countUsersPerBucket_when_indexReady() {
+        when(userRepository.findAllScores()).thenReturn(List.of(
+                new UserScore(1L, 0, Tier.GOLD), new UserScore(2L, 99, Tier.GOLD), new UserScore(3L, 100, Tier.GOLD),
+                new UserScore(4L, 250, Tier.GOLD), new UserScore(5L, 9000, Tier.GOLD)));
+        rankingIndexService.rebuild();
+
+        List<Long> counts = rankingIndexService.countByScoreBuckets(100, 3);
+
+        assertThat(counts).containsExactly(2L, 1L, 2L);
+    }
+}
@@ -7,6 +7,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -18,7 +21,9 @@ class RankingRecalculationServiceTest {
     private RankingRecalculationService rankingRecalculationService;
 
     @Mock private UserRepository userRepository;
-    @Mock private RankingService rankingService;
+    @Mock private IncrementalRankingUpdater incrementalRankingUpdater;
+    @Mock private RankingJdbcRepository rankingJdbcRepository;
+    @Mock private RankingIndexService rankingIndexService;
 
     @Test
     @DisplayName("첫 호출 시 랭킹을 재산정한다")
@@ -27,7 +32,7 @@ class RankingRecalculationServiceTest {
 
         assertThat(result).isTrue();
         verify(userRepository).bulkUpdateRanking();
-        verify(rankingService).evictRankingCache();
+        verify(rankingIndexService).rebuildAfterCommit();
     }
 
     @Test
@@ -41,10 +46,59 @@ class RankingRecalculationServiceTest {
     }
 
     @Test
-    @DisplayName("재산정 완료 후 랭킹 캐시를 무효화한다")
-    void should_evictCache_when_recalculationCompleted() {
+    @DisplayName("첫 재산정 이후에는 변경된 점수 구간만 증분 재산정한다")
+    void should_recalculateScoreRangeOnly_when_scoreChangedAfterFirstRun() {
+        rankingRecalculationService.recalculateIfNeeded();
+        expireDebounce();
+
+        rankingRecalculationService.recordScoreChange(1200, 800);
+        rankingRecalculationService.recordScoreChange(1500, 1600);
+        boolean result = rankingRecalculationService.recalculateIfNeeded();
+
+        assertThat(result).isTrue();
+        verify(userRepository, times(1)).bulkUpdateRanking();
+        verify(incrementalRankingUpdater).updateScoreRange(800, 1600);
+    }
+
+    @Test
+    @DisplayName("가입과 탈퇴는 전체 재산정 없이 더 낮은 점수의 순위만 한 번에 옮긴다")
+    void should_shiftLowerRanks_when_userAddedOrRemoved() {
+        rankingRecalculationService.shiftRanksForAddedUser(1200);
+        rankingRecalculationService.shiftRanksForRemovedUser(800);
+
+        verify(rankingJdbcRepository).shiftRanksBelow(1200, 1);
+        verify(rankingJdbcRepository).shiftRanksBelow(800, -1);
+        verifyNoInteractions(incrementalRankingUpdater);
+    }
+
+    @Test
+    @DisplayName("변경 사항이 없으면 재산정을 건너뛴다")
+    void should_skipRecalculation_when_noPendingChanges() {
         rankingRecalculationService.recalculateIfNeeded();
+        expireDebounce();
+
+        boolean result = rankingRecalculationService.recalculateIfNeeded();
+
+        assertThat(result).isFalse();
+        verifyNoInteractions(incrementalRankingUpdater);
+    }
+
+    @Test
+    @DisplayName("FULL 모드에서는 항상 전체 재산정을 수행한다")
+    void should_runBulkUpdate_when_fullModeConfigured() {
+        ReflectionTestUtils.setField(rankingRecalculationService, "mode", RankingRecalculationMode.FULL);
+        rankingRecalculationService.recalculateIfNeeded();
+        expireDebounce();
+
+        rankingRecalculationService.recordScoreChange(100, 200);
+        rankingRecalculationService.recalculateIfNeeded();
+
+        verify(userRepository, times(2)).bulkUpdateRanking();
+        verifyNoInteractions(incrementalRankingUpdater);
+    }
 
-        verify(rankingService).evictRankingCache();
+    private void expireDebounce() {
+        ReflectionTestUtils.setField(rankingRecalculationService, "lastRecalculationTime",
+                LocalDateTime.now().minusMinutes(10));
     }
 }
@@ -0,0 +1,190 @@
+package com.gitranker.api.domain.ranking;
+
+import com.gitranker.api.domain.user.Role;
+import com.gitranker.api.domain.user.Tier;
+import com.gitranker.api.domain.user.User;
+import com.gitranker.api.domain.user.UserRepository;
+import com.gitranker.api.domain.user.vo.Score;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@Import({RankingReadRepository.class, RankingSnapshotWriter.class})
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.batch.jdbc.initialize-schema=never"
+})
+class RankingSnapshotRepositoryIT {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("gitranker_test");
+
+    @Autowired
+    private RankingSnapshotRepository rankingSnapshotRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RankingReadRepository rankingReadRepository;
+
+    @Autowired
+    private RankingSnapshotVersionRepository rankingSnapshotVersionRepository;
+
+    @Autowired
+    private RankingSnapshotWriter rankingSnapshotWriter;
+
+    @BeforeEach
+    void setUp() {
+        rankingSnapshotRepository.deleteAll();
+        rankingSnapshotVersionRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private void createAndSaveUser(String username, Long githubId, int score) {
+        User user = User.builder()
+                .githubId(githubId)
+                .nodeId("node-" + username)
+                .username(username)
+                .githubCreatedAt(LocalDateTime.of(2020, 1, 1, 0, 0))
+                .role(Role.USER)
+                .build();
+        user.updateScore(Score.of(score));
+        userRepository.save(user);
+    }
+
+    private long saveVersion(boolean published) {
+        RankingSnapshotVersion version = RankingSnapshotVersion.create();
+        if (published) {
+            version.publish();
+        }
+
+        return rankingSnapshotVersionRepository.save(version).getId();
+    }
+
+    @Test
+    @DisplayName("users 테이블로부터 버전별 순위 스냅샷을 생성한다")
+    void should_insertRankedRows_when_snapshotCreated() {
+        createAndSaveUser("high", 1L, 3000);
+        createAndSaveUser("mid", 2L, 1500);
+        createAndSaveUser("low", 3L, 100);
+        userRepository.flush();
+
+        int inserted = rankingSnapshotRepository.insertFromUsers(7L);
+        Page<RankingSnapshot> page = rankingSnapshotRepository
+                .findBySnapshotVersionOrderByTotalScoreDescUserIdAsc(7L, PageRequest.of(0, 10));
+
+        assertThat(inserted).isEqualTo(3);
+        assertThat(page.getContent()).extracting(RankingSnapshot::getUsername).containsExactly("high", "mid", "low");
+        assertThat(page.getContent()).extracting(RankingSnapshot::getRanking).containsExactly(1, 2, 3);
+        assertThat(page.getContent()).extracting(RankingSnapshot::getTier)
+                .containsExactly(Tier.PLATINUM, Tier.GOLD, Tier.IRON);
+    }
+
+    @Test
+    @DisplayName("지정한 버전보다 오래된 공개 스냅샷만 삭제하고 미공개 스냅샷은 남긴다")
+    void should_deleteOnlyPublishedOlderVersions_when_cleanup() {
+        createAndSaveUser("user1", 1L, 1000);
+        userRepository.flush();
+        long published = saveVersion(true);
+        long staging = saveVersion(false);
+        long current = saveVersion(true);
+        rankingSnapshotRepository.insertFromUsers(published);
+        rankingSnapshotRepository.insertFromUsers(staging);
+        rankingSnapshotRepository.insertFromUsers(current);
+
+        int deleted = rankingSnapshotRepository.deletePublishedOlderThan(current);
+        rankingSnapshotVersionRepository.deletePublishedOlderThan(current);
+
+        Long userId = userRepository.findByUsername("user1").orElseThrow().getId();
+        assertThat(deleted).isEqualTo(1);
+        assertThat(rankingSnapshotRepository.findBySnapshotVersionAndUserId(published, userId)).isEmpty();
+        assertThat(rankingSnapshotRepository.findBySnapshotVersionAndUserId(staging, userId)).isPresent();
+        assertThat(rankingSnapshotVersionRepository.findById(staging)).isPresent();
+    }
+
+    @Test
+    @DisplayName("배치가 구간별로 반영하는 동안 다른 버전이 두 번 공개돼도 미공개 스냅샷은 삭제되지 않는다")
+    void should_keepStagingSnapshot_when_otherVersionsPublishedDuringChunkedApply() {
+        createAndSaveUser("user1", 1L, 1000);
+        userRepository.flush();
+        rankingSnapshotWriter.publish(rankingSnapshotWriter.createSnapshot());
+
+        long staging = rankingSnapshotWriter.createSnapshot();
+        rankingSnapshotWriter.publish(rankingSnapshotWriter.createSnapshot());
+        rankingSnapshotWriter.publish(rankingSnapshotWriter.createSnapshot());
+
+        Long userId = userRepository.findByUsername("user1").orElseThrow().getId();
+        assertThat(rankingSnapshotRepository.findBySnapshotVersionAndUserId(staging, userId)).isPresent();
+
+        rankingSnapshotWriter.publish(staging);
+
+        assertThat(rankingSnapshotVersionRepository.findById(staging).orElseThrow().isPublished()).isTrue();
+    }
+
+    @Test
+    @DisplayName("스냅샷 페이지와 커서 조회를 표시 컬럼만으로 매핑한다")
+    void should_mapDisplayColumns_when_readSnapshotProjection() {
+        createAndSaveUser("high", 1L, 3000);
+        createAndSaveUser("mid", 2L, 1500);
+        createAndSaveUser("low", 3L, 100);
+        userRepository.flush();
+        rankingSnapshotRepository.insertFromUsers(7L);
+
+        List<RankingReadRepository.RankedUser> firstPage = rankingReadRepository.findSnapshotPage(7L, null, 0, 2);
+        RankingReadRepository.RankedUser last = firstPage.get(1);
+        List<RankingReadRepository.RankedUser> nextPage = rankingReadRepository.findSnapshotAfter(
+                7L, null, last.userInfo().totalScore(), last.userId(), 2);
+
+        assertThat(firstPage).extracting(row -> row.userInfo().username()).containsExactly("high", "mid");
+        assertThat(firstPage.get(0).userInfo().ranking()).isEqualTo(1L);
+        assertThat(nextPage).extracting(row -> row.userInfo().username()).containsExactly("low");
+        assertThat(rankingReadRepository.countSnapshot(7L, Tier.GOLD)).isEqualTo(1L);
+        assertThat(rankingReadRepository.findSnapshotPage(7L, Tier.GOLD, 0, 10))
+                .extracting(row -> row.userInfo().tier()).containsExactly(Tier.GOLD);
+    }
+
+    @Test
+    @DisplayName("대상 사용자의 위아래 스냅샷 행을 가까운 순서로 조회한다")
+    void should_findNeighbors_when_seekAroundTarget() {
+        createAndSaveUser("first", 1L, 3000);
+        createAndSaveUser("second", 2L, 2500);
+        createAndSaveUser("target", 3L, 2000);
+        createAndSaveUser("fourth", 4L, 1500);
+        userRepository.flush();
+        rankingSnapshotRepository.insertFromUsers(7L);
+
+        RankingReadRepository.RankedUser target = rankingReadRepository
+                .findSnapshotUserByUsername(7L, "target").orElseThrow();
+        List<RankingReadRepository.RankedUser> above = rankingReadRepository
+                .findSnapshotBefore(7L, target.userInfo().totalScore(), target.userId(), 5);
+        List<RankingReadRepository.RankedUser> below = rankingReadRepository
+                .findSnapshotAfter(7L, null, target.userInfo().totalScore(), target.userId(), 5);
+
+        assertThat(target.userInfo().ranking()).isEqualTo(3L);
+        assertThat(above).extracting(row -> row.userInfo().username()).containsExactly("second", "first");
+        assertThat(below).extracting(row -> row.userInfo().username()).containsExactly("fourth");
+        assertThat(rankingReadRepository.findSnapshotUserByNodeId(7L, "node-target")).isPresent();
+    }
+}
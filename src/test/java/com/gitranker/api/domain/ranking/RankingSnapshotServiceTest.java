@@ -0,0 +1,91 @@
+package com.gitranker.api.domain.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RankingSnapshotServiceTest {
+
+    @InjectMocks
+    private RankingSnapshotService rankingSnapshotService;
+
+    @Mock private RankingSnapshotVersionRepository rankingSnapshotVersionRepository;
+    @Mock private RankingSnapshotRepository rankingSnapshotRepository;
+    @Mock private RankingCacheWarmer rankingCacheWarmer;
+    @Mock private RankingIndexService rankingIndexService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("공개된 스냅샷이 없으면 기동 시 스냅샷 없이 시작한다")
+    void should_startWithoutSnapshot_when_noPublishedSnapshotOnStartup() {
+        when(rankingSnapshotVersionRepository.findTopByPublishedAtIsNotNullOrderByIdDesc()).thenReturn(Optional.empty());
+
+        rankingSnapshotService.initialize();
+
+        assertThat(rankingSnapshotService.hasSnapshot()).isFalse();
+        verifyNoInteractions(rankingCacheWarmer);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 공개한 새 버전은 활성화 스레드에 넘기고 스케줄러 스레드에서 예열하지 않는다")
+    void should_activateOnActivationExecutor_when_pollerFindsNewVersion() {
+        List<Runnable> submitted = new ArrayList<>();
+        ReflectionTestUtils.setField(rankingSnapshotService, "activationExecutor", (Executor) submitted::add);
+        RankingSnapshotVersion version = mock(RankingSnapshotVersion.class);
+        when(version.getId()).thenReturn(3L);
+        when(rankingSnapshotVersionRepository.findTopByPublishedAtIsNotNullOrderByIdDesc()).thenReturn(Optional.of(version));
+
+        rankingSnapshotService.refreshCurrentVersion();
+
+        verifyNoInteractions(rankingCacheWarmer);
+        assertThat(submitted).hasSize(1);
+
+        submitted.get(0).run();
+
+        verify(rankingCacheWarmer).warm(3L);
+        assertThat(rankingSnapshotService.getCurrentVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("새 버전은 캐시 예열 후 전환하고 이전 버전 캐시를 정리한다")
+    void should_warmCacheBeforeSwitch_when_newVersionActivated() {
+        doAnswer(invocation -> {
+            assertThat(rankingSnapshotService.getCurrentVersion()).isEqualTo(RankingSnapshotService.NO_SNAPSHOT);
+            return null;
+        }).when(rankingCacheWarmer).warm(3L);
+
+        rankingSnapshotService.activate(3L);
+
+        assertThat(rankingSnapshotService.getCurrentVersion()).isEqualTo(3L);
+        InOrder inOrder = inOrder(rankingCacheWarmer, rankingIndexService, eventPublisher);
+        inOrder.verify(rankingCacheWarmer).warm(3L);
+        inOrder.verify(rankingIndexService).rebuild();
+        inOrder.verify(eventPublisher).publishEvent(new RankingSnapshotActivatingEvent(3L, RankingSnapshotService.NO_SNAPSHOT));
+        inOrder.verify(rankingCacheWarmer).evictOlderThan(3L);
+    }
+
+    @Test
+    @DisplayName("이전 버전으로는 되돌아가지 않는다")
+    void should_keepLatestVersion_when_olderVersionArrives() {
+        rankingSnapshotService.activate(5L);
+        rankingSnapshotService.activate(4L);
+
+        assertThat(rankingSnapshotService.getCurrentVersion()).isEqualTo(5L);
+        verify(rankingCacheWarmer, never()).warm(4L);
+    }
+}
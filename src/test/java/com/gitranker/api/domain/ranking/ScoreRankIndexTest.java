@@ -0,0 +1,73 @@
+package com.gitranker.api.domain.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreRankIndexTest {
+
+    @Test
+    @DisplayName("주어진 점수보다 높은 점수의 개수와 이상인 점수의 개수를 계산한다")
+    void should_countHigherScores_when_scoresAdded() {
+        ScoreRankIndex index = new ScoreRankIndex();
+        IntStream.of(100, 200, 200, 300, 0).forEach(index::add);
+
+        assertThat(index.size()).isEqualTo(5);
+        assertThat(index.countGreaterThan(200)).isEqualTo(1);
+        assertThat(index.countAtLeast(200)).isEqualTo(3);
+        assertThat(index.countGreaterThan(0)).isEqualTo(4);
+        assertThat(index.countAtLeast(0)).isEqualTo(5);
+        assertThat(index.countGreaterThan(300)).isZero();
+    }
+
+    @Test
+    @DisplayName("점수를 제거하면 집계에서 제외된다")
+    void should_excludeScore_when_removed() {
+        ScoreRankIndex index = new ScoreRankIndex();
+        index.add(500);
+        index.add(700);
+
+        index.remove(700);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.countGreaterThan(500)).isZero();
+    }
+
+    @Test
+    @DisplayName("초기 용량을 넘는 점수가 추가되어도 기존 집계를 유지한다")
+    void should_keepCounts_when_capacityGrows() {
+        ScoreRankIndex index = new ScoreRankIndex();
+        index.add(10);
+        index.add(4000);
+
+        index.add(1_000_000);
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.countGreaterThan(5)).isEqualTo(3);
+        assertThat(index.countGreaterThan(10)).isEqualTo(2);
+        assertThat(index.countGreaterThan(4000)).isEqualTo(1);
+        assertThat(index.countAtLeast(1_000_000)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무작위 점수에 대해 단순 집계와 동일한 결과를 반환한다")
+    void should_matchLinearScan_when_randomScoresAdded() {
+        Random random = new Random(42);
+        int[] scores = IntStream.range(0, 2_000).map(i -> random.nextInt(20_000)).toArray();
+        ScoreRankIndex index = new ScoreRankIndex();
+        IntStream.of(scores).forEach(index::add);
+
+        for (int probe = 0; probe < 20_000; probe += 137) {
+            int target = probe;
+            long expectedHigher = IntStream.of(scores).filter(s -> s > target).count();
+            long expectedAtLeast = IntStream.of(scores).filter(s -> s >= target).count();
+
+            assertThat(index.countGreaterThan(target)).isEqualTo(expectedHigher);
+            assertThat(index.countAtLeast(target)).isEqualTo(expectedAtLeast);
+        }
+    }
+}
@@ -22,9 +22,11 @@ import org.springframework.security.oauth2.client.registration.ClientRegistratio
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -111,14 +113,19 @@ class UserControllerTest {
         @DisplayName("본인 계정이면 200과 갱신된 정보를 반환한다")
         void should_return200_when_sameUser() throws Exception {
             User user = createTestUser("testuser");
-            when(userRefreshService.refresh("testuser")).thenReturn(createResponse("testuser"));
+            when(userRefreshService.refreshAsync("testuser"))
+                    .thenReturn(CompletableFuture.completedFuture(createResponse("testuser")));
 
-            mockMvc.perform(post("/api/v1/users/testuser/refresh")
+            MvcResult mvcResult = mockMvc.perform(post("/api/v1/users/testuser/refresh")
                             .with(authentication(createAuthentication(user))))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(mvcResult))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.result").value("SUCCESS"));
 
-            verify(userRefreshService).refresh("testuser");
+            verify(userRefreshService).refreshAsync("testuser");
         }
 
         @Test
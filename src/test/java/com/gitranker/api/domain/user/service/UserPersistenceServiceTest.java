@@ -1,6 +1,9 @@
 package com.gitranker.api.domain.user.service;
 
+import com.gitranker.api.domain.badge.BadgeCache;
 import com.gitranker.api.domain.log.ActivityLogOrchestrator;
+import com.gitranker.api.domain.ranking.RankingIndexService;
+import com.gitranker.api.domain.ranking.RankingIndexService.RankPosition;
 import com.gitranker.api.domain.ranking.RankingRecalculationService;
 import com.gitranker.api.domain.user.Role;
 import com.gitranker.api.domain.user.User;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -21,6 +25,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +37,8 @@ class UserPersistenceServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private ActivityLogOrchestrator activityLogOrchestrator;
     @Mock private RankingRecalculationService rankingRecalculationService;
+    @Mock private RankingIndexService rankingIndexService;
+    @Mock private BadgeCache badgeCache;
 
     private User createUser() {
         return User.builder()
@@ -50,15 +57,17 @@ class UserPersistenceServiceTest {
         ActivityStatistics totalStats = ActivityStatistics.of(50, 10, 5, 3, 8);
         ActivityStatistics baselineStats = ActivityStatistics.empty();
 
-        when(userRepository.countByScoreValueGreaterThan(anyInt())).thenReturn(0L);
-        when(userRepository.count()).thenReturn(0L);
+        when(rankingIndexService.positionOf(isNull(), anyInt())).thenReturn(new RankPosition(0L, 1L));
         when(userRepository.save(user)).thenReturn(user);
 
         User result = userPersistenceService.saveNewUser(user, totalStats, baselineStats);
 
         assertThat(result.getTotalScore()).isGreaterThan(0);
+        assertThat(result.getRanking()).isEqualTo(1);
         verify(userRepository).save(user);
+        verify(rankingIndexService).onScoreChanged(user.getId(), result.getTotalScore(), result.getTier());
         verify(activityLogOrchestrator).createLogsForNewUser(user, totalStats, baselineStats);
+        verify(rankingRecalculationService).shiftRanksForAddedUser(result.getTotalScore());
         verify(rankingRecalculationService).recalculateIfNeeded();
     }
 
@@ -82,15 +91,17 @@ class UserPersistenceServiceTest {
         ActivityStatistics baselineStats = ActivityStatistics.empty();
 
         when(userRepository.findById(any())).thenReturn(Optional.of(user));
-        when(userRepository.countByScoreValueGreaterThan(anyInt())).thenReturn(0L);
-        when(userRepository.count()).thenReturn(1L);
+        when(rankingIndexService.positionOf(any(), anyInt())).thenReturn(new RankPosition(0L, 1L));
 
         User result = userPersistenceService.updateUserStatisticsWithLog(
                 user.getId(), totalStats, baselineStats);
 
         assertThat(result.getTotalScore()).isGreaterThan(0);
+        verify(rankingIndexService).onScoreChanged(user.getId(), result.getTotalScore(), result.getTier());
         verify(activityLogOrchestrator).updateLogsForRefresh(user, totalStats, baselineStats);
+        verify(rankingRecalculationService).recordScoreChange(0, result.getTotalScore());
         verify(rankingRecalculationService).recalculateIfNeeded();
+        verify(badgeCache).evict("node1");
     }
 
     @Test
@@ -104,5 +115,22 @@ class UserPersistenceServiceTest {
         assertThat(result.getUsername()).isEqualTo("newname");
         assertThat(result.getEmail()).isEqualTo("new@email.com");
         verify(userRepository).save(user);
+        verify(badgeCache).evict("node1");
+    }
+
+    @Test
+    @DisplayName("배치 프로필 동기화는 다시 읽은 엔티티를 갱신하고 전달받은 엔티티는 바꾸지 않는다")
+    void should_updateReloadedUser_when_profileUpdatedInNewTransaction() {
+        User detached = createUser();
+        User managed = createUser();
+        ReflectionTestUtils.setField(detached, "id", 1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(managed));
+        when(userRepository.saveAndFlush(managed)).thenReturn(managed);
+
+        User result = userPersistenceService.updateProfileInNewTransaction(detached, "newname", "https://new.img", null);
+
+        assertThat(result.getUsername()).isEqualTo("newname");
+        assertThat(detached.getUsername()).isEqualTo("testuser");
+        verify(badgeCache).evict("node1");
     }
 }
@@ -7,27 +7,27 @@ import com.gitranker.api.domain.user.User;
 import com.gitranker.api.domain.user.UserRepository;
 import com.gitranker.api.domain.user.dto.RegisterUserResponse;
 import com.gitranker.api.domain.user.vo.ActivityStatistics;
+import com.gitranker.api.domain.user.vo.YearlyContributions;
 import com.gitranker.api.global.error.ErrorType;
 import com.gitranker.api.global.error.exception.BusinessException;
 import com.gitranker.api.global.metrics.BusinessMetrics;
-import com.gitranker.api.infrastructure.github.GitHubActivityService;
-import com.gitranker.api.infrastructure.github.GitHubDataMapper;
-import com.gitranker.api.infrastructure.github.dto.GitHubAllActivitiesResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -40,8 +40,7 @@ class UserRefreshServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private UserPersistenceService userPersistenceService;
     @Mock private ActivityLogService activityLogService;
-    @Mock private GitHubActivityService gitHubActivityService;
-    @Mock private GitHubDataMapper gitHubDataMapper;
+    @Mock private YearlyContributionService yearlyContributionService;
     @Mock private BaselineStatsCalculator baselineStatsCalculator;
     @Mock private BusinessMetrics businessMetrics;
 
@@ -65,7 +64,7 @@ class UserRefreshServiceTest {
     void should_throwUserNotFound_when_usernameDoesNotExist() {
         when(userRepository.findByUsername("unknown")).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> userRefreshService.refresh("unknown"))
+        assertThatThrownBy(() -> userRefreshService.refreshAsync("unknown"))
                 .isInstanceOf(BusinessException.class)
                 .satisfies(ex -> assertThat(((BusinessException) ex).getErrorType())
                         .isEqualTo(ErrorType.USER_NOT_FOUND));
@@ -78,32 +77,32 @@ class UserRefreshServiceTest {
         User user = createUserWithCooldownExpired();
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
 
-        assertThatThrownBy(() -> userRefreshService.refresh("testuser"))
+        assertThatThrownBy(() -> userRefreshService.refreshAsync("testuser"))
                 .isInstanceOf(BusinessException.class)
                 .satisfies(ex -> assertThat(((BusinessException) ex).getErrorType())
                         .isEqualTo(ErrorType.REFRESH_COOL_DOWN_EXCEEDED));
 
-        verify(gitHubActivityService, never()).fetchRawAllActivities(anyString(), any());
+        verify(yearlyContributionService, never()).collectAsync(any());
     }
 
     @Test
-    @DisplayName("새로고침 성공 시 GitHub API를 호출하고 응답을 반환한다")
+    @DisplayName("새로고침 성공 시 GitHub API를 비동기로 호출하고 응답을 반환한다")
     void should_fetchGitHubDataAndReturnResponse_when_cooldownPassed() {
         User user = mock(User.class);
         when(user.canTriggerFullScan()).thenReturn(true);
-        when(user.getGithubCreatedAt()).thenReturn(LocalDateTime.of(2020, 1, 1, 0, 0));
         when(user.getId()).thenReturn(1L);
         when(user.getTotalScore()).thenReturn(0);
 
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
 
-        GitHubAllActivitiesResponse rawResponse = mock(GitHubAllActivitiesResponse.class);
-        when(gitHubActivityService.fetchRawAllActivities(eq("testuser"), any())).thenReturn(rawResponse);
+        YearlyContributions contributions = new YearlyContributions(
+                Map.of(2025, ActivityStatistics.of(10, 2, 1, 0, 2), 2026, ActivityStatistics.of(40, 8, 4, 0, 6)),
+                3, Set.of(2026), LocalDateTime.now());
+        when(yearlyContributionService.collectAsync(user)).thenReturn(Mono.just(contributions));
 
         ActivityStatistics totalStats = ActivityStatistics.of(50, 10, 5, 3, 8);
         ActivityStatistics baselineStats = ActivityStatistics.of(10, 2, 1, 0, 2);
-        when(gitHubDataMapper.toActivityStatistics(rawResponse)).thenReturn(totalStats);
-        when(baselineStatsCalculator.calculate(user, rawResponse)).thenReturn(baselineStats);
+        when(baselineStatsCalculator.calculate(user, contributions)).thenReturn(baselineStats);
 
         User updatedUser = mock(User.class);
         when(updatedUser.getUsername()).thenReturn("testuser");
@@ -119,11 +118,12 @@ class UserRefreshServiceTest {
         ActivityLog activityLog = ActivityLog.empty(updatedUser, LocalDate.now());
         when(activityLogService.getLatestLog(updatedUser)).thenReturn(activityLog);
 
-        RegisterUserResponse response = userRefreshService.refresh("testuser");
+        RegisterUserResponse response = userRefreshService.refreshAsync("testuser").join();
 
         assertThat(response).isNotNull();
-        verify(gitHubActivityService).fetchRawAllActivities(eq("testuser"), any());
+        verify(yearlyContributionService).collectAsync(user);
         verify(userPersistenceService).updateUserStatisticsWithLog(eq(1L), eq(totalStats), eq(baselineStats));
+        verify(yearlyContributionService).store(updatedUser, contributions);
         verify(businessMetrics).incrementRefreshes();
     }
 }
@@ -7,11 +7,9 @@ import com.gitranker.api.domain.user.User;
 import com.gitranker.api.domain.user.UserRepository;
 import com.gitranker.api.domain.user.dto.RegisterUserResponse;
 import com.gitranker.api.domain.user.vo.ActivityStatistics;
+import com.gitranker.api.domain.user.vo.YearlyContributions;
 import com.gitranker.api.global.auth.OAuthAttributes;
 import com.gitranker.api.global.metrics.BusinessMetrics;
-import com.gitranker.api.infrastructure.github.GitHubActivityService;
-import com.gitranker.api.infrastructure.github.GitHubDataMapper;
-import com.gitranker.api.infrastructure.github.dto.GitHubAllActivitiesResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +21,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,8 +37,7 @@ class UserRegistrationServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private UserPersistenceService userPersistenceService;
     @Mock private ActivityLogService activityLogService;
-    @Mock private GitHubActivityService gitHubActivityService;
-    @Mock private GitHubDataMapper gitHubDataMapper;
+    @Mock private YearlyContributionService yearlyContributionService;
     @Mock private BaselineStatsCalculator baselineStatsCalculator;
     @Mock private BusinessMetrics businessMetrics;
 
@@ -61,13 +59,14 @@ class UserRegistrationServiceTest {
         OAuthAttributes attributes = createOAuthAttributes("newuser");
         when(userRepository.findByNodeId("MDQ6VXNlcjEyMzQ1")).thenReturn(Optional.empty());
 
-        GitHubAllActivitiesResponse rawResponse = mock(GitHubAllActivitiesResponse.class);
-        when(gitHubActivityService.fetchRawAllActivities(eq("newuser"), any())).thenReturn(rawResponse);
+        YearlyContributions contributions = new YearlyContributions(
+                Map.of(2025, ActivityStatistics.of(4, 1, 1, 0, 1), 2026, ActivityStatistics.of(6, 1, 0, 0, 2)),
+                0, Set.of(2025, 2026), LocalDateTime.now());
+        when(yearlyContributionService.collect(any(User.class))).thenReturn(contributions);
 
         ActivityStatistics totalStats = ActivityStatistics.of(10, 2, 1, 0, 3);
         ActivityStatistics baselineStats = ActivityStatistics.empty();
-        when(gitHubDataMapper.toActivityStatistics(rawResponse)).thenReturn(totalStats);
-        when(baselineStatsCalculator.calculate(any(User.class), eq(rawResponse))).thenReturn(baselineStats);
+        when(baselineStatsCalculator.calculate(any(User.class), eq(contributions))).thenReturn(baselineStats);
 
         User savedUser = User.builder()
                 .githubId(12345L)
@@ -88,8 +87,9 @@ class UserRegistrationServiceTest {
 
         assertThat(response).isNotNull();
         assertThat(response.isNewUser()).isTrue();
-        verify(gitHubActivityService).fetchRawAllActivities(eq("newuser"), any());
+        verify(yearlyContributionService).collect(any(User.class));
         verify(userPersistenceService).saveNewUser(any(User.class), eq(totalStats), eq(baselineStats));
+        verify(yearlyContributionService).store(savedUser, contributions);
         verify(businessMetrics).incrementRegistrations();
     }
 
@@ -116,7 +116,7 @@ class UserRegistrationServiceTest {
 
         assertThat(response).isNotNull();
         assertThat(response.isNewUser()).isFalse();
-        verify(gitHubActivityService, never()).fetchRawAllActivities(anyString(), any());
+        verify(yearlyContributionService, never()).collect(any());
         verify(businessMetrics, never()).incrementRegistrations();
     }
 
@@ -0,0 +1,144 @@
+package com.gitranker.api.domain.user.service;
+
+import com.gitranker.api.domain.user.User;
+import com.gitranker.api.domain.user.UserYearContribution;
+import com.gitranker.api.domain.user.UserYearContributionRepository;
+import com.gitranker.api.domain.user.vo.ActivityStatistics;
+import com.gitranker.api.domain.user.vo.YearlyContributions;
+import com.gitranker.api.infrastructure.github.GitHubActivityService;
+import com.gitranker.api.infrastructure.github.GitHubDataMapper;
+import com.gitranker.api.infrastructure.github.dto.GitHubAllActivitiesResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class YearlyContributionServiceTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Mock private UserYearContributionRepository yearContributionRepository;
+    @Mock private GitHubActivityService gitHubActivityService;
+    @Mock private GitHubDataMapper gitHubDataMapper;
+
+    private YearlyContributionService service;
+    private LocalDateTime now;
+    private int currentYear;
+
+    @BeforeEach
+    void setUp() {
+        service = new YearlyContributionService(yearContributionRepository, gitHubActivityService, gitHubDataMapper, ZONE);
+        now = LocalDateTime.now(ZONE);
+        currentYear = now.getYear();
+    }
+
+    private User createUser(Long id, int joinYear) {
+        User user = mock(User.class);
+        lenient().when(user.getId()).thenReturn(id);
+        when(user.getUsername()).thenReturn("testuser");
+        when(user.getGithubCreatedAt()).thenReturn(LocalDateTime.of(joinYear, 3, 1, 0, 0));
+        return user;
+    }
+
+    @Test
+    @DisplayName("저장된 지난 연도는 재사용하고 올해만 조회한다")
+    void should_fetchOnlyCurrentYear_when_pastYearsStored() {
+        User user = createUser(1L, currentYear - 2);
+        UserYearContribution twoYearsAgo = UserYearContribution.of(
+                user, currentYear - 2, ActivityStatistics.of(10, 1, 1, 0, 1), now);
+        UserYearContribution lastYear = UserYearContribution.of(
+                user, currentYear - 1, ActivityStatistics.of(20, 2, 2, 0, 2), now);
+        when(yearContributionRepository.findAllByUser(user)).thenReturn(List.of(twoYearsAgo, lastYear));
+
+        GitHubAllActivitiesResponse response = mock(GitHubAllActivitiesResponse.class);
+        when(response.getMergedPRCount()).thenReturn(4);
+        when(gitHubActivityService.fetchRawActivitiesForYearsAsync(eq("testuser"), any(), eq(List.of(currentYear))))
+                .thenReturn(Mono.just(response));
+        when(gitHubDataMapper.toYearlyStatistics(response))
+                .thenReturn(Map.of(currentYear, ActivityStatistics.of(5, 0, 1, 0, 0)));
+
+        YearlyContributions contributions = service.collect(user);
+
+        assertThat(contributions.fetchedYears()).containsExactly(currentYear);
+        assertThat(contributions.byYear()).hasSize(3);
+        assertThat(contributions.total()).isEqualTo(ActivityStatistics.of(35, 3, 4, 4, 3));
+    }
+
+    @Test
+    @DisplayName("아직 저장되지 않은 신규 사용자는 가입 연도부터 모두 조회한다")
+    void should_fetchAllYears_when_userNotPersisted() {
+        User user = createUser(null, currentYear - 1);
+
+        GitHubAllActivitiesResponse response = mock(GitHubAllActivitiesResponse.class);
+        when(gitHubActivityService.fetchRawActivitiesForYearsAsync(eq("testuser"), any(), anyList())).thenReturn(Mono.just(response));
+        when(gitHubDataMapper.toYearlyStatistics(response)).thenReturn(Map.of(
+                currentYear - 1, ActivityStatistics.of(1, 0, 0, 0, 0),
+                currentYear, ActivityStatistics.of(2, 0, 0, 0, 0)));
+
+        service.collect(user);
+
+        verify(gitHubActivityService).fetchRawActivitiesForYearsAsync(eq("testuser"), any(), eq(List.of(currentYear - 1, currentYear)));
+        verify(yearContributionRepository, never()).findAllByUser(any());
+    }
+
+    @Test
+    @DisplayName("그 해가 끝나기 전에 저장됐거나 재검증 주기가 지난 연도는 다시 조회한다")
+    void should_refetchPastYear_when_storedBeforeYearEndOrStale() {
+        User user = mock(User.class);
+        int lastYear = currentYear - 1;
+
+        UserYearContribution storedDuringYear = UserYearContribution.of(
+                user, lastYear, ActivityStatistics.empty(), LocalDateTime.of(lastYear, 12, 31, 23, 0));
+        UserYearContribution stale = UserYearContribution.of(
+                user, lastYear, ActivityStatistics.empty(), now.minusDays(31));
+        UserYearContribution fresh = UserYearContribution.of(
+                user, lastYear, ActivityStatistics.empty(), now);
+
+        assertThat(service.needsFetch(null, lastYear, now)).isTrue();
+        assertThat(service.needsFetch(fresh, currentYear, now)).isTrue();
+        assertThat(service.needsFetch(storedDuringYear, lastYear, now)).isTrue();
+        assertThat(service.needsFetch(stale, lastYear, now)).isTrue();
+        assertThat(service.needsFetch(fresh, lastYear, now)).isFalse();
+    }
+
+    @Test
+    @DisplayName("새로 조회한 연도만 저장하고 기존 행은 갱신한다")
+    @SuppressWarnings("unchecked")
+    void should_storeOnlyFetchedYears_when_storing() {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(1L);
+        UserYearContribution existing = UserYearContribution.of(
+                user, currentYear, ActivityStatistics.of(1, 0, 0, 0, 0), now.minusDays(1));
+        when(yearContributionRepository.findAllByUser(user)).thenReturn(List.of(existing));
+
+        YearlyContributions contributions = new YearlyContributions(
+                Map.of(currentYear - 1, ActivityStatistics.of(7, 0, 0, 0, 0),
+                        currentYear, ActivityStatistics.of(9, 0, 0, 0, 0)),
+                0, Set.of(currentYear), now);
+
+        service.store(user, contributions);
+
+        ArgumentCaptor<List<UserYearContribution>> captor = ArgumentCaptor.forClass(List.class);
+        verify(yearContributionRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).containsExactly(existing);
+        assertThat(existing.getCommitCount()).isEqualTo(9);
+        assertThat(existing.getFetchedAt()).isEqualTo(now);
+    }
+}
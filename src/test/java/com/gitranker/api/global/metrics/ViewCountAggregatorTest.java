@@ -0,0 +1,54 @@
+package com.gitranker.api.global.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountAggregatorTest {
+
+    @InjectMocks
+    private ViewCountAggregator viewCountAggregator;
+
+    @Mock private BusinessMetrics businessMetrics;
+
+    @Test
+    @DisplayName("조회는 메트릭을 요청마다 증가시키고 대상별 카운터는 하나로 모은다")
+    void should_aggregatePerTarget_when_viewsRecorded() {
+        viewCountAggregator.recordBadgeView("alice");
+        viewCountAggregator.recordBadgeView("alice");
+        viewCountAggregator.recordBadgeView("bob");
+        viewCountAggregator.recordProfileView("alice");
+
+        verify(businessMetrics, times(3)).incrementBadgeViews();
+        verify(businessMetrics).incrementProfileViews();
+        assertThat(viewCountAggregator.pendingTargets()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("flush 후 한 주기 동안 조회가 없던 대상은 제거된다")
+    void should_dropIdleTargets_when_flushedTwiceWithoutViews() {
+        viewCountAggregator.recordBadgeView("alice");
+        viewCountAggregator.recordBadgeView("bob");
+
+        viewCountAggregator.flush();
+        viewCountAggregator.recordBadgeView("alice");
+
+        assertThat(viewCountAggregator.pendingTargets()).isEqualTo(2);
+
+        viewCountAggregator.flush();
+
+        assertThat(viewCountAggregator.pendingTargets()).isEqualTo(1);
+
+        viewCountAggregator.flush();
+
+        assertThat(viewCountAggregator.pendingTargets()).isZero();
+    }
+}
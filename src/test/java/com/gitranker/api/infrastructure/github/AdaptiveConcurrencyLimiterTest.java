@@ -0,0 +1,135 @@
+package com.gitranker.api.infrastructure.github;
+
+import com.gitranker.api.global.error.exception.GitHubRateLimitException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AdaptiveConcurrencyLimiterTest {
+
+    @Mock
+    private GitHubApiMetrics apiMetrics;
+
+    private AdaptiveConcurrencyLimiter createLimiter(int initialLimit, int maxLimit) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, maxLimit, 5000, 1000, apiMetrics);
+    }
+
+    @Test
+    @DisplayName("생성 시 메트릭에 제한기를 등록한다")
+    void should_bindMetrics_when_created() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(5, 16);
+
+        verify(apiMetrics).bindConcurrencyLimiter(limiter);
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 호출은 대기하다가 앞선 호출이 끝나면 실행된다")
+    void should_queueCalls_when_limitReached() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(1, 1);
+        Sinks.One<String> first = Sinks.one();
+        Sinks.One<String> second = Sinks.one();
+        List<String> results = new ArrayList<>();
+
+        limiter.limit(first.asMono()).subscribe(results::add);
+        limiter.limit(second.asMono()).subscribe(results::add);
+
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getQueueDepth()).isEqualTo(1);
+
+        first.tryEmitValue("first");
+
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getQueueDepth()).isZero();
+
+        second.tryEmitValue("second");
+
+        assertThat(results).containsExactly("first", "second");
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("빠른 응답이 이어지면 한도를 최대값까지 늘린다")
+    void should_increaseLimit_when_callsSucceedQuickly() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(2, 4);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.limit(Mono.just(i)).block();
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("레이트 리밋 오류가 나면 한도를 절반으로 줄인다")
+    void should_halveLimit_when_rateLimited() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(8, 16);
+
+        limiter.limit(Mono.error(new GitHubRateLimitException(LocalDateTime.now()))).onErrorComplete().block();
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("남은 호출량이 적으면 한도를 줄이고 이후 빠른 응답에도 늘리지 않는다")
+    void should_notIncreaseLimit_when_budgetLow() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(8, 16);
+
+        limiter.onRateLimit(500);
+        int reduced = limiter.getLimit();
+        for (int i = 0; i < 20; i++) {
+            limiter.limit(Mono.just(i)).block();
+        }
+
+        assertThat(reduced).isEqualTo(6);
+        assertThat(limiter.getLimit()).isEqualTo(reduced);
+    }
+
+    @Test
+    @DisplayName("RTT 안의 예산 신호와 감소 전에 보낸 호출의 오류로는 한 번만 줄인다")
+    void should_decreaseOnce_when_signalsRepeatWithinRtt() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(8, 16);
+        Sinks.One<String> inFlight = Sinks.one();
+        limiter.limit(inFlight.asMono()).onErrorComplete().subscribe();
+
+        limiter.onRateLimit(500);
+        limiter.onRateLimit(400);
+        inFlight.tryEmitError(new GitHubRateLimitException(LocalDateTime.now()));
+
+        assertThat(limiter.getLimit()).isEqualTo(6);
+
+        limiter.limit(Mono.error(new GitHubRateLimitException(LocalDateTime.now()))).onErrorComplete().block();
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("대기 중인 호출이 취소되면 대기열에서 빠진다")
+    void should_removeWaiter_when_cancelledWhileQueued() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(1, 1);
+        Sinks.One<String> first = Sinks.one();
+
+        limiter.limit(first.asMono()).subscribe();
+        Disposable queued = limiter.limit(Mono.just("second")).subscribe();
+        queued.dispose();
+
+        assertThat(limiter.getQueueDepth()).isZero();
+
+        first.tryEmitValue("first");
+
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
@@ -0,0 +1,50 @@
+package com.gitranker.api.infrastructure.github.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GitHubMultiUserActivitiesResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("별칭별 응답을 사용자별 요약으로 나누고, 오류가 난 별칭의 사용자만 제외한다")
+    void should_splitPerUser_when_oneAliasFailed() throws Exception {
+        String json = """
+                {
+                  "data": {
+                    "rateLimit": {"limit": 5000, "cost": 3, "remaining": 4990, "resetAt": "2026-01-01T00:00:00"},
+                    "u0": {"contributionsCollection": {
+                      "totalCommitContributions": 10, "totalIssueContributions": 2,
+                      "totalPullRequestContributions": 3, "totalPullRequestReviewContributions": 4}},
+                    "m0": {"issueCount": 5},
+                    "u1": null,
+                    "m1": {"issueCount": 0},
+                    "u2": {"contributionsCollection": {
+                      "totalCommitContributions": 1, "totalIssueContributions": 0,
+                      "totalPullRequestContributions": 0, "totalPullRequestReviewContributions": 0}},
+                    "m2": null
+                  },
+                  "errors": [
+                    {"type": "NOT_FOUND", "path": ["u1"], "message": "Could not resolve to a User with the login of 'ghost'."},
+                    {"type": "SERVICE_UNAVAILABLE", "path": ["m2"], "message": "timeout"}
+                  ]
+                }
+                """;
+
+        GitHubMultiUserActivitiesResponse response = objectMapper.readValue(json, GitHubMultiUserActivitiesResponse.class);
+        Map<String, GitHubActivitySummary> summaries = response.toSummaries(List.of("alice", "ghost", "bob"));
+
+        assertThat(response.hasErrors()).isTrue();
+        assertThat(response.data().rateLimit().cost()).isEqualTo(3);
+        assertThat(summaries).containsOnlyKeys("alice");
+        assertThat(summaries.get("alice")).isEqualTo(new GitHubActivitySummary(10, 3, 5, 2, 4));
+    }
+}
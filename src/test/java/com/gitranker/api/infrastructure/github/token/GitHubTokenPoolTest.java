@@ -94,4 +94,48 @@ class GitHubTokenPoolTest {
         // 다음 호출도 token2부터 시작 (token2가 아직 사용 가능하므로 token2 반환)
         assertThat(pool.getToken()).isEqualTo("ghp_token2");
     }
+
+    @Test
+    @DisplayName("초기화까지 초당 쓸 수 있는 호출량이 더 큰 토큰을 고른다")
+    void should_preferToken_when_budgetPerSecondIsHigher() {
+        GitHubTokenPool pool = createPool("ghp_token1, ghp_token2");
+
+        // token1: 3000회 / 1시간, token2: 1000회 / 5분 → token2가 초당 여유가 더 큼
+        pool.updateTokenState("ghp_token1", 3000, LocalDateTime.now(ZONE).plusHours(1));
+        pool.updateTokenState("ghp_token2", 1000, LocalDateTime.now(ZONE).plusMinutes(5));
+
+        assertThat(pool.getToken()).isEqualTo("ghp_token2");
+    }
+
+    @Test
+    @DisplayName("같은 초기화 구간의 늦게 도착한 응답은 remaining을 다시 늘리지 않는다")
+    void should_keepLowerRemaining_when_staleUpdateArrivesLater() {
+        GitHubTokenPool pool = createPool("ghp_token1, ghp_token2");
+        LocalDateTime resetAt = LocalDateTime.now(ZONE).plusHours(1);
+
+        pool.updateTokenState("ghp_token1", 5, resetAt);
+        pool.updateTokenState("ghp_token1", 100, resetAt);
+
+        assertThat(pool.getToken()).isEqualTo("ghp_token2");
+    }
+
+    @Test
+    @DisplayName("전체 남은 호출량은 모든 토큰의 합이다")
+    void should_sumRemaining_when_totalRequested() {
+        GitHubTokenPool pool = createPool("ghp_token1, ghp_token2");
+
+        pool.updateTokenState("ghp_token1", 5, LocalDateTime.now(ZONE).plusHours(1));
+
+        assertThat(pool.getTotalRemaining()).isEqualTo(5 + TokenState.DEFAULT_LIMIT);
+    }
+
+    @Test
+    @DisplayName("설정에 없는 토큰의 상태 갱신은 무시한다")
+    void should_ignoreUpdate_when_tokenUnknown() {
+        GitHubTokenPool pool = createPool("ghp_token1");
+
+        pool.updateTokenState("ghp_unknown", 0, LocalDateTime.now(ZONE).plusHours(1));
+
+        assertThat(pool.getToken()).isEqualTo("ghp_token1");
+    }
 }
@@ -0,0 +1,56 @@
+package com.gitranker.api.infrastructure.github.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphQLQueryBuilderTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final GraphQLQueryBuilder queryBuilder = new GraphQLQueryBuilder(ZONE);
+
+    private static int occurrences(String query, String token) {
+        return query.split(Pattern.quote(token), -1).length - 1;
+    }
+
+    @Test
+    @DisplayName("여러 사용자 배치 쿼리는 i번째 사용자를 u<i>, m<i> 별칭으로 묶고 같은 기간으로 조회한다")
+    void should_aliasEachUser_when_buildingMultiUserBatchQuery() {
+        List<String> usernames = List.of("alice", "bob", "carol");
+
+        String query = queryBuilder.buildMultiUserBatchQuery(usernames, 2024);
+
+        for (int i = 0; i < usernames.size(); i++) {
+            String username = usernames.get(i);
+            assertThat(query).contains(GraphQLQueryBuilder.userAlias(i) + ": user(login: \"" + username + "\")");
+            assertThat(query).contains(GraphQLQueryBuilder.mergedPRsAlias(i)
+                    + ": search(query: \"author:" + username + " type:pr is:merged\", type: ISSUE, first: 1)");
+        }
+        assertThat(query).doesNotContain("u3:", "m3:");
+        assertThat(occurrences(query,
+                "contributionsCollection(from: \"2024-01-01T00:00:00+09:00\", to: \"2024-12-31T23:59:59+09:00\")"))
+                .isEqualTo(3);
+        assertThat(occurrences(query, "issueCount")).isEqualTo(3);
+        assertThat(occurrences(query, "rateLimit")).isEqualTo(1);
+        assertThat(occurrences(query, "{")).isEqualTo(occurrences(query, "}"));
+    }
+
+    @Test
+    @DisplayName("올해를 조회하면 1월 1일부터 현재 시각까지로 범위를 잡는다")
+    void should_rangeFromNewYear_when_currentYear() {
+        int currentYear = LocalDate.now(ZONE).getYear();
+
+        String query = queryBuilder.buildMultiUserBatchQuery(List.of("alice", "bob"), currentYear);
+
+        assertThat(occurrences(query, "contributionsCollection(from: \"" + currentYear + "-01-01T00:00:00+09:00\", to: \""))
+                .isEqualTo(2);
+        assertThat(query).doesNotContain(currentYear + "-12-31T23:59:59");
+    }
+}